@@ -0,0 +1,146 @@
+package com.lugowoy.helper.benchmarks.filling;
+
+import com.lugowoy.helper.filling.array.numbers.FillingArrayRandomDoubles;
+import com.lugowoy.helper.filling.array.numbers.FillingArrayRandomIntegers;
+import com.lugowoy.helper.filling.array.numbers.primitives.FillingArrayRandomPrimitiveDoubles;
+import com.lugowoy.helper.filling.array.numbers.primitives.FillingArrayRandomPrimitiveIntegers;
+import com.lugowoy.helper.filling.array.points.FillingArrayPoints2DRandomDoubles;
+import com.lugowoy.helper.filling.array.points.FillingArrayPoints2DRandomIntegers;
+import com.lugowoy.helper.filling.array.strings.FillingArrayRandomStrings;
+import com.lugowoy.helper.models.points.Point2D;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The JMH benchmark of the filling of arrays with random values by every
+ * {@code FillingArrayRandom*} and {@code FillingArrayPoints2DRandom*}
+ * implementation.
+ * <p>
+ * Created by Konstantin Lugowoy on 18.10.2026.
+ *
+ * @author Konstantin Lugowoy
+ * @version 1.1
+ * @since 3.2
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class FillingArrayRandomBenchmark {
+
+    private static final String CHARACTERS_RESOURCE =
+            "/characters/english.txt";
+
+    /*
+     * The lower bound is not zero, because the fillings with doubles accept
+     * bounds only from Double.MIN_VALUE.
+     */
+    private static final int LOWER_BOUND = 1;
+    private static final int UPPER_BOUND = 100;
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    private int length;
+
+    private byte[] characters;
+
+    private final FillingArrayRandomIntegers fillingIntegers =
+            new FillingArrayRandomIntegers();
+    private final FillingArrayRandomDoubles fillingDoubles =
+            new FillingArrayRandomDoubles();
+    private final FillingArrayRandomPrimitiveIntegers fillingPrimitiveIntegers =
+            new FillingArrayRandomPrimitiveIntegers();
+    private final FillingArrayRandomPrimitiveDoubles fillingPrimitiveDoubles =
+            new FillingArrayRandomPrimitiveDoubles();
+    private final FillingArrayPoints2DRandomIntegers fillingPointsIntegers =
+            new FillingArrayPoints2DRandomIntegers();
+    private final FillingArrayPoints2DRandomDoubles fillingPointsDoubles =
+            new FillingArrayPoints2DRandomDoubles();
+
+    @Setup(Level.Trial)
+    public void setUpTrial() throws IOException {
+        try (InputStream inputStream = Objects.requireNonNull(
+                FillingArrayRandomBenchmark.class.getResourceAsStream(
+                        CHARACTERS_RESOURCE), "Characters are not found.")) {
+            this.characters = inputStream.readAllBytes();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /*
+     * The filling of strings reads the characters from the stream on every
+     * call, so each invocation of its benchmark needs a fresh stream.
+     */
+    @State(Scope.Thread)
+    public static class StringsState {
+
+        private FillingArrayRandomStrings filling;
+
+        @Setup(Level.Invocation)
+        public void setUp(final FillingArrayRandomBenchmark benchmark) {
+            this.filling = new FillingArrayRandomStrings(
+                    new ByteArrayInputStream(benchmark.characters));
+        }
+
+    }
+
+    @Benchmark
+    public Integer[] integers() {
+        return this.fillingIntegers.fill(this.length, LOWER_BOUND, UPPER_BOUND);
+    }
+
+    @Benchmark
+    public Double[] doubles() {
+        return this.fillingDoubles.fill(this.length, (double) LOWER_BOUND,
+                                        (double) UPPER_BOUND);
+    }
+
+    @Benchmark
+    public int[] primitiveIntegers() {
+        return this.fillingPrimitiveIntegers.fill(this.length, LOWER_BOUND,
+                                                  UPPER_BOUND);
+    }
+
+    @Benchmark
+    public double[] primitiveDoubles() {
+        return this.fillingPrimitiveDoubles.fill(this.length, LOWER_BOUND,
+                                                 UPPER_BOUND);
+    }
+
+    @Benchmark
+    public String[] strings(final StringsState state) {
+        return state.filling.fill(this.length);
+    }
+
+    @Benchmark
+    public Point2D<Integer>[] points2DIntegers() {
+        return this.fillingPointsIntegers.fill(this.length, LOWER_BOUND,
+                                               UPPER_BOUND);
+    }
+
+    @Benchmark
+    public Point2D<Double>[] points2DDoubles() {
+        return this.fillingPointsDoubles.fill(this.length, (double) LOWER_BOUND,
+                                              (double) UPPER_BOUND);
+    }
+
+}
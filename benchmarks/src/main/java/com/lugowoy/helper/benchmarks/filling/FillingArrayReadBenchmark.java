@@ -0,0 +1,129 @@
+package com.lugowoy.helper.benchmarks.filling;
+
+import com.lugowoy.helper.filling.array.numbers.FillingArrayReadDoubles;
+import com.lugowoy.helper.filling.array.numbers.FillingArrayReadIntegers;
+import com.lugowoy.helper.filling.array.numbers.primitives.FillingArrayReadPrimitiveDoubles;
+import com.lugowoy.helper.filling.array.numbers.primitives.FillingArrayReadPrimitiveIntegers;
+import com.lugowoy.helper.filling.array.points.FillingArrayPoints2DReadDoubles;
+import com.lugowoy.helper.filling.array.points.FillingArrayPoints2DReadIntegers;
+import com.lugowoy.helper.filling.array.strings.FillingArrayReadStrings;
+import com.lugowoy.helper.models.points.Point2D;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.StringReader;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The JMH benchmark of the filling of arrays with values read from text by
+ * every {@code FillingArrayRead*} and {@code FillingArrayPoints2DRead*}
+ * implementation. The text is generated once per trial, and each invocation
+ * reads it through a new {@link StringReader}.
+ * <p>
+ * Created by Konstantin Lugowoy on 18.10.2026.
+ *
+ * @author Konstantin Lugowoy
+ * @version 1.0
+ * @since 3.2
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class FillingArrayReadBenchmark {
+
+    private static final long SEED = 42L;
+    /*
+     * The lower bound is not zero, because the fillings with doubles accept
+     * bounds only from Double.MIN_VALUE.
+     */
+    private static final int LOWER_BOUND = 1;
+    private static final int UPPER_BOUND = 100;
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    private int length;
+
+    private String numbers;
+    private String coordinates;
+    private String lines;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        SplittableRandom random = new SplittableRandom(SEED);
+        this.numbers = generateText(random, this.length, ' ');
+        this.coordinates = generateText(random, this.length << 1, ' ');
+        this.lines = generateText(random, this.length, '\n');
+    }
+
+    @Benchmark
+    public Integer[] integers() {
+        return new FillingArrayReadIntegers(new StringReader(this.numbers))
+                .fill(this.length, LOWER_BOUND, UPPER_BOUND);
+    }
+
+    @Benchmark
+    public Double[] doubles() {
+        return new FillingArrayReadDoubles(new StringReader(this.numbers))
+                .fill(this.length, (double) LOWER_BOUND, (double) UPPER_BOUND);
+    }
+
+    @Benchmark
+    public int[] primitiveIntegers() {
+        return new FillingArrayReadPrimitiveIntegers(
+                new StringReader(this.numbers)).fill(this.length, LOWER_BOUND,
+                                                     UPPER_BOUND);
+    }
+
+    @Benchmark
+    public double[] primitiveDoubles() {
+        return new FillingArrayReadPrimitiveDoubles(
+                new StringReader(this.numbers)).fill(this.length, LOWER_BOUND,
+                                                     UPPER_BOUND);
+    }
+
+    @Benchmark
+    public String[] strings() {
+        return new FillingArrayReadStrings(new StringReader(this.lines))
+                .fill(this.length);
+    }
+
+    @Benchmark
+    public Point2D<Integer>[] points2DIntegers() {
+        return new FillingArrayPoints2DReadIntegers(
+                new StringReader(this.coordinates)).fill(this.length,
+                                                         LOWER_BOUND,
+                                                         UPPER_BOUND);
+    }
+
+    @Benchmark
+    public Point2D<Double>[] points2DDoubles() {
+        return new FillingArrayPoints2DReadDoubles(
+                new StringReader(this.coordinates)).fill(this.length,
+                                                         (double) LOWER_BOUND,
+                                                         (double) UPPER_BOUND);
+    }
+
+    static String generateText(final SplittableRandom random, final int count,
+                               final char separator) {
+        StringBuilder sb = new StringBuilder(count << 2);
+        for (int i = 0; i < count; i++) {
+            sb.append(random.nextInt(LOWER_BOUND, UPPER_BOUND + 1))
+              .append(separator);
+        }
+        return sb.toString();
+    }
+
+}
@@ -0,0 +1,128 @@
+package com.lugowoy.helper.benchmarks.filling;
+
+import com.lugowoy.helper.filling.matrix.numbers.FillingMatrixRandomDoubles;
+import com.lugowoy.helper.filling.matrix.numbers.FillingMatrixRandomIntegers;
+import com.lugowoy.helper.filling.matrix.numbers.FillingMatrixReadDoubles;
+import com.lugowoy.helper.filling.matrix.numbers.FillingMatrixReadIntegers;
+import com.lugowoy.helper.filling.matrix.numbers.primitives.FillingMatrixRandomPrimitiveDoubles;
+import com.lugowoy.helper.filling.matrix.numbers.primitives.FillingMatrixRandomPrimitiveIntegers;
+import com.lugowoy.helper.filling.matrix.numbers.primitives.FillingMatrixReadPrimitiveDoubles;
+import com.lugowoy.helper.filling.matrix.numbers.primitives.FillingMatrixReadPrimitiveIntegers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.StringReader;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The JMH benchmark of the filling of matrices by every
+ * {@code FillingMatrixRandom*} and {@code FillingMatrixRead*}
+ * implementation. The matrices are square, the {@code side} values give from
+ * {@literal 10^3} to {@literal 10^7} elements.
+ * <p>
+ * Created by Konstantin Lugowoy on 18.10.2026.
+ *
+ * @author Konstantin Lugowoy
+ * @version 1.0
+ * @since 3.2
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class FillingMatrixBenchmark {
+
+    private static final long SEED = 42L;
+    /*
+     * The lower bound is not zero, because the fillings with doubles accept
+     * bounds only from Double.MIN_VALUE.
+     */
+    private static final int LOWER_BOUND = 1;
+    private static final int UPPER_BOUND = 100;
+
+    @Param({"32", "100", "317", "1000", "3163"})
+    private int side;
+
+    private String numbers;
+
+    private final FillingMatrixRandomIntegers fillingIntegers =
+            new FillingMatrixRandomIntegers();
+    private final FillingMatrixRandomDoubles fillingDoubles =
+            new FillingMatrixRandomDoubles();
+    private final FillingMatrixRandomPrimitiveIntegers
+            fillingPrimitiveIntegers = new FillingMatrixRandomPrimitiveIntegers();
+    private final FillingMatrixRandomPrimitiveDoubles fillingPrimitiveDoubles =
+            new FillingMatrixRandomPrimitiveDoubles();
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        this.numbers = FillingArrayReadBenchmark.generateText(
+                new SplittableRandom(SEED), this.side * this.side, ' ');
+    }
+
+    @Benchmark
+    public Integer[][] randomIntegers() {
+        return this.fillingIntegers.fill(this.side, this.side, LOWER_BOUND,
+                                         UPPER_BOUND);
+    }
+
+    @Benchmark
+    public Double[][] randomDoubles() {
+        return this.fillingDoubles.fill(this.side, this.side,
+                                        (double) LOWER_BOUND,
+                                        (double) UPPER_BOUND);
+    }
+
+    @Benchmark
+    public int[][] randomPrimitiveIntegers() {
+        return this.fillingPrimitiveIntegers.fill(this.side, this.side,
+                                                  LOWER_BOUND, UPPER_BOUND);
+    }
+
+    @Benchmark
+    public double[][] randomPrimitiveDoubles() {
+        return this.fillingPrimitiveDoubles.fill(this.side, this.side,
+                                                 LOWER_BOUND, UPPER_BOUND);
+    }
+
+    @Benchmark
+    public Integer[][] readIntegers() {
+        return new FillingMatrixReadIntegers(new StringReader(this.numbers))
+                .fill(this.side, this.side, LOWER_BOUND, UPPER_BOUND);
+    }
+
+    @Benchmark
+    public Double[][] readDoubles() {
+        return new FillingMatrixReadDoubles(new StringReader(this.numbers))
+                .fill(this.side, this.side, (double) LOWER_BOUND,
+                      (double) UPPER_BOUND);
+    }
+
+    @Benchmark
+    public int[][] readPrimitiveIntegers() {
+        return new FillingMatrixReadPrimitiveIntegers(
+                new StringReader(this.numbers)).fill(this.side, this.side,
+                                                     LOWER_BOUND, UPPER_BOUND);
+    }
+
+    @Benchmark
+    public double[][] readPrimitiveDoubles() {
+        return new FillingMatrixReadPrimitiveDoubles(
+                new StringReader(this.numbers)).fill(this.side, this.side,
+                                                     LOWER_BOUND, UPPER_BOUND);
+    }
+
+}
@@ -0,0 +1,108 @@
+package com.lugowoy.helper.benchmarks.models.arrays;
+
+import com.lugowoy.helper.models.arrays.Array;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Comparator;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The JMH benchmark of the main operations of the {@link Array} class:
+ * appending, indexed access, removing by index, searching and sorting.
+ * <p>
+ * Created by Konstantin Lugowoy on 18.10.2026.
+ *
+ * @author Konstantin Lugowoy
+ * @version 1.1
+ * @since 3.2
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ArrayBenchmark {
+
+    private static final long SEED = 42L;
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    private int size;
+
+    private Integer[] values;
+    private Array<Integer> array;
+    private Integer lastValue;
+
+    /*
+     * The copy of the array for the benchmarks which modify it. It is made
+     * before every invocation of these benchmarks only.
+     */
+    @State(Scope.Thread)
+    public static class ModifyState {
+
+        private Array<Integer> array;
+
+        @Setup(Level.Invocation)
+        public void setUp(final ArrayBenchmark benchmark) {
+            this.array = new Array<>(benchmark.array);
+        }
+
+    }
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        SplittableRandom random = new SplittableRandom(SEED);
+        this.values = new Integer[this.size];
+        for (int i = 0; i < this.size; i++) {
+            this.values[i] = random.nextInt();
+        }
+        this.array = new Array<>(this.values);
+        this.lastValue = this.values[this.size - 1];
+    }
+
+    @Benchmark
+    public Array<Integer> add() {
+        Array<Integer> result = new Array<>();
+        for (Integer value : this.values) {
+            result.add(value);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public void get(final Blackhole blackhole) {
+        for (int i = 0; i < this.size; i++) {
+            blackhole.consume(this.array.get(i));
+        }
+    }
+
+    @Benchmark
+    public Integer removeFromMiddle(final ModifyState state) {
+        return state.array.remove(this.size >> 1);
+    }
+
+    @Benchmark
+    public int indexOfLast() {
+        return this.array.indexOf(this.lastValue);
+    }
+
+    @Benchmark
+    public Array<Integer> sort(final ModifyState state) {
+        state.array.sort(Comparator.naturalOrder());
+        return state.array;
+    }
+
+}
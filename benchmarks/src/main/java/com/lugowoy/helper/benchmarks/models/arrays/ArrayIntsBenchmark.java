@@ -0,0 +1,112 @@
+package com.lugowoy.helper.benchmarks.models.arrays;
+
+import com.lugowoy.helper.models.arrays.ArrayInts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The JMH benchmark of appending and bulk operations of the {@link ArrayInts}
+ * class.
+ * <p>
+ * The {@code removeAll} benchmark has its own, smaller set of sizes, because
+ * removing every occurrence of the values has quadratic cost in the current
+ * implementation.
+ * <p>
+ * Created by Konstantin Lugowoy on 18.10.2026.
+ *
+ * @author Konstantin Lugowoy
+ * @version 1.1
+ * @since 3.2
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArrayIntsBenchmark {
+
+    private static final long SEED = 42L;
+    private static final int BOUND_VALUES = 1000;
+    private static final int[] VALUES_TO_REMOVE = {1, 17, 256, 999};
+
+    @State(Scope.Thread)
+    public static class AppendState {
+
+        @Param({"1000", "10000", "100000", "1000000", "10000000"})
+        private int size;
+
+        private int[] values;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            this.values = randomInts(this.size);
+        }
+
+    }
+
+    /*
+     * The copy of the array for the removeAll benchmark. It is made before
+     * every invocation of this benchmark only, the appending benchmarks do
+     * not use this state.
+     */
+    @State(Scope.Thread)
+    public static class RemoveState {
+
+        @Param({"1000", "10000", "100000"})
+        private int size;
+
+        private ArrayInts array;
+        private ArrayInts arrayToModify;
+
+        @Setup(Level.Trial)
+        public void setUpTrial() {
+            this.array = new ArrayInts(randomInts(this.size));
+        }
+
+        @Setup(Level.Invocation)
+        public void setUpInvocation() {
+            this.arrayToModify = new ArrayInts(this.array);
+        }
+
+    }
+
+    @Benchmark
+    public ArrayInts add(final AppendState state) {
+        ArrayInts result = new ArrayInts();
+        for (int value : state.values) {
+            result.add(value);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public ArrayInts addAll(final AppendState state) {
+        ArrayInts result = new ArrayInts();
+        result.addAll(state.values);
+        return result;
+    }
+
+    @Benchmark
+    public boolean removeAll(final RemoveState state) {
+        return state.arrayToModify.removeAll(VALUES_TO_REMOVE);
+    }
+
+    private static int[] randomInts(final int size) {
+        return new SplittableRandom(SEED).ints(size, 0, BOUND_VALUES)
+                                         .toArray();
+    }
+
+}
@@ -0,0 +1,107 @@
+package com.lugowoy.helper.benchmarks.models.matrices;
+
+import com.lugowoy.helper.models.matrices.MatrixDoubles;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The JMH benchmark of the row and column access of the {@link MatrixDoubles}
+ * class. The matrices are square, the {@code side} values give from
+ * {@literal 10^3} to {@literal 10^7} elements.
+ * <p>
+ * Created by Konstantin Lugowoy on 18.10.2026.
+ *
+ * @author Konstantin Lugowoy
+ * @version 1.1
+ * @since 3.2
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MatrixDoublesBenchmark {
+
+    private static final long SEED = 42L;
+
+    @Param({"32", "100", "317", "1000", "3163"})
+    private int side;
+
+    private double[][] values;
+    private MatrixDoubles matrix;
+
+    /*
+     * The copy of the matrix for the benchmarks which modify it. It is made
+     * before every invocation of these benchmarks only.
+     */
+    @State(Scope.Thread)
+    public static class ModifyState {
+
+        private MatrixDoubles matrix;
+
+        @Setup(Level.Invocation)
+        public void setUp(final MatrixDoublesBenchmark benchmark) {
+            this.matrix = new MatrixDoubles(benchmark.values);
+        }
+
+    }
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        SplittableRandom random = new SplittableRandom(SEED);
+        this.values = new double[this.side][this.side];
+        for (double[] row : this.values) {
+            for (int j = 0; j < row.length; j++) {
+                row[j] = random.nextDouble();
+            }
+        }
+        this.matrix = new MatrixDoubles(this.values);
+    }
+
+    @Benchmark
+    public void getRowToArray(final Blackhole blackhole) {
+        for (int i = 0; i < this.side; i++) {
+            blackhole.consume(this.matrix.getRowToArray(i));
+        }
+    }
+
+    @Benchmark
+    public void getColumnToArray(final Blackhole blackhole) {
+        for (int i = 0; i < this.side; i++) {
+            blackhole.consume(this.matrix.getColumnToArray(i));
+        }
+    }
+
+    @Benchmark
+    public double getElement() {
+        double sum = 0;
+        for (int i = 0; i < this.side; i++) {
+            for (int j = 0; j < this.side; j++) {
+                sum += this.matrix.getElement(i, j);
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public MatrixDoubles compressRow(final ModifyState state) {
+        state.matrix.compressRow(this.side >> 1);
+        return state.matrix;
+    }
+
+}
@@ -0,0 +1,524 @@
+package com.lugowoy.helper.execution;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * The class provides the asynchronous execution of the functional in a
+ * reusable pool of threads.<p>Each submitted task executed by one of the
+ * threads of the pool, and its execution time measured in nanoseconds in that
+ * thread, so that it includes only the execution of the task itself. The
+ * result and the execution time are returned as an {@link ExecutionResult}
+ * through a {@link CompletableFuture}. If the task throws an exception, the
+ * future completes exceptionally with that exception.<p>The pool is created by
+ * the object of this class, or passed to the constructor. In both cases it is
+ * shut down by calling the {@link AsyncExecutor#close()} method.<p>A batch of
+ * tasks is executed by the {@link AsyncExecutor#executeAll} methods, which
+ * return the results in the order of the tasks with the aggregated timing of
+ * the batch as {@link BatchExecutionResult}.<p>The tasks can also be executed
+ * with a time limit. The task that does not complete within its time limit is
+ * interrupted, and its outcome is reported as {@link
+ * ExecutionOutcome.Status#TIMED_OUT}, distinct from the task that failed with
+ * an exception. The time limit counts from the submission of the task, so
+ * the task waiting in the queue of the pool behind the busy threads times out
+ * as well and is not executed. The interruption is cooperative: the task must
+ * respond to it, for example by checking {@link Thread#isInterrupted()} in
+ * long loops, to release its thread of the pool.
+ * <p>
+ * Created by Konstantin Lugowoy on 18.10.2026.
+ *
+ * @author Konstantin Lugowoy
+ * @version 1.3
+ * @see com.lugowoy.helper.execution.Executor
+ * @since 3.2
+ */
+public class AsyncExecutor implements AutoCloseable {
+
+    private static final String THREAD_NAME_PREFIX = "Execution-";
+    private static final String TIMEOUT_THREAD_NAME_PREFIX = "Execution-Timeout-";
+
+    private final ExecutorService executorService;
+    private final ScheduledThreadPoolExecutor timeoutScheduler;
+
+    /**
+     * Constructs an object of this class with the pool of threads of the size
+     * equal to the number of the available processors.
+     */
+    public AsyncExecutor() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs an object of this class with the pool of {@code threads}
+     * threads. The threads of the pool are daemon threads.
+     *
+     * @param threads the number of threads in the pool.
+     * @throws IllegalArgumentException if the {@code threads} is not
+     * positive.
+     */
+    public AsyncExecutor(final int threads) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException(
+                    "Not positive value of the number of threads");
+        }
+        this.executorService = Executors.newFixedThreadPool(
+                threads, new ExecutionThreadFactory(THREAD_NAME_PREFIX));
+        this.timeoutScheduler = createTimeoutScheduler();
+    }
+
+    /**
+     * Constructs an object of this class, which executes the tasks in the
+     * {@code executorService}.
+     *
+     * @param executorService the pool of threads to execute the tasks.
+     * @throws NullPointerException if the {@code executorService} is {@code
+     * null}.
+     */
+    public AsyncExecutor(@NotNull final ExecutorService executorService) {
+        this.executorService = Objects.requireNonNull(executorService,
+                                                      "Executor service is null");
+        this.timeoutScheduler = createTimeoutScheduler();
+    }
+
+    /**
+     * Submits the functional wrapped as an implementation of the {@link
+     * Callable} interface to the execution.
+     *
+     * @param <T> the type of the execution result.
+     * @param callable the stream object that executes the functional.
+     * @return the future of the result and the execution time.
+     * @throws NullPointerException if the {@code callable} is {@code null}.
+     * @throws java.util.concurrent.RejectedExecutionException if the executor
+     * is closed.
+     */
+    public <T> CompletableFuture<ExecutionResult<T>> execute(
+            @NotNull final Callable<T> callable) {
+        Objects.requireNonNull(callable, "The thread to execute is null");
+        CompletableFuture<ExecutionResult<T>> future = new CompletableFuture<>();
+        this.executorService.execute(() -> {
+            if (future.isDone()) {
+                return;
+            }
+            long startNanos = System.nanoTime();
+            try {
+                T result = callable.call();
+                future.complete(new ExecutionResult<>(
+                        result, System.nanoTime() - startNanos));
+            } catch (Throwable ex) {
+                future.completeExceptionally(ex);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Submits the functional wrapped as an implementation of the {@link
+     * Runnable} interface to the execution. The result of the returned
+     * execution result is always {@code null}.
+     *
+     * @param runnable the stream object that executes the functional.
+     * @return the future of the execution time.
+     * @throws NullPointerException if the {@code runnable} is {@code null}.
+     * @throws java.util.concurrent.RejectedExecutionException if the executor
+     * is closed.
+     */
+    public CompletableFuture<ExecutionResult<Void>> execute(
+            @NotNull final Runnable runnable) {
+        Objects.requireNonNull(runnable, "The thread to execute is null");
+        return this.execute(() -> {
+            runnable.run();
+            return null;
+        });
+    }
+
+    /**
+     * Executes the batch of the {@code callables} tasks with the parallelism
+     * equal to the number of the available processors.
+     *
+     * @param <T> the type of the results of the tasks.
+     * @param callables the tasks to execute.
+     * @return the results of the tasks and the aggregated timing of the batch.
+     * @throws InterruptedException if interrupted while waiting for the
+     * completion of the batch.
+     * @see AsyncExecutor#executeAll(Collection, int)
+     */
+    public <T> BatchExecutionResult<T> executeAll(
+            @NotNull final Collection<? extends Callable<T>> callables)
+            throws InterruptedException {
+        return this.executeAll(callables,
+                               Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Executes the batch of the {@code callables} tasks, so that no more than
+     * {@code parallelism} tasks are executed at once, and waits for the
+     * completion of all of them.<p>The batch is executed by {@code
+     * parallelism} workers submitted to the pool, each of which takes the next
+     * not executed task until the tasks run out, so no future is created for
+     * each task. The results are collected in the order of the tasks in the
+     * {@code callables} collection. If a task throws an exception, the workers
+     * do not start the remaining tasks, and this method throws an exception
+     * with the first thrown exception as its cause.
+     *
+     * @param <T> the type of the results of the tasks.
+     * @param callables the tasks to execute.
+     * @param parallelism the maximum number of the tasks executed at once.
+     * @return the results of the tasks and the aggregated timing of the batch.
+     * @throws NullPointerException if the {@code callables} is {@code null} or
+     * contains {@code null}.
+     * @throws IllegalArgumentException if the {@code callables} is empty or the
+     * {@code parallelism} is not positive.
+     * @throws RuntimeException if could not get the result of a task.
+     * @throws InterruptedException if interrupted while waiting for the
+     * completion of the batch.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> BatchExecutionResult<T> executeAll(
+            @NotNull final Collection<? extends Callable<T>> callables,
+            final int parallelism) throws InterruptedException {
+        Objects.requireNonNull(callables, "Tasks is null");
+        if (callables.isEmpty()) {
+            throw new IllegalArgumentException("Tasks is empty");
+        }
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException(
+                    "Not positive value of the parallelism");
+        }
+        final List<Callable<T>> tasks = new ArrayList<>(callables);
+        for (Callable<T> task : tasks) {
+            Objects.requireNonNull(task, "The thread to execute is null");
+        }
+        final Object[] results = new Object[tasks.size()];
+        final long[] nanoTimes = new long[tasks.size()];
+        final AtomicInteger nextTask = new AtomicInteger();
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final int workers = Math.min(parallelism, tasks.size());
+        final CountDownLatch completion = new CountDownLatch(workers);
+        long startNanos = System.nanoTime();
+        for (int i = 0; i < workers; i++) {
+            this.executorService.execute(() -> {
+                try {
+                    int index;
+                    while (failure.get() == null
+                           && (index = nextTask.getAndIncrement()) < tasks.size()) {
+                        long taskStartNanos = System.nanoTime();
+                        results[index] = tasks.get(index).call();
+                        nanoTimes[index] = System.nanoTime() - taskStartNanos;
+                    }
+                } catch (Throwable ex) {
+                    failure.compareAndSet(null, ex);
+                } finally {
+                    completion.countDown();
+                }
+            });
+        }
+        completion.await();
+        long wallNanoTime = System.nanoTime() - startNanos;
+        if (failure.get() != null) {
+            throw new RuntimeException("Could not get the execution result",
+                                       failure.get());
+        }
+        List<T> resultList = (List<T>) Collections.unmodifiableList(
+                Arrays.asList(results));
+        return new BatchExecutionResult<>(resultList, wallNanoTime,
+                                          new ExecutionStatistics(nanoTimes));
+    }
+
+    /**
+     * Submits the functional wrapped as an implementation of the {@link
+     * Callable} interface to the execution with the time limit.<p>The time
+     * limit counts from the submission of the task, so the waiting in the
+     * queue of the pool is included. If the task does not complete within the
+     * time limit, the returned future completes with the {@link
+     * ExecutionOutcome.Status#TIMED_OUT} outcome with the time elapsed since
+     * the submission, and the thread executing the task is interrupted; the
+     * task not yet started is not executed at all. If the task throws an
+     * exception, the future completes with the {@link
+     * ExecutionOutcome.Status#FAILED} outcome, so the returned future never
+     * completes exceptionally. Cancelling the returned future interrupts the
+     * task as well.
+     *
+     * @param <T> the type of the execution result.
+     * @param callable the stream object that executes the functional.
+     * @param timeout the maximum time to execute the task.
+     * @param unit the time unit of the {@code timeout}.
+     * @return the future of the outcome of the execution.
+     * @throws NullPointerException if the {@code callable} or the {@code unit}
+     * is {@code null}.
+     * @throws IllegalArgumentException if the {@code timeout} is not positive.
+     * @throws java.util.concurrent.RejectedExecutionException if the executor
+     * is closed.
+     * @since 3.2
+     */
+    public <T> CompletableFuture<ExecutionOutcome<T>> execute(
+            @NotNull final Callable<T> callable, final long timeout,
+            @NotNull final TimeUnit unit) {
+        Objects.requireNonNull(callable, "The thread to execute is null");
+        Objects.requireNonNull(unit, "Time unit is null");
+        if (timeout <= 0) {
+            throw new IllegalArgumentException(
+                    "Not positive value of the timeout");
+        }
+        return this.executeWithTimeout(callable, unit.toNanos(timeout));
+    }
+
+    /**
+     * Executes the batch of the {@code callables} tasks, so that no more than
+     * {@code parallelism} tasks are executed at once, with the time limit for
+     * each task and for the whole batch, and waits for the completion of all
+     * of them.<p>Each task is executed as by the {@link
+     * AsyncExecutor#execute(Callable, long, TimeUnit)} method with the time
+     * limit equal to the lesser of the {@code taskTimeout} and the time
+     * remaining until the time limit of the batch, so that no task overruns
+     * the batch. The tasks not started before the time limit of the batch
+     * expired are not executed, their outcomes are {@link
+     * ExecutionOutcome.Status#TIMED_OUT} with zero execution time. The failed
+     * or timed out task does not stop the batch. The outcomes are collected in
+     * the order of the tasks in the {@code callables} collection, the
+     * statistics of the batch are calculated over the execution times of all
+     * outcomes.<p>The slot of the timed out task is released when its time
+     * limit expires, so the task that ignores the interruption keeps its
+     * thread of the pool busy while the next tasks are submitted. Since the
+     * time limits count from the submission, the next tasks waiting for that
+     * thread time out as well, and this method returns no later than the time
+     * limit of the batch expires, up to the scheduling delays.
+     *
+     * @param <T> the type of the results of the tasks.
+     * @param callables the tasks to execute.
+     * @param parallelism the maximum number of the tasks executed at once.
+     * @param taskTimeout the maximum time to execute each task.
+     * @param batchTimeout the maximum time to execute the whole batch.
+     * @param unit the time unit of the {@code taskTimeout} and the {@code
+     * batchTimeout}.
+     * @return the outcomes of the tasks and the aggregated timing of the
+     * batch.
+     * @throws NullPointerException if the {@code callables} is {@code null} or
+     * contains {@code null}, or the {@code unit} is {@code null}.
+     * @throws IllegalArgumentException if the {@code callables} is empty, or
+     * the {@code parallelism}, the {@code taskTimeout} or the {@code
+     * batchTimeout} is not positive.
+     * @throws InterruptedException if interrupted while waiting for the
+     * completion of the batch.
+     * @since 3.2
+     */
+    @SuppressWarnings("unchecked")
+    public <T> BatchExecutionResult<ExecutionOutcome<T>> executeAll(
+            @NotNull final Collection<? extends Callable<T>> callables,
+            final int parallelism, final long taskTimeout,
+            final long batchTimeout, @NotNull final TimeUnit unit)
+            throws InterruptedException {
+        Objects.requireNonNull(callables, "Tasks is null");
+        Objects.requireNonNull(unit, "Time unit is null");
+        if (callables.isEmpty()) {
+            throw new IllegalArgumentException("Tasks is empty");
+        }
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException(
+                    "Not positive value of the parallelism");
+        }
+        if (taskTimeout <= 0) {
+            throw new IllegalArgumentException(
+                    "Not positive value of the task timeout");
+        }
+        if (batchTimeout <= 0) {
+            throw new IllegalArgumentException(
+                    "Not positive value of the batch timeout");
+        }
+        final List<Callable<T>> tasks = new ArrayList<>(callables);
+        for (Callable<T> task : tasks) {
+            Objects.requireNonNull(task, "The thread to execute is null");
+        }
+        final long taskTimeoutNanos = unit.toNanos(taskTimeout);
+        final List<CompletableFuture<ExecutionOutcome<T>>> futures =
+                new ArrayList<>(tasks.size());
+        final long[] submitNanos = new long[tasks.size()];
+        final Semaphore slots = new Semaphore(parallelism);
+        final Object[] outcomes = new Object[tasks.size()];
+        final long[] nanoTimes = new long[tasks.size()];
+        long startNanos = System.nanoTime();
+        long deadlineNanos = startNanos + unit.toNanos(batchTimeout);
+        try {
+            for (int i = 0; i < tasks.size(); i++) {
+                long remainingNanos = deadlineNanos - System.nanoTime();
+                if (remainingNanos <= 0
+                    || !slots.tryAcquire(remainingNanos, TimeUnit.NANOSECONDS)) {
+                    break;
+                }
+                submitNanos[i] = System.nanoTime();
+                remainingNanos = deadlineNanos - submitNanos[i];
+                if (remainingNanos <= 0) {
+                    slots.release();
+                    break;
+                }
+                CompletableFuture<ExecutionOutcome<T>> future =
+                        this.executeWithTimeout(tasks.get(i),
+                                                Math.min(taskTimeoutNanos,
+                                                         remainingNanos));
+                future.whenComplete((outcome, ex) -> slots.release());
+                futures.add(future);
+            }
+            for (int i = 0; i < tasks.size(); i++) {
+                ExecutionOutcome<T> outcome;
+                if (i >= futures.size()) {
+                    outcome = ExecutionOutcome.timedOut(0);
+                } else {
+                    CompletableFuture<ExecutionOutcome<T>> future =
+                            futures.get(i);
+                    try {
+                        outcome = future.get(Math.max(
+                                deadlineNanos - System.nanoTime(), 0),
+                                             TimeUnit.NANOSECONDS);
+                    } catch (ExecutionException ex) {
+                        outcome = ExecutionOutcome.failed(ex.getCause(), 0);
+                    } catch (TimeoutException ex) {
+                        outcome = ExecutionOutcome.timedOut(
+                                System.nanoTime() - submitNanos[i]);
+                        future.cancel(true);
+                    }
+                }
+                outcomes[i] = outcome;
+                nanoTimes[i] = outcome.getNanoTime();
+            }
+        } catch (InterruptedException ex) {
+            for (CompletableFuture<ExecutionOutcome<T>> future : futures) {
+                future.cancel(true);
+            }
+            throw ex;
+        }
+        long wallNanoTime = System.nanoTime() - startNanos;
+        List<ExecutionOutcome<T>> outcomeList =
+                (List<ExecutionOutcome<T>>) (List<?>) Collections.unmodifiableList(
+                        Arrays.asList(outcomes));
+        return new BatchExecutionResult<>(outcomeList, wallNanoTime,
+                                          new ExecutionStatistics(nanoTimes));
+    }
+
+    /**
+     * Gets the pool of threads that executes the tasks.
+     *
+     * @return the pool of threads.
+     */
+    protected ExecutorService getExecutorService() {
+        return this.executorService;
+    }
+
+    /**
+     * Shuts down the pool of threads. The already submitted tasks are
+     * executed, and this method waits for their completion. The time limits of
+     * the tasks are still applied while waiting. The new tasks are rejected.
+     * If the current thread is interrupted while waiting, this method stops
+     * waiting and restores the interrupt status of the thread, the time
+     * limits of the remaining tasks are still applied.
+     */
+    @Override
+    public void close() {
+        this.executorService.shutdown();
+        try {
+            boolean terminated;
+            do {
+                terminated = this.executorService.awaitTermination(
+                        1, TimeUnit.SECONDS);
+            } while (!terminated);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } finally {
+            this.timeoutScheduler.shutdown();
+        }
+    }
+
+    private <T> CompletableFuture<ExecutionOutcome<T>> executeWithTimeout(
+            final Callable<T> callable, final long timeoutNanos) {
+        CompletableFuture<ExecutionOutcome<T>> future = new CompletableFuture<>();
+        FutureTask<Void> task = new FutureTask<>(() -> {
+            this.call(callable, future);
+            return null;
+        });
+        //FutureTask interrupts only the thread still executing this task,
+        //so the interruption does not leak to the next task of the pool,
+        //and the cancelled task not yet started is never executed.
+        final long submitNanos = System.nanoTime();
+        ScheduledFuture<?> timeout = this.timeoutScheduler.schedule(() -> {
+            if (future.complete(ExecutionOutcome.timedOut(
+                    System.nanoTime() - submitNanos))) {
+                task.cancel(true);
+            }
+        }, timeoutNanos, TimeUnit.NANOSECONDS);
+        future.whenComplete((outcome, ex) -> {
+            timeout.cancel(false);
+            if (future.isCancelled()) {
+                task.cancel(true);
+            }
+        });
+        try {
+            this.executorService.execute(task);
+        } catch (RuntimeException ex) {
+            future.cancel(false);
+            throw ex;
+        }
+        return future;
+    }
+
+    private <T> void call(final Callable<T> callable,
+                          final CompletableFuture<ExecutionOutcome<T>> future) {
+        if (future.isDone()) {
+            return;
+        }
+        final long startNanos = System.nanoTime();
+        try {
+            T result = callable.call();
+            future.complete(ExecutionOutcome.completed(
+                    result, System.nanoTime() - startNanos));
+        } catch (Throwable ex) {
+            future.complete(ExecutionOutcome.failed(
+                    ex, System.nanoTime() - startNanos));
+        }
+    }
+
+    private static ScheduledThreadPoolExecutor createTimeoutScheduler() {
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(
+                1, new ExecutionThreadFactory(TIMEOUT_THREAD_NAME_PREFIX));
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
+
+    private static final class ExecutionThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger threadNumber = new AtomicInteger(1);
+        private final String namePrefix;
+
+        private ExecutionThreadFactory(final String namePrefix) {
+            this.namePrefix = namePrefix;
+        }
+
+        @Override
+        public Thread newThread(@NotNull final Runnable runnable) {
+            Thread thread = new Thread(runnable, this.namePrefix
+                                                 + this.threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+
+    }
+
+}
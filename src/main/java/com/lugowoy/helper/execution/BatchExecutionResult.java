@@ -0,0 +1,99 @@
+package com.lugowoy.helper.execution;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The class represents the aggregated result of the execution of a batch of
+ * tasks: the results of the tasks in the order of the tasks, the total (wall)
+ * execution time of the batch, the statistics of the execution times of the
+ * separate tasks and the throughput.
+ * <p>
+ * Created by Konstantin Lugowoy on 18.10.2026.
+ *
+ * @author Konstantin Lugowoy
+ * @version 1.0
+ * @param <T> the type of the results of the tasks.
+ * @see com.lugowoy.helper.execution.AsyncExecutor#executeAll
+ * @since 3.2
+ */
+public final class BatchExecutionResult<T> {
+
+    private final List<T> results;
+    private final long wallNanoTime;
+    private final ExecutionStatistics taskStatistics;
+
+    /**
+     * Constructs an object of this class.
+     *
+     * @param results the results of the tasks in the order of the tasks.
+     * @param wallNanoTime the total execution time of the batch in
+     * nanoseconds.
+     * @param taskStatistics the statistics of the execution times of the
+     * tasks.
+     * @throws NullPointerException if the {@code results} or the {@code
+     * taskStatistics} is {@code null}.
+     */
+    public BatchExecutionResult(@NotNull final List<T> results,
+                                final long wallNanoTime,
+                                @NotNull final ExecutionStatistics taskStatistics) {
+        this.results = Objects.requireNonNull(results, "Results is null");
+        this.wallNanoTime = wallNanoTime;
+        this.taskStatistics = Objects.requireNonNull(taskStatistics,
+                                                     "Statistics is null");
+    }
+
+    /**
+     * Gets the results of the tasks in the order of the tasks.
+     *
+     * @return the unmodifiable list of the results.
+     */
+    public List<T> getResults() {
+        return this.results;
+    }
+
+    /**
+     * Gets the number of the executed tasks.
+     *
+     * @return the number of the executed tasks.
+     */
+    public int getTasks() {
+        return this.results.size();
+    }
+
+    /**
+     * Gets the total execution time of the batch in nanoseconds.
+     *
+     * @return the total execution time of the batch in nanoseconds.
+     */
+    public long getWallNanoTime() {
+        return this.wallNanoTime;
+    }
+
+    /**
+     * Gets the statistics of the execution times of the separate tasks.
+     *
+     * @return the statistics of the execution times of the tasks.
+     */
+    public ExecutionStatistics getTaskStatistics() {
+        return this.taskStatistics;
+    }
+
+    /**
+     * Gets the throughput of the execution, namely the number of the tasks
+     * executed per second of the total execution time.
+     *
+     * @return the number of the tasks executed per second.
+     */
+    public double getThroughput() {
+        if (this.wallNanoTime <= 0) {
+            return 0;
+        }
+        return this.results.size() * (double) TimeUnit.SECONDS.toNanos(1)
+               / this.wallNanoTime;
+    }
+
+}
@@ -0,0 +1,147 @@
+package com.lugowoy.helper.execution;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+
+/**
+ * The class represents the memory allocated by the execution of a task and the
+ * garbage collections that occurred during it.<p>The allocated bytes are
+ * counted for the thread that executed the task by the {@link
+ * com.sun.management.ThreadMXBean}. If the JVM does not support the
+ * measurement of the allocated memory, the number of the allocated bytes is
+ * {@value #UNSUPPORTED}. The number and time of the garbage collections are
+ * summed over all collectors of the JVM, so they also include the collections
+ * caused by the other threads.
+ * <p>
+ * Created by Konstantin Lugowoy on 18.10.2026.
+ *
+ * @author Konstantin Lugowoy
+ * @version 1.0
+ * @see com.lugowoy.helper.execution.OutputExecutionAllocation
+ * @since 3.2
+ */
+public final class ExecutionAllocation {
+
+    /**
+     * The value of the allocated bytes if the measurement is not supported.
+     */
+    public static final long UNSUPPORTED = -1L;
+
+    private static final com.sun.management.ThreadMXBean THREAD_BEAN =
+            initThreadBean();
+    private static final List<GarbageCollectorMXBean> GC_BEANS =
+            ManagementFactory.getGarbageCollectorMXBeans();
+
+    private final long allocatedBytes;
+    private final long gcCount;
+    private final long gcMillis;
+
+    /**
+     * Constructs an object of this class.
+     *
+     * @param allocatedBytes the allocated bytes, or {@link #UNSUPPORTED}.
+     * @param gcCount the number of the garbage collections.
+     * @param gcMillis the time of the garbage collections in milliseconds.
+     */
+    public ExecutionAllocation(final long allocatedBytes, final long gcCount,
+                               final long gcMillis) {
+        this.allocatedBytes = allocatedBytes;
+        this.gcCount = gcCount;
+        this.gcMillis = gcMillis;
+    }
+
+    /**
+     * Takes the snapshot of the allocated bytes of the current thread and the
+     * number and time of the garbage collections since the start of the JVM.
+     * The difference between two snapshots is calculated by the {@link
+     * ExecutionAllocation#since(ExecutionAllocation)} method.
+     *
+     * @return the snapshot of the allocation counters.
+     */
+    public static ExecutionAllocation snapshot() {
+        long allocatedBytes = UNSUPPORTED;
+        if (THREAD_BEAN != null) {
+            allocatedBytes = THREAD_BEAN.getThreadAllocatedBytes(
+                    Thread.currentThread().getId());
+        }
+        long gcCount = 0;
+        long gcMillis = 0;
+        for (GarbageCollectorMXBean gcBean : GC_BEANS) {
+            gcCount += Math.max(gcBean.getCollectionCount(), 0);
+            gcMillis += Math.max(gcBean.getCollectionTime(), 0);
+        }
+        return new ExecutionAllocation(allocatedBytes, gcCount, gcMillis);
+    }
+
+    /**
+     * Calculates the difference between this snapshot and the earlier {@code
+     * start} snapshot taken in the same thread.
+     *
+     * @param start the snapshot taken before the execution.
+     * @return the allocation of the execution.
+     */
+    public ExecutionAllocation since(final ExecutionAllocation start) {
+        long bytes = UNSUPPORTED;
+        if (this.allocatedBytes != UNSUPPORTED
+            && start.allocatedBytes != UNSUPPORTED) {
+            bytes = this.allocatedBytes - start.allocatedBytes;
+        }
+        return new ExecutionAllocation(bytes, this.gcCount - start.gcCount,
+                                       this.gcMillis - start.gcMillis);
+    }
+
+    /**
+     * Gets the number of the allocated bytes.
+     *
+     * @return the number of the allocated bytes, or {@link #UNSUPPORTED}.
+     */
+    public long getAllocatedBytes() {
+        return this.allocatedBytes;
+    }
+
+    /**
+     * Gets the number of the garbage collections.
+     *
+     * @return the number of the garbage collections.
+     */
+    public long getGcCount() {
+        return this.gcCount;
+    }
+
+    /**
+     * Gets the time of the garbage collections in milliseconds.
+     *
+     * @return the time of the garbage collections in milliseconds.
+     */
+    public long getGcMillis() {
+        return this.gcMillis;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "ExecutionAllocation[allocatedBytes=" + this.allocatedBytes
+               + ", gcCount=" + this.gcCount + ", gcMillis=" + this.gcMillis
+               + "]";
+    }
+
+    private static com.sun.management.ThreadMXBean initThreadBean() {
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        if (threadBean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean bean =
+                    (com.sun.management.ThreadMXBean) threadBean;
+            if (bean.isThreadAllocatedMemorySupported()) {
+                if (!bean.isThreadAllocatedMemoryEnabled()) {
+                    bean.setThreadAllocatedMemoryEnabled(true);
+                }
+                return bean;
+            }
+        }
+        return null;
+    }
+
+}
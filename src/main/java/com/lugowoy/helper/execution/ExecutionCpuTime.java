@@ -0,0 +1,170 @@
+package com.lugowoy.helper.execution;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * The class represents the wall clock time of the execution of a task together
+ * with the CPU time and the user time consumed by the thread that executed
+ * it.<p>The wall clock time includes the time while the thread was waiting
+ * for the processor, for example because of other processes on the same
+ * machine, so the difference between the wall clock time and the CPU time
+ * separates such scheduling noise from the cost of the execution itself. The
+ * CPU time is the sum of the user time and the time spent by the operating
+ * system on behalf of the thread. The times are measured by the {@link
+ * ThreadMXBean}. If the JVM does not support the measurement of the CPU time
+ * of the thread, the CPU time and the user time are {@value #UNSUPPORTED}.
+ * <p>
+ * Created by Konstantin Lugowoy on 18.10.2026.
+ *
+ * @author Konstantin Lugowoy
+ * @version 1.0
+ * @see com.lugowoy.helper.execution.OutputExecutionCpuTime
+ * @since 3.2
+ */
+public final class ExecutionCpuTime {
+
+    /**
+     * The value of the CPU time and the user time if the measurement is not
+     * supported.
+     */
+    public static final long UNSUPPORTED = -1L;
+
+    private static final ThreadMXBean THREAD_BEAN = initThreadBean();
+
+    private final long wallNanos;
+    private final long cpuNanos;
+    private final long userNanos;
+
+    /**
+     * Constructs an object of this class.
+     *
+     * @param wallNanos the wall clock time in nanoseconds.
+     * @param cpuNanos the CPU time in nanoseconds, or {@link #UNSUPPORTED}.
+     * @param userNanos the user time in nanoseconds, or {@link #UNSUPPORTED}.
+     */
+    public ExecutionCpuTime(final long wallNanos, final long cpuNanos,
+                            final long userNanos) {
+        this.wallNanos = wallNanos;
+        this.cpuNanos = cpuNanos;
+        this.userNanos = userNanos;
+    }
+
+    /**
+     * Takes the snapshot of the wall clock time and the CPU time and the user
+     * time of the current thread. The difference between two snapshots is
+     * calculated by the {@link ExecutionCpuTime#since(ExecutionCpuTime)}
+     * method.
+     *
+     * @return the snapshot of the time counters.
+     */
+    public static ExecutionCpuTime snapshot() {
+        long cpuNanos = UNSUPPORTED;
+        long userNanos = UNSUPPORTED;
+        if (THREAD_BEAN != null) {
+            cpuNanos = THREAD_BEAN.getCurrentThreadCpuTime();
+            userNanos = THREAD_BEAN.getCurrentThreadUserTime();
+        }
+        return new ExecutionCpuTime(System.nanoTime(), cpuNanos, userNanos);
+    }
+
+    static long currentThreadCpuNanos() {
+        if (THREAD_BEAN == null) {
+            return UNSUPPORTED;
+        }
+        return THREAD_BEAN.getCurrentThreadCpuTime();
+    }
+
+    /**
+     * Calculates the difference between this snapshot and the earlier {@code
+     * start} snapshot taken in the same thread.
+     *
+     * @param start the snapshot taken before the execution.
+     * @return the times of the execution.
+     */
+    public ExecutionCpuTime since(final ExecutionCpuTime start) {
+        long cpu = UNSUPPORTED;
+        long user = UNSUPPORTED;
+        if (this.cpuNanos != UNSUPPORTED && start.cpuNanos != UNSUPPORTED) {
+            cpu = this.cpuNanos - start.cpuNanos;
+            user = this.userNanos - start.userNanos;
+        }
+        return new ExecutionCpuTime(this.wallNanos - start.wallNanos, cpu, user);
+    }
+
+    /**
+     * Gets the wall clock time in nanoseconds.
+     *
+     * @return the wall clock time in nanoseconds.
+     */
+    public long getWallNanos() {
+        return this.wallNanos;
+    }
+
+    /**
+     * Gets the CPU time in nanoseconds.
+     *
+     * @return the CPU time in nanoseconds, or {@link #UNSUPPORTED}.
+     */
+    public long getCpuNanos() {
+        return this.cpuNanos;
+    }
+
+    /**
+     * Gets the user time in nanoseconds.
+     *
+     * @return the user time in nanoseconds, or {@link #UNSUPPORTED}.
+     */
+    public long getUserNanos() {
+        return this.userNanos;
+    }
+
+    /**
+     * Gets the time spent by the operating system on behalf of the thread in
+     * nanoseconds, that is the CPU time without the user time.
+     *
+     * @return the system time in nanoseconds, or {@link #UNSUPPORTED}.
+     */
+    public long getSystemNanos() {
+        if (this.cpuNanos == UNSUPPORTED) {
+            return UNSUPPORTED;
+        }
+        return this.cpuNanos - this.userNanos;
+    }
+
+    /**
+     * Gets the time the thread was not executed on the processor in
+     * nanoseconds, that is the wall clock time without the CPU time. It
+     * includes the waiting for the processor, the blocking and the sleeping of
+     * the thread.
+     *
+     * @return the waiting time in nanoseconds, or {@link #UNSUPPORTED}.
+     */
+    public long getWaitNanos() {
+        if (this.cpuNanos == UNSUPPORTED) {
+            return UNSUPPORTED;
+        }
+        return Math.max(this.wallNanos - this.cpuNanos, 0);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "ExecutionCpuTime[wallNanos=" + this.wallNanos + ", cpuNanos="
+               + this.cpuNanos + ", userNanos=" + this.userNanos + "]";
+    }
+
+    private static ThreadMXBean initThreadBean() {
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        if (threadBean.isCurrentThreadCpuTimeSupported()) {
+            if (!threadBean.isThreadCpuTimeEnabled()) {
+                threadBean.setThreadCpuTimeEnabled(true);
+            }
+            return threadBean;
+        }
+        return null;
+    }
+
+}
@@ -0,0 +1,161 @@
+package com.lugowoy.helper.execution;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * The class represents the outcome of the execution of a task with a time
+ * limit.<p>Unlike {@link ExecutionResult}, the outcome distinguishes the task
+ * that completed with a result, the task that failed with an exception and the
+ * task that did not complete within the time limit. The execution time of the
+ * timed out task is the time elapsed until the time limit expired, or zero if
+ * the task was not started before the time limit of its batch expired.
+ * <p>
+ * Created by Konstantin Lugowoy on 18.10.2026.
+ *
+ * @author Konstantin Lugowoy
+ * @version 1.0
+ * @param <T> the type of the execution result.
+ * @see com.lugowoy.helper.execution.AsyncExecutor
+ * @since 3.2
+ */
+public final class ExecutionOutcome<T> {
+
+    /**
+     * The status of the execution of a task.
+     */
+    public enum Status {
+
+        /**
+         * The task completed with a result.
+         */
+        COMPLETED,
+
+        /**
+         * The task failed with an exception.
+         */
+        FAILED,
+
+        /**
+         * The task did not complete within the time limit.
+         */
+        TIMED_OUT
+
+    }
+
+    private final Status status;
+    private final T result;
+    private final Throwable failure;
+    private final long nanoTime;
+
+    private ExecutionOutcome(final Status status, final T result,
+                             final Throwable failure, final long nanoTime) {
+        this.status = status;
+        this.result = result;
+        this.failure = failure;
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * Creates the outcome of the task completed with the {@code result}.
+     *
+     * @param <T> the type of the execution result.
+     * @param result the result of the execution.
+     * @param nanoTime the execution time in nanoseconds.
+     * @return the outcome of the completed task.
+     */
+    public static <T> ExecutionOutcome<T> completed(final T result,
+                                                    final long nanoTime) {
+        return new ExecutionOutcome<>(Status.COMPLETED, result, null, nanoTime);
+    }
+
+    /**
+     * Creates the outcome of the task failed with the {@code failure}.
+     *
+     * @param <T> the type of the execution result.
+     * @param failure the exception thrown by the task.
+     * @param nanoTime the execution time in nanoseconds.
+     * @return the outcome of the failed task.
+     * @throws NullPointerException if the {@code failure} is {@code null}.
+     */
+    public static <T> ExecutionOutcome<T> failed(@NotNull final Throwable failure,
+                                                 final long nanoTime) {
+        Objects.requireNonNull(failure, "Failure is null");
+        return new ExecutionOutcome<>(Status.FAILED, null, failure, nanoTime);
+    }
+
+    /**
+     * Creates the outcome of the task that did not complete within the time
+     * limit.
+     *
+     * @param <T> the type of the execution result.
+     * @param nanoTime the time elapsed until the time limit expired in
+     * nanoseconds.
+     * @return the outcome of the timed out task.
+     */
+    public static <T> ExecutionOutcome<T> timedOut(final long nanoTime) {
+        return new ExecutionOutcome<>(Status.TIMED_OUT, null, null, nanoTime);
+    }
+
+    /**
+     * Gets the status of the execution.
+     *
+     * @return the status of the execution.
+     */
+    public Status getStatus() {
+        return this.status;
+    }
+
+    /**
+     * Checks whether the task completed with a result.
+     *
+     * @return {@code true} if the status is {@link Status#COMPLETED}.
+     */
+    public boolean isCompleted() {
+        return this.status == Status.COMPLETED;
+    }
+
+    /**
+     * Gets the result of the completed task.
+     *
+     * @return the result of the execution.
+     * @throws IllegalStateException if the task did not complete.
+     */
+    public T getResult() {
+        if (this.status != Status.COMPLETED) {
+            throw new IllegalStateException("The task is " + this.status);
+        }
+        return this.result;
+    }
+
+    /**
+     * Gets the exception thrown by the failed task.
+     *
+     * @return the exception thrown by the task, or {@code null} if the task
+     * did not fail.
+     */
+    public Throwable getFailure() {
+        return this.failure;
+    }
+
+    /**
+     * Gets the execution time in nanoseconds.
+     *
+     * @return the execution time in nanoseconds.
+     */
+    public long getNanoTime() {
+        return this.nanoTime;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "ExecutionOutcome[status=" + this.status + ", result="
+               + this.result + ", failure=" + this.failure + ", nanoTime="
+               + this.nanoTime + "]";
+    }
+
+}
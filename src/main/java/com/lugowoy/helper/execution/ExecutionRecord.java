@@ -0,0 +1,124 @@
+package com.lugowoy.helper.execution;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * The class represents the structured record of the execution of a task for
+ * the export to a file for the further analysis.<p>The record contains the
+ * identifier of the task, the size of the input of the task, the execution
+ * time in nanoseconds, the number of the bytes allocated by the execution and
+ * the hash code of the result, so that the changes of the result between the
+ * executions can be detected without storing it.
+ * <p>
+ * Created by Konstantin Lugowoy on 18.10.2026.
+ *
+ * @author Konstantin Lugowoy
+ * @version 1.0
+ * @see com.lugowoy.helper.execution.OutputExecutionRecord
+ * @since 3.2
+ */
+public final class ExecutionRecord {
+
+    private final String taskId;
+    private final long inputSize;
+    private final long nanoTime;
+    private final long allocatedBytes;
+    private final int resultHash;
+
+    /**
+     * Constructs an object of this class.
+     *
+     * @param taskId the identifier of the task.
+     * @param inputSize the size of the input of the task.
+     * @param nanoTime the execution time in nanoseconds.
+     * @param allocatedBytes the number of the allocated bytes, or {@link
+     * ExecutionAllocation#UNSUPPORTED} if it is not measured.
+     * @param resultHash the hash code of the result.
+     * @throws NullPointerException if the {@code taskId} is {@code null}.
+     */
+    public ExecutionRecord(@NotNull final String taskId, final long inputSize,
+                           final long nanoTime, final long allocatedBytes,
+                           final int resultHash) {
+        this.taskId = Objects.requireNonNull(taskId, "Task id is null");
+        this.inputSize = inputSize;
+        this.nanoTime = nanoTime;
+        this.allocatedBytes = allocatedBytes;
+        this.resultHash = resultHash;
+    }
+
+    /**
+     * Calculates the hash code of the {@code result}. The hash code of an
+     * array is calculated by its elements, the hash code of {@code null} is
+     * zero.
+     *
+     * @param result the result of the execution.
+     * @return the hash code of the result.
+     */
+    public static int hashOf(final Object result) {
+        if (result != null && result.getClass().isArray()) {
+            return Arrays.deepHashCode(new Object[]{result});
+        }
+        return Objects.hashCode(result);
+    }
+
+    /**
+     * Gets the identifier of the task.
+     *
+     * @return the identifier of the task.
+     */
+    public String getTaskId() {
+        return this.taskId;
+    }
+
+    /**
+     * Gets the size of the input of the task.
+     *
+     * @return the size of the input of the task.
+     */
+    public long getInputSize() {
+        return this.inputSize;
+    }
+
+    /**
+     * Gets the execution time in nanoseconds.
+     *
+     * @return the execution time in nanoseconds.
+     */
+    public long getNanoTime() {
+        return this.nanoTime;
+    }
+
+    /**
+     * Gets the number of the allocated bytes.
+     *
+     * @return the number of the allocated bytes, or {@link
+     * ExecutionAllocation#UNSUPPORTED}.
+     */
+    public long getAllocatedBytes() {
+        return this.allocatedBytes;
+    }
+
+    /**
+     * Gets the hash code of the result.
+     *
+     * @return the hash code of the result.
+     */
+    public int getResultHash() {
+        return this.resultHash;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "ExecutionRecord[taskId=" + this.taskId + ", inputSize="
+               + this.inputSize + ", nanoTime=" + this.nanoTime
+               + ", allocatedBytes=" + this.allocatedBytes + ", resultHash="
+               + this.resultHash + "]";
+    }
+
+}
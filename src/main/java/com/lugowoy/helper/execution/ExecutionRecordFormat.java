@@ -0,0 +1,96 @@
+package com.lugowoy.helper.execution;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The enumeration of the formats of the file with the records of the
+ * executions.<p>Each record is written as one line, so the file can be
+ * appended and read line by line. The text values are escaped according to
+ * the format, the numeric values are written without the formatting.
+ * <p>
+ * Created by Konstantin Lugowoy on 18.10.2026.
+ *
+ * @author Konstantin Lugowoy
+ * @version 1.0
+ * @see com.lugowoy.helper.execution.OutputExecutionRecordToFile
+ * @since 3.2
+ */
+public enum ExecutionRecordFormat {
+
+    /**
+     * The comma separated values with the header line.
+     */
+    CSV("taskId,inputSize,nanoTime,allocatedBytes,resultHash") {
+        @Override
+        void append(@NotNull final StringBuilder line,
+                    @NotNull final ExecutionRecord record) {
+            String taskId = record.getTaskId();
+            if (taskId.indexOf(',') >= 0 || taskId.indexOf('"') >= 0
+                || taskId.indexOf('\n') >= 0 || taskId.indexOf('\r') >= 0) {
+                line.append('"');
+                for (int i = 0; i < taskId.length(); i++) {
+                    char c = taskId.charAt(i);
+                    if (c == '"') {
+                        line.append('"');
+                    }
+                    line.append(c);
+                }
+                line.append('"');
+            } else {
+                line.append(taskId);
+            }
+            line.append(',').append(record.getInputSize())
+                .append(',').append(record.getNanoTime())
+                .append(',').append(record.getAllocatedBytes())
+                .append(',').append(record.getResultHash())
+                .append('\n');
+        }
+    },
+
+    /**
+     * The JSON Lines, one JSON object per line without the header.
+     */
+    JSON_LINES(null) {
+        @Override
+        void append(@NotNull final StringBuilder line,
+                    @NotNull final ExecutionRecord record) {
+            line.append("{\"taskId\":\"");
+            String taskId = record.getTaskId();
+            for (int i = 0; i < taskId.length(); i++) {
+                char c = taskId.charAt(i);
+                if (c == '"' || c == '\\') {
+                    line.append('\\').append(c);
+                } else if (c < ' ') {
+                    line.append(String.format("\\u%04x", (int) c));
+                } else {
+                    line.append(c);
+                }
+            }
+            line.append("\",\"inputSize\":").append(record.getInputSize())
+                .append(",\"nanoTime\":").append(record.getNanoTime())
+                .append(",\"allocatedBytes\":").append(record.getAllocatedBytes())
+                .append(",\"resultHash\":").append(record.getResultHash())
+                .append("}\n");
+        }
+    };
+
+    private final String header;
+
+    ExecutionRecordFormat(final String header) {
+        this.header = header;
+    }
+
+    /**
+     * Gets the header line of the file.
+     *
+     * @return the header line without the line separator, or {@code null} if
+     * the format has no header.
+     */
+    public String getHeader() {
+        return this.header;
+    }
+
+    abstract void append(@NotNull StringBuilder line,
+                         @NotNull ExecutionRecord record);
+
+}
@@ -0,0 +1,59 @@
+package com.lugowoy.helper.execution;
+
+/**
+ * The class represents the result of the execution of a task together with the
+ * execution time of the task in nanoseconds.
+ * <p>
+ * Created by Konstantin Lugowoy on 18.10.2026.
+ *
+ * @author Konstantin Lugowoy
+ * @version 1.0
+ * @param <T> the type of the execution result.
+ * @see com.lugowoy.helper.execution.AsyncExecutor
+ * @since 3.2
+ */
+public final class ExecutionResult<T> {
+
+    private final T result;
+    private final long nanoTime;
+
+    /**
+     * Constructs an object of this class.
+     *
+     * @param result the result of the execution, {@code null} for the tasks
+     * without a result.
+     * @param nanoTime the execution time in nanoseconds.
+     */
+    public ExecutionResult(final T result, final long nanoTime) {
+        this.result = result;
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * Gets the result of the execution.
+     *
+     * @return the result of the execution.
+     */
+    public T getResult() {
+        return this.result;
+    }
+
+    /**
+     * Gets the execution time in nanoseconds.
+     *
+     * @return the execution time in nanoseconds.
+     */
+    public long getNanoTime() {
+        return this.nanoTime;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "ExecutionResult[result=" + this.result + ", nanoTime="
+               + this.nanoTime + "]";
+    }
+
+}
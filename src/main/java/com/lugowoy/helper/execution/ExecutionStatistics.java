@@ -0,0 +1,140 @@
+package com.lugowoy.helper.execution;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * The class represents the statistics of the execution times of a task
+ * executed several times.<p>The statistics are calculated once when the object
+ * is constructed from the execution times in nanoseconds of each iteration:
+ * the minimum, maximum, mean and median times and the sample standard
+ * deviation.
+ * <p>
+ * Created by Konstantin Lugowoy on 18.10.2026.
+ *
+ * @author Konstantin Lugowoy
+ * @version 1.0
+ * @see com.lugowoy.helper.execution.OutputExecutionStatistics
+ * @since 3.2
+ */
+public final class ExecutionStatistics {
+
+    private final int iterations;
+    private final long minNanos;
+    private final long maxNanos;
+    private final double meanNanos;
+    private final double medianNanos;
+    private final double standardDeviationNanos;
+
+    /**
+     * Constructs an object of this class by calculating the statistics of the
+     * {@code nanoTimes} execution times.
+     *
+     * @param nanoTimes the execution times of each iteration in nanoseconds.
+     * @throws NullPointerException if the {@code nanoTimes} is {@code null}.
+     * @throws IllegalArgumentException if the {@code nanoTimes} is empty.
+     */
+    public ExecutionStatistics(@NotNull final long... nanoTimes) {
+        Objects.requireNonNull(nanoTimes, "Execution times is null");
+        if (nanoTimes.length == 0) {
+            throw new IllegalArgumentException("Execution times is empty");
+        }
+        long[] sorted = Arrays.copyOf(nanoTimes, nanoTimes.length);
+        Arrays.sort(sorted);
+        this.iterations = sorted.length;
+        this.minNanos = sorted[0];
+        this.maxNanos = sorted[sorted.length - 1];
+        int middle = sorted.length >> 1;
+        if ((sorted.length & 1) == 0) {
+            this.medianNanos = (sorted[middle - 1] + sorted[middle]) / 2.0;
+        } else {
+            this.medianNanos = sorted[middle];
+        }
+        double sum = 0;
+        for (long nanos : sorted) {
+            sum += nanos;
+        }
+        this.meanNanos = sum / sorted.length;
+        if (sorted.length > 1) {
+            double squaredDeviations = 0;
+            for (long nanos : sorted) {
+                double deviation = nanos - this.meanNanos;
+                squaredDeviations += deviation * deviation;
+            }
+            this.standardDeviationNanos =
+                    Math.sqrt(squaredDeviations / (sorted.length - 1));
+        } else {
+            this.standardDeviationNanos = 0;
+        }
+    }
+
+    /**
+     * Gets the number of the measured iterations.
+     *
+     * @return the number of the measured iterations.
+     */
+    public int getIterations() {
+        return this.iterations;
+    }
+
+    /**
+     * Gets the minimum execution time in nanoseconds.
+     *
+     * @return the minimum execution time in nanoseconds.
+     */
+    public long getMinNanos() {
+        return this.minNanos;
+    }
+
+    /**
+     * Gets the maximum execution time in nanoseconds.
+     *
+     * @return the maximum execution time in nanoseconds.
+     */
+    public long getMaxNanos() {
+        return this.maxNanos;
+    }
+
+    /**
+     * Gets the mean execution time in nanoseconds.
+     *
+     * @return the mean execution time in nanoseconds.
+     */
+    public double getMeanNanos() {
+        return this.meanNanos;
+    }
+
+    /**
+     * Gets the median execution time in nanoseconds.
+     *
+     * @return the median execution time in nanoseconds.
+     */
+    public double getMedianNanos() {
+        return this.medianNanos;
+    }
+
+    /**
+     * Gets the sample standard deviation of the execution times in
+     * nanoseconds. If only one iteration measured, the deviation is zero.
+     *
+     * @return the standard deviation of the execution times in nanoseconds.
+     */
+    public double getStandardDeviationNanos() {
+        return this.standardDeviationNanos;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "ExecutionStatistics[iterations=" + this.iterations
+               + ", minNanos=" + this.minNanos + ", maxNanos=" + this.maxNanos
+               + ", meanNanos=" + this.meanNanos + ", medianNanos="
+               + this.medianNanos + ", standardDeviationNanos="
+               + this.standardDeviationNanos + "]";
+    }
+
+}
@@ -2,9 +2,6 @@ package com.lugowoy.helper.execution;
 
 import com.lugowoy.helper.checkers.CheckerNumber;
 
-import java.math.BigDecimal;
-import java.math.MathContext;
-
 /**
  * The class provides functionality for calculating the execution time of a
  * task.<p>The start time of the task in milliseconds, and the end time
@@ -15,11 +12,15 @@ import java.math.MathContext;
  * of the execution, you also need to call the corresponding setter. Gets the
  * result, namely the difference between the end time, and the start time by
  * calling the {@link ExecutionTime#calculateExecutionTime()} method.
+ * <p>For the times shorter than a millisecond the class also provides the
+ * start and end times taken from the {@link System#nanoTime()} call. The
+ * difference between them is calculated by calling the {@link
+ * ExecutionTime#calculateExecutionNanoTime()} method.
  * <p>
  * Created by Konstantin Lugowoy on 13.09.2019.
  *
  * @author Konstantin Lugowoy
- * @version 1.8
+ * @version 1.9
  * @since 1.7.8
  */
 //TODO review documentation
@@ -27,6 +28,8 @@ public class ExecutionTime {
 
     private long startMillis = 0L;
     private long endMillis = 0L;
+    private long startNanos = 0L;
+    private long endNanos = 0L;
 
     /**
      * Set the start time in milliseconds. The start value in milliseconds taken
@@ -88,9 +91,39 @@ public class ExecutionTime {
      * @return the execution time in the milliseconds.
      */
     public long calculateExecutionTime() {
-        return BigDecimal.valueOf(this.endMillis).subtract(
-                BigDecimal.valueOf(this.startMillis), MathContext.DECIMAL64)
-                         .longValue();
+        return this.endMillis - this.startMillis;
+    }
+
+    /**
+     * Set the start time in nanoseconds. The start value in nanoseconds taken
+     * from the method {@link System#nanoTime()} call.
+     *
+     * @since 3.2
+     */
+    public void setStartNanoTime() {
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * Set the end time in nanoseconds. The end value in nanoseconds taken from
+     * the method {@link System#nanoTime()} call.
+     *
+     * @since 3.2
+     */
+    public void setEndNanoTime() {
+        this.endNanos = System.nanoTime();
+    }
+
+    /**
+     * Calculates the time of the execution in nanoseconds.<br>For the
+     * calculation, the start and end nano times encapsulated (also predefined
+     * by calling the corresponding setters).
+     *
+     * @return the execution time in the nanoseconds.
+     * @since 3.2
+     */
+    public long calculateExecutionNanoTime() {
+        return this.endNanos - this.startNanos;
     }
 
 }
@@ -5,6 +5,8 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.Objects;
 import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * The class provides the ability to wrap (as a stream) the execution of the
@@ -17,12 +19,21 @@ import java.util.concurrent.Callable;
  * {@link OutputExecutionResult}. In a method that declares a parameter of the
  * type {@link Runnable}, output of the execution result makes out the
  * appearance in the implementation itself, which will passed to the thread for
- * execution.
+ * execution.<p>For the short tasks the class also provides the measurement
+ * mode with the warmup and measurement iterations, in which the execution time
+ * of each iteration is taken in nanoseconds and output as {@link
+ * ExecutionStatistics} or recorded into a {@link LatencyHistogram}.<p>The
+ * functionality can also be executed with a time limit, in which case the
+ * execution is interrupted when the time limit expires, and its outcome
+ * returned as {@link ExecutionOutcome}.<p>Besides the wall clock time, the
+ * CPU time and the user time of the thread executing the functionality can be
+ * measured as {@link ExecutionCpuTime}, so that the waiting for the processor
+ * is not mistaken for the cost of the functionality.
  * <p>
  * Created by Konstantin Lugowoy on 01.09.2019.
  *
  * @author Konstantin Lugowoy
- * @version 2.3
+ * @version 2.7
  * @since 1.7.4
  */
 //TODO review documentation
@@ -60,12 +71,7 @@ public class Executor {
         Objects.requireNonNull(outputTime, "The output of the time is null");
         ExecutionTime executionTime = new ExecutionTime();
         executionTime.setStartTime();
-        T result;
-        try {
-            result = callable.call();
-        } catch (Exception e) {
-            throw new RuntimeException("Could not get the execution result");
-        }
+        T result = this.call(callable);
         executionTime.setEndTime();
         outputResult.output(result);
         outputTime.output(executionTime.calculateExecutionTime());
@@ -83,31 +89,348 @@ public class Executor {
         Objects.requireNonNull(outputTime, "The output of the time is null");
         ExecutionTime executionTime = new ExecutionTime();
         executionTime.setStartTime();
-        T result;
-        try {
-            result = callable.call();
-        } catch (Exception e) {
-            throw new RuntimeException("Could not get the execution result");
-        }
+        T result = this.call(callable);
         executionTime.setEndTime();
 
         outputResult.output(patternResult, result);
         outputTime.output(executionTime.calculateExecutionTime());
     }
 
+    /**
+     * Executes functionality by wrapping it as an implementation of the {@link
+     * Callable} interface, and measures the memory allocated by the execution
+     * in the current thread and the garbage collections occurred during it.
+     * The result, the execution time and the allocation output using the
+     * corresponding output objects.
+     *
+     * @param <T> the type of the execution result.
+     * @param callable the stream object that executes the functional.
+     * @param outputResult the object to output execution result.
+     * @param outputTime the object to output execution time.
+     * @param outputAllocation the object to output allocation of the
+     * execution.
+     * @throws NullPointerException if the {@code callable}, the {@code
+     * outputResult}, the {@code outputTime} or the {@code outputAllocation} is
+     * {@code null}.
+     * @throws RuntimeException if could not get the result of execution.
+     * @see ExecutionAllocation
+     * @since 3.2
+     */
+    public <T> void execute(@NotNull final Callable<T> callable,
+                            @NotNull final OutputExecutionResult outputResult,
+                            @NotNull final OutputExecutionTime outputTime,
+                            @NotNull final OutputExecutionAllocation outputAllocation) {
+        Objects.requireNonNull(callable, "The thread to execute is null");
+        Objects.requireNonNull(outputResult, "The output of the result is null");
+        Objects.requireNonNull(outputTime, "The output of the time is null");
+        Objects.requireNonNull(outputAllocation,
+                               "The output of the allocation is null");
+        ExecutionTime executionTime = new ExecutionTime();
+        ExecutionAllocation startAllocation = ExecutionAllocation.snapshot();
+        executionTime.setStartTime();
+        T result = this.call(callable);
+        executionTime.setEndTime();
+        ExecutionAllocation allocation = ExecutionAllocation.snapshot().since(
+                startAllocation);
+        outputResult.output(result);
+        outputTime.output(executionTime.calculateExecutionTime());
+        outputAllocation.output(allocation);
+    }
+
+    /**
+     * Executes functionality by wrapping it as an implementation of the {@link
+     * Callable} interface, and outputs the structured record of the execution
+     * with the execution time in nanoseconds, the memory allocated by the
+     * execution in the current thread and the hash code of the result. The
+     * record is intended for the export of many executions for the further
+     * analysis, for example by the {@link OutputExecutionRecordToFile}.
+     *
+     * @param <T> the type of the execution result.
+     * @param callable the stream object that executes the functional.
+     * @param taskId the identifier of the task.
+     * @param inputSize the size of the input of the task.
+     * @param outputRecord the object to output the record of the execution.
+     * @return the result of the execution.
+     * @throws NullPointerException if the {@code callable}, the {@code taskId}
+     * or the {@code outputRecord} is {@code null}.
+     * @throws RuntimeException if could not get the result of execution.
+     * @see ExecutionRecord
+     * @since 3.2
+     */
+    public <T> T execute(@NotNull final Callable<T> callable,
+                         @NotNull final String taskId, final long inputSize,
+                         @NotNull final OutputExecutionRecord outputRecord) {
+        Objects.requireNonNull(callable, "The thread to execute is null");
+        Objects.requireNonNull(taskId, "Task id is null");
+        Objects.requireNonNull(outputRecord, "The output of the record is null");
+        ExecutionAllocation startAllocation = ExecutionAllocation.snapshot();
+        long startNanos = System.nanoTime();
+        T result = this.call(callable);
+        long nanoTime = System.nanoTime() - startNanos;
+        ExecutionAllocation allocation = ExecutionAllocation.snapshot().since(
+                startAllocation);
+        outputRecord.output(new ExecutionRecord(taskId, inputSize, nanoTime,
+                                                allocation.getAllocatedBytes(),
+                                                ExecutionRecord.hashOf(result)));
+        return result;
+    }
+
+    /**
+     * Executes functionality by wrapping it as an implementation of the {@link
+     * Callable} interface, and measures the wall clock time of the execution
+     * together with the CPU time and the user time of the current thread. The
+     * result and the times output using the corresponding output objects. The
+     * method has the distinct name, so that the lambda expressions passed as
+     * the output of the time are not ambiguous with the {@link
+     * Executor#execute(Callable, OutputExecutionResult, OutputExecutionTime)}
+     * method.
+     *
+     * @param <T> the type of the execution result.
+     * @param callable the stream object that executes the functional.
+     * @param outputResult the object to output execution result.
+     * @param outputCpuTime the object to output the times of the execution.
+     * @throws NullPointerException if the {@code callable}, the {@code
+     * outputResult} or the {@code outputCpuTime} is {@code null}.
+     * @throws RuntimeException if could not get the result of execution.
+     * @see ExecutionCpuTime
+     * @since 3.2
+     */
+    public <T> void executeWithCpuTime(
+            @NotNull final Callable<T> callable,
+            @NotNull final OutputExecutionResult outputResult,
+            @NotNull final OutputExecutionCpuTime outputCpuTime) {
+        Objects.requireNonNull(callable, "The thread to execute is null");
+        Objects.requireNonNull(outputResult, "The output of the result is null");
+        Objects.requireNonNull(outputCpuTime,
+                               "The output of the CPU time is null");
+        ExecutionCpuTime start = ExecutionCpuTime.snapshot();
+        T result = this.call(callable);
+        ExecutionCpuTime cpuTime = ExecutionCpuTime.snapshot().since(start);
+        outputResult.output(result);
+        outputCpuTime.output(cpuTime);
+    }
+
+    /**
+     * Executes functionality by wrapping it as an implementation of the {@link
+     * Callable} interface several times, and measures both the wall clock
+     * time and the CPU time of the current thread of each measurement
+     * iteration. The iterations executed as by the {@link
+     * Executor#execute(Callable, int, int, OutputExecutionResult,
+     * OutputExecutionStatistics)} method. The statistics of the wall clock
+     * times and of the CPU times output separately, so that the spread caused
+     * by the scheduling is visible as the difference between them. If the JVM
+     * does not support the measurement of the CPU time, the CPU times are
+     * {@value ExecutionCpuTime#UNSUPPORTED}.
+     *
+     * @param <T> the type of the execution result.
+     * @param callable the stream object that executes the functional.
+     * @param warmupIterations the number of the warmup iterations.
+     * @param measurementIterations the number of the measurement iterations.
+     * @param outputResult the object to output execution result.
+     * @param outputWallStatistics the object to output statistics of the wall
+     * clock times.
+     * @param outputCpuStatistics the object to output statistics of the CPU
+     * times.
+     * @throws NullPointerException if the {@code callable}, the {@code
+     * outputResult}, the {@code outputWallStatistics} or the {@code
+     * outputCpuStatistics} is {@code null}.
+     * @throws IllegalArgumentException if the {@code warmupIterations} is
+     * negative or the {@code measurementIterations} is not positive.
+     * @throws RuntimeException if could not get the result of execution.
+     * @since 3.2
+     */
+    public <T> void execute(@NotNull final Callable<T> callable,
+                            final int warmupIterations,
+                            final int measurementIterations,
+                            @NotNull final OutputExecutionResult outputResult,
+                            @NotNull final OutputExecutionStatistics outputWallStatistics,
+                            @NotNull final OutputExecutionStatistics outputCpuStatistics) {
+        Objects.requireNonNull(callable, "The thread to execute is null");
+        Objects.requireNonNull(outputResult, "The output of the result is null");
+        Objects.requireNonNull(outputWallStatistics,
+                               "The output of the statistics is null");
+        Objects.requireNonNull(outputCpuStatistics,
+                               "The output of the CPU statistics is null");
+        long[] wallNanoTimes = new long[Math.max(measurementIterations, 0)];
+        long[] cpuNanoTimes = new long[wallNanoTimes.length];
+        T result = this.executeIterations(callable, warmupIterations,
+                                          measurementIterations, true,
+                                          (i, nanos, cpuNanos) -> {
+                                              wallNanoTimes[i] = nanos;
+                                              cpuNanoTimes[i] = cpuNanos;
+                                          });
+        outputResult.output(result);
+        outputWallStatistics.output(new ExecutionStatistics(wallNanoTimes));
+        outputCpuStatistics.output(new ExecutionStatistics(cpuNanoTimes));
+    }
+
+    /**
+     * Executes functionality by wrapping it as an implementation of the {@link
+     * Callable} interface several times. At first the functionality executed
+     * {@code warmupIterations} times without the measurement, so that it can
+     * be compiled by the JIT compiler. Then it executed {@code
+     * measurementIterations} times, and the execution time of each iteration
+     * taken in nanoseconds. The result of the last iteration output using the
+     * {@code outputResult}, the statistics of the execution times output using
+     * the {@code outputStatistics}.
+     *
+     * @param <T> the type of the execution result.
+     * @param callable the stream object that executes the functional.
+     * @param warmupIterations the number of the warmup iterations.
+     * @param measurementIterations the number of the measurement iterations.
+     * @param outputResult the object to output execution result.
+     * @param outputStatistics the object to output statistics of the execution
+     * times.
+     * @throws NullPointerException if the {@code callable} is {@code null}.
+     * @throws NullPointerException if the {@code outputResult} is {@code
+     * null}.
+     * @throws NullPointerException if the {@code outputStatistics} is {@code
+     * null}.
+     * @throws IllegalArgumentException if the {@code warmupIterations} is
+     * negative or the {@code measurementIterations} is not positive.
+     * @throws RuntimeException if could not get the result of execution.
+     * @since 3.2
+     */
+    public <T> void execute(@NotNull final Callable<T> callable,
+                            final int warmupIterations,
+                            final int measurementIterations,
+                            @NotNull final OutputExecutionResult outputResult,
+                            @NotNull final OutputExecutionStatistics outputStatistics) {
+        Objects.requireNonNull(callable, "The thread to execute is null");
+        Objects.requireNonNull(outputResult, "The output of the result is null");
+        Objects.requireNonNull(outputStatistics,
+                               "The output of the statistics is null");
+        long[] nanoTimes = new long[Math.max(measurementIterations, 0)];
+        T result = this.executeIterations(callable, warmupIterations,
+                                          measurementIterations, false,
+                                          (i, nanos, cpuNanos) -> nanoTimes[i] = nanos);
+        outputResult.output(result);
+        outputStatistics.output(new ExecutionStatistics(nanoTimes));
+    }
+
+    /**
+     * Executes functionality by wrapping it as an implementation of the {@link
+     * Callable} interface several times, and records the execution time of
+     * each measurement iteration into the {@code histogram}. At first the
+     * functionality executed {@code warmupIterations} times without the
+     * measurement, then {@code measurementIterations} times with it. The
+     * recording does not allocate memory, so the histogram can be recorded
+     * across many calls of this method to accumulate the execution times. The
+     * result of the last iteration output using the {@code outputResult}, the
+     * percentiles of all execution times recorded into the histogram output
+     * using the {@code outputPercentiles}.
+     *
+     * @param <T> the type of the execution result.
+     * @param callable the stream object that executes the functional.
+     * @param warmupIterations the number of the warmup iterations.
+     * @param measurementIterations the number of the measurement iterations.
+     * @param histogram the histogram to record the execution times into.
+     * @param outputResult the object to output execution result.
+     * @param outputPercentiles the object to output percentiles of the
+     * execution times.
+     * @throws NullPointerException if the {@code callable}, the {@code
+     * histogram}, the {@code outputResult} or the {@code outputPercentiles} is
+     * {@code null}.
+     * @throws IllegalArgumentException if the {@code warmupIterations} is
+     * negative or the {@code measurementIterations} is not positive.
+     * @throws RuntimeException if could not get the result of execution.
+     * @since 3.2
+     */
+    public <T> void execute(@NotNull final Callable<T> callable,
+                            final int warmupIterations,
+                            final int measurementIterations,
+                            @NotNull final LatencyHistogram histogram,
+                            @NotNull final OutputExecutionResult outputResult,
+                            @NotNull final OutputExecutionPercentiles outputPercentiles) {
+        Objects.requireNonNull(callable, "The thread to execute is null");
+        Objects.requireNonNull(histogram, "The histogram is null");
+        Objects.requireNonNull(outputResult, "The output of the result is null");
+        Objects.requireNonNull(outputPercentiles,
+                               "The output of the percentiles is null");
+        T result = this.executeIterations(callable, warmupIterations,
+                                          measurementIterations, false,
+                                          (i, nanos, cpuNanos) -> histogram.record(nanos));
+        outputResult.output(result);
+        outputPercentiles.output(histogram);
+    }
+
+    /**
+     * Executes functionality by wrapping it as an implementation of the {@link
+     * Callable} interface with the time limit. The functionality executed in a
+     * separate daemon thread, and this method waits for its completion no
+     * longer than the {@code timeout}. If the execution does not complete
+     * within the time limit, the thread executing it is interrupted and the
+     * {@link ExecutionOutcome.Status#TIMED_OUT} outcome returned without
+     * waiting for the functionality to respond to the interruption. If the
+     * functionality throws an exception, the {@link
+     * ExecutionOutcome.Status#FAILED} outcome with that exception returned.
+     *
+     * @param <T> the type of the execution result.
+     * @param callable the stream object that executes the functional.
+     * @param timeout the maximum time to execute the functional.
+     * @param unit the time unit of the {@code timeout}.
+     * @return the outcome of the execution.
+     * @throws NullPointerException if the {@code callable} or the {@code unit}
+     * is {@code null}.
+     * @throws IllegalArgumentException if the {@code timeout} is not positive.
+     * @throws RuntimeException if interrupted while waiting for the
+     * completion of the execution.
+     * @since 3.2
+     */
+    public <T> ExecutionOutcome<T> execute(@NotNull final Callable<T> callable,
+                                           final long timeout,
+                                           @NotNull final TimeUnit unit) {
+        Objects.requireNonNull(callable, "The thread to execute is null");
+        Objects.requireNonNull(unit, "Time unit is null");
+        if (timeout <= 0) {
+            throw new IllegalArgumentException(
+                    "Not positive value of the timeout");
+        }
+        AtomicReference<ExecutionOutcome<T>> outcome = new AtomicReference<>();
+        long startNanos = System.nanoTime();
+        Thread execution = new Thread(() -> {
+            try {
+                T result = callable.call();
+                outcome.compareAndSet(null, ExecutionOutcome.completed(
+                        result, System.nanoTime() - startNanos));
+            } catch (Throwable ex) {
+                outcome.compareAndSet(null, ExecutionOutcome.failed(
+                        ex, System.nanoTime() - startNanos));
+            }
+        }, "Execution");
+        execution.setDaemon(true);
+        execution.start();
+        try {
+            unit.timedJoin(execution, timeout);
+        } catch (InterruptedException e) {
+            execution.interrupt();
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Execution was interrupted", e);
+        }
+        if (outcome.compareAndSet(null, ExecutionOutcome.timedOut(
+                System.nanoTime() - startNanos))) {
+            execution.interrupt();
+        }
+        return outcome.get();
+    }
+
     /**
      * Executes functionality by wrapping it as an implementation of the {@link
      * Runnable} interface. It also calculated and output execution time by
      * using a class object that implements the interface {@link
-     * OutputExecutionTime} contract.
+     * OutputExecutionTime} contract. The functionality executed in a separate
+     * thread, and this method waits for its completion, so the execution time
+     * includes the whole execution of the functionality. To execute many tasks
+     * without creating a thread for each of them use the {@link
+     * AsyncExecutor}.
      *
      * @param runnable the stream object that executes the functional.
      * @param outputTime the object to output execution time.
      * @throws NullPointerException if the {@code runnable} is {@code null}.
      * @throws NullPointerException if the {@code outputTime} is null.
      * @throws IllegalThreadStateException if the thread was already started.
-     * @throws ArithmeticException if the result time is inexact but the
-     * rounding mode is UNNECESSARY.
+     * @throws RuntimeException if interrupted while waiting for the
+     * completion of the execution.
      */
     public void execute(@NotNull final Runnable runnable,
                         @NotNull final OutputExecutionTime outputTime) {
@@ -117,8 +440,63 @@ public class Executor {
         executionTime.setStartTime();
         Thread execution = new Thread(runnable, "Execution");
         execution.start();
+        try {
+            execution.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Execution was interrupted", e);
+        }
         executionTime.setEndTime();
         outputTime.output(executionTime.calculateExecutionTime());
     }
 
+    private <T> T executeIterations(final Callable<T> callable,
+                                    final int warmupIterations,
+                                    final int measurementIterations,
+                                    final boolean cpuTime,
+                                    final IterationRecorder recorder) {
+        if (warmupIterations < 0) {
+            throw new IllegalArgumentException(
+                    "Negative value of the warmup iterations");
+        }
+        if (measurementIterations <= 0) {
+            throw new IllegalArgumentException(
+                    "Not positive value of the measurement iterations");
+        }
+        T result = null;
+        for (int i = 0; i < warmupIterations; i++) {
+            result = this.call(callable);
+        }
+        long startCpuNanos = ExecutionCpuTime.UNSUPPORTED;
+        long cpuNanos = ExecutionCpuTime.UNSUPPORTED;
+        for (int i = 0; i < measurementIterations; i++) {
+            if (cpuTime) {
+                startCpuNanos = ExecutionCpuTime.currentThreadCpuNanos();
+            }
+            long startNanos = System.nanoTime();
+            result = this.call(callable);
+            long nanos = System.nanoTime() - startNanos;
+            if (cpuTime && startCpuNanos != ExecutionCpuTime.UNSUPPORTED) {
+                cpuNanos = ExecutionCpuTime.currentThreadCpuNanos() - startCpuNanos;
+            }
+            recorder.record(i, nanos, cpuNanos);
+        }
+        return result;
+    }
+
+    private <T> T call(final Callable<T> callable) {
+        try {
+            return callable.call();
+        } catch (Exception e) {
+            throw new RuntimeException("Could not get the execution result", e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface IterationRecorder {
+
+        void record(int iteration, long nanos, long cpuNanos);
+
+    }
+
 }
@@ -0,0 +1,149 @@
+package com.lugowoy.helper.execution;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * The class represents a histogram of the execution times (latencies) in
+ * nanoseconds, used to get the percentiles of the execution times.<p>The
+ * values are counted in the logarithmic buckets: each range of the values from
+ * {@code 2^n} to {@code 2^(n+1)} is divided into {@value #SUB_BUCKETS} equal
+ * sub-buckets, so the relative error of a percentile value is not greater than
+ * {@code 1/}{@value #SUB_BUCKETS}. The values less than {@value #SUB_BUCKETS}
+ * are counted exactly. The memory of the histogram is fixed and allocated once
+ * when the histogram constructed.<p>The recording is lock-free and does not
+ * allocate memory, so the histogram can be shared by several threads and
+ * recorded on every execution in a tight loop. The percentiles read while the
+ * values are recorded reflect some consistent subset of the recorded values.
+ * <p>
+ * Created by Konstantin Lugowoy on 18.10.2026.
+ *
+ * @author Konstantin Lugowoy
+ * @version 1.0
+ * @see com.lugowoy.helper.execution.OutputExecutionPercentiles
+ * @since 3.2
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_MASK = SUB_BUCKETS - 1;
+    private static final int BUCKETS =
+            (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private static final double MAX_PERCENTILE = 100.0;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong maxValue = new AtomicLong();
+
+    /**
+     * Constructs an empty histogram.
+     */
+    public LatencyHistogram() {
+    }
+
+    /**
+     * Records the execution time {@code nanos} into the histogram.
+     *
+     * @param nanos the execution time in nanoseconds.
+     * @throws IllegalArgumentException if the {@code nanos} is negative.
+     */
+    public void record(final long nanos) {
+        if (nanos < 0) {
+            throw new IllegalArgumentException(
+                    "Negative value of the execution time");
+        }
+        this.counts.incrementAndGet(indexOf(nanos));
+        this.totalCount.incrementAndGet();
+        long max = this.maxValue.get();
+        while (nanos > max && !this.maxValue.compareAndSet(max, nanos)) {
+            max = this.maxValue.get();
+        }
+    }
+
+    /**
+     * Gets the number of the recorded values.
+     *
+     * @return the number of the recorded values.
+     */
+    public long getCount() {
+        return this.totalCount.get();
+    }
+
+    /**
+     * Gets the maximum recorded value. The value is exact.
+     *
+     * @return the maximum recorded value in nanoseconds, or {@literal 0} if
+     * the histogram is empty.
+     */
+    public long getMaxNanos() {
+        return this.maxValue.get();
+    }
+
+    /**
+     * Gets the value at the {@code percentile} of the recorded values, namely
+     * the value that is not less than {@code percentile} percent of the
+     * recorded values. The value is the upper bound of the bucket, but not
+     * greater than the maximum recorded value.
+     *
+     * @param percentile the percentile from {@literal 0} to {@literal 100}.
+     * @return the value at the percentile in nanoseconds, or {@literal 0} if
+     * the histogram is empty.
+     * @throws IllegalArgumentException if the {@code percentile} out of the
+     * range from {@literal 0} to {@literal 100}.
+     */
+    public long getValueAtPercentile(final double percentile) {
+        if (!(percentile >= 0 && percentile <= MAX_PERCENTILE)) {
+            throw new IllegalArgumentException(
+                    "Percentile out of range from 0 to 100");
+        }
+        long total = this.totalCount.get();
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(
+                percentile / MAX_PERCENTILE * total));
+        long cumulative = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            cumulative += this.counts.get(i);
+            if (cumulative >= rank) {
+                return Math.min(upperBoundOf(i), this.maxValue.get());
+            }
+        }
+        return this.maxValue.get();
+    }
+
+    /**
+     * Removes all recorded values. The values recorded concurrently with this
+     * call can be partly removed.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            this.counts.set(i, 0);
+        }
+        this.totalCount.set(0);
+        this.maxValue.set(0);
+    }
+
+    private static int indexOf(final long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = (Long.SIZE - 1) - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) & SUB_BUCKET_MASK;
+        return ((shift + 1) << SUB_BUCKET_BITS) + subBucket;
+    }
+
+    private static long upperBoundOf(final int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = (index >>> SUB_BUCKET_BITS) - 1;
+        long subBucket = index & SUB_BUCKET_MASK;
+        long lowerBound = (SUB_BUCKETS + subBucket) << shift;
+        return lowerBound + ((1L << shift) - 1);
+    }
+
+}
@@ -0,0 +1,27 @@
+package com.lugowoy.helper.execution;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The interface declares a contract to output the aggregated report of the
+ * execution of a batch of tasks.
+ * <p>
+ * Created by Konstantin Lugowoy on 18.10.2026.
+ *
+ * @author Konstantin Lugowoy
+ * @version 1.0
+ * @see com.lugowoy.helper.execution.BatchExecutionResult
+ * @since 3.2
+ */
+public interface OutputBatchExecution {
+
+    /**
+     * Outputs the report of the execution of a batch of tasks. The appearance
+     * for outputting the report implemented in a class that implements an
+     * interface contract.
+     *
+     * @param batchResult the result of the execution of a batch to output.
+     */
+    void output(@NotNull BatchExecutionResult<?> batchResult);
+
+}
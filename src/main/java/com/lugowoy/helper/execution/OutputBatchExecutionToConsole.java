@@ -0,0 +1,74 @@
+package com.lugowoy.helper.execution;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The class provides an implementation of the output of the report of the
+ * execution of a batch of tasks on the console, thereby implementing the
+ * contract declared in the interface {@link OutputBatchExecution}.<p>The report
+ * output by one call, without the results of the separate tasks. The times of
+ * the tasks output in the time unit passed to the constructor, microseconds by
+ * default.
+ * <p>
+ * Created by Konstantin Lugowoy on 18.10.2026.
+ *
+ * @author Konstantin Lugowoy
+ * @version 1.0
+ * @since 3.2
+ */
+public final class OutputBatchExecutionToConsole implements OutputBatchExecution {
+
+    private static final String PATTERN_BATCH =
+            "%nBatch of %d tasks: total %d milliseconds, throughput %.3f tasks "
+            + "per second%nTask runtime (%s): min %.3f, mean %.3f, median %.3f, "
+            + "max %.3f, standard deviation %.3f %n";
+
+    private final TimeUnit timeUnit;
+
+    /**
+     * Constructs an object of this class. The times of the tasks output in
+     * microseconds.
+     */
+    public OutputBatchExecutionToConsole() {
+        this(TimeUnit.MICROSECONDS);
+    }
+
+    /**
+     * Constructs an object of this class. The times of the tasks output in the
+     * {@code timeUnit} time unit.
+     *
+     * @param timeUnit the time unit of the times of the tasks.
+     * @throws NullPointerException if the {@code timeUnit} is {@code null}.
+     */
+    public OutputBatchExecutionToConsole(@NotNull final TimeUnit timeUnit) {
+        this.timeUnit = Objects.requireNonNull(timeUnit, "Time unit is null");
+    }
+
+    /**
+     * Outputs the report of the execution of a batch of tasks to the console.
+     *
+     * @param batchResult the result of the execution of a batch to output.
+     * @throws NullPointerException if the {@code batchResult} is {@code
+     * null}.
+     */
+    @Override
+    public void output(@NotNull final BatchExecutionResult<?> batchResult) {
+        Objects.requireNonNull(batchResult, "Batch result is null");
+        ExecutionStatistics statistics = batchResult.getTaskStatistics();
+        double nanosInUnit = this.timeUnit.toNanos(1);
+        System.out.printf(PATTERN_BATCH, batchResult.getTasks(),
+                          TimeUnit.NANOSECONDS.toMillis(
+                                  batchResult.getWallNanoTime()),
+                          batchResult.getThroughput(),
+                          this.timeUnit.name().toLowerCase(),
+                          statistics.getMinNanos() / nanosInUnit,
+                          statistics.getMeanNanos() / nanosInUnit,
+                          statistics.getMedianNanos() / nanosInUnit,
+                          statistics.getMaxNanos() / nanosInUnit,
+                          statistics.getStandardDeviationNanos() / nanosInUnit);
+    }
+
+}
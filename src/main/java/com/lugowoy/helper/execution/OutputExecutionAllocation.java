@@ -0,0 +1,27 @@
+package com.lugowoy.helper.execution;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The interface declares a contract to output the memory allocated by the
+ * execution any task and the garbage collections occurred during it.
+ * <p>
+ * Created by Konstantin Lugowoy on 18.10.2026.
+ *
+ * @author Konstantin Lugowoy
+ * @version 1.0
+ * @see com.lugowoy.helper.execution.ExecutionAllocation
+ * @since 3.2
+ */
+public interface OutputExecutionAllocation {
+
+    /**
+     * Outputs the allocation of the execution. The appearance for outputting
+     * the allocation implemented in a class that implements an interface
+     * contract.
+     *
+     * @param allocation the allocation of the execution to output.
+     */
+    void output(@NotNull ExecutionAllocation allocation);
+
+}
@@ -0,0 +1,52 @@
+package com.lugowoy.helper.execution;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * The class provides an implementation of the output of the allocation of the
+ * execution on the console, thereby implementing the contract declared in the
+ * interface {@link OutputExecutionAllocation}.
+ * <p>
+ * Created by Konstantin Lugowoy on 18.10.2026.
+ *
+ * @author Konstantin Lugowoy
+ * @version 1.0
+ * @since 3.2
+ */
+public final class OutputExecutionAllocationToConsole
+        implements OutputExecutionAllocation {
+
+    private static final String PATTERN_ALLOCATION =
+            "%nAllocated: %d bytes, garbage collections: %d, %d milliseconds %n";
+    private static final String PATTERN_ALLOCATION_UNSUPPORTED =
+            "%nAllocated: not supported, garbage collections: %d, "
+            + "%d milliseconds %n";
+
+    /**
+     * Constructs an object of this class.
+     */
+    public OutputExecutionAllocationToConsole() {
+    }
+
+    /**
+     * Outputs the {@code allocation} of the execution to the console.
+     *
+     * @param allocation the allocation of the execution to output.
+     * @throws NullPointerException if the {@code allocation} is {@code
+     * null}.
+     */
+    @Override
+    public void output(@NotNull final ExecutionAllocation allocation) {
+        Objects.requireNonNull(allocation, "Allocation is null");
+        if (allocation.getAllocatedBytes() == ExecutionAllocation.UNSUPPORTED) {
+            System.out.printf(PATTERN_ALLOCATION_UNSUPPORTED,
+                              allocation.getGcCount(), allocation.getGcMillis());
+        } else {
+            System.out.printf(PATTERN_ALLOCATION, allocation.getAllocatedBytes(),
+                              allocation.getGcCount(), allocation.getGcMillis());
+        }
+    }
+
+}
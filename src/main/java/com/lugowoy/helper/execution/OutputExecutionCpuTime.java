@@ -0,0 +1,26 @@
+package com.lugowoy.helper.execution;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The interface declares a contract to output the wall clock time, the CPU
+ * time and the user time of the execution any task.
+ * <p>
+ * Created by Konstantin Lugowoy on 18.10.2026.
+ *
+ * @author Konstantin Lugowoy
+ * @version 1.0
+ * @see com.lugowoy.helper.execution.ExecutionCpuTime
+ * @since 3.2
+ */
+public interface OutputExecutionCpuTime {
+
+    /**
+     * Outputs the times of the execution. The appearance for outputting the
+     * times implemented in a class that implements an interface contract.
+     *
+     * @param cpuTime the times of the execution to output.
+     */
+    void output(@NotNull ExecutionCpuTime cpuTime);
+
+}
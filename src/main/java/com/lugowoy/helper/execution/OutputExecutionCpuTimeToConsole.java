@@ -0,0 +1,77 @@
+package com.lugowoy.helper.execution;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The class provides an implementation of the output of the wall clock time,
+ * the CPU time and the user time of the execution on the console, thereby
+ * implementing the contract declared in the interface {@link
+ * OutputExecutionCpuTime}. The times are output in the time unit passed to
+ * the constructor.
+ * <p>
+ * Created by Konstantin Lugowoy on 18.10.2026.
+ *
+ * @author Konstantin Lugowoy
+ * @version 1.0
+ * @since 3.2
+ */
+public final class OutputExecutionCpuTimeToConsole
+        implements OutputExecutionCpuTime {
+
+    private static final String PATTERN_CPU_TIME =
+            "%nWall time: %d %s, CPU time: %d %s (user: %d %s, system: %d %s), "
+            + "waiting: %d %s %n";
+    private static final String PATTERN_CPU_TIME_UNSUPPORTED =
+            "%nWall time: %d %s, CPU time: not supported %n";
+
+    private final TimeUnit timeUnit;
+
+    /**
+     * Constructs an object of this class, which outputs the times in
+     * microseconds.
+     */
+    public OutputExecutionCpuTimeToConsole() {
+        this(TimeUnit.MICROSECONDS);
+    }
+
+    /**
+     * Constructs an object of this class, which outputs the times in the
+     * {@code timeUnit}.
+     *
+     * @param timeUnit the time unit of the output times.
+     * @throws NullPointerException if the {@code timeUnit} is {@code null}.
+     */
+    public OutputExecutionCpuTimeToConsole(@NotNull final TimeUnit timeUnit) {
+        this.timeUnit = Objects.requireNonNull(timeUnit, "Time unit is null");
+    }
+
+    /**
+     * Outputs the {@code cpuTime} of the execution to the console.
+     *
+     * @param cpuTime the times of the execution to output.
+     * @throws NullPointerException if the {@code cpuTime} is {@code null}.
+     */
+    @Override
+    public void output(@NotNull final ExecutionCpuTime cpuTime) {
+        Objects.requireNonNull(cpuTime, "CPU time is null");
+        String unit = this.timeUnit.name().toLowerCase();
+        long wall = this.convert(cpuTime.getWallNanos());
+        if (cpuTime.getCpuNanos() == ExecutionCpuTime.UNSUPPORTED) {
+            System.out.printf(PATTERN_CPU_TIME_UNSUPPORTED, wall, unit);
+        } else {
+            System.out.printf(PATTERN_CPU_TIME, wall, unit,
+                              this.convert(cpuTime.getCpuNanos()), unit,
+                              this.convert(cpuTime.getUserNanos()), unit,
+                              this.convert(cpuTime.getSystemNanos()), unit,
+                              this.convert(cpuTime.getWaitNanos()), unit);
+        }
+    }
+
+    private long convert(final long nanos) {
+        return this.timeUnit.convert(nanos, TimeUnit.NANOSECONDS);
+    }
+
+}
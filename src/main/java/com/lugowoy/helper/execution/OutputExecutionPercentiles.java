@@ -0,0 +1,28 @@
+package com.lugowoy.helper.execution;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The interface extends the contract to output the time execution any task by
+ * the output of the percentiles of the execution times recorded into the
+ * {@link LatencyHistogram}.
+ * <p>
+ * Created by Konstantin Lugowoy on 18.10.2026.
+ *
+ * @author Konstantin Lugowoy
+ * @version 1.0
+ * @see com.lugowoy.helper.execution.LatencyHistogram
+ * @since 3.2
+ */
+public interface OutputExecutionPercentiles extends OutputExecutionTime {
+
+    /**
+     * Outputs the percentiles of the execution times recorded into the {@code
+     * histogram}. The appearance for outputting the percentiles implemented in
+     * a class that implements an interface contract.
+     *
+     * @param histogram the histogram of the execution times to output.
+     */
+    void output(@NotNull LatencyHistogram histogram);
+
+}
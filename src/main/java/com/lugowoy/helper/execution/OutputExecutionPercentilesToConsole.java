@@ -0,0 +1,91 @@
+package com.lugowoy.helper.execution;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The class provides an implementation of the output of the percentiles of the
+ * execution times on the console, thereby implementing the contract declares
+ * in the interface {@link OutputExecutionPercentiles}.<p>The output contains
+ * the 50th, 90th, 99th and 99.9th percentiles and the maximum of the execution
+ * times in the time unit passed to the constructor, microseconds by default.
+ * The single execution time output the same way as {@link
+ * OutputExecutionTimeToConsole} does.
+ * <p>
+ * Created by Konstantin Lugowoy on 18.10.2026.
+ *
+ * @author Konstantin Lugowoy
+ * @version 1.0
+ * @since 3.2
+ */
+public final class OutputExecutionPercentilesToConsole
+        implements OutputExecutionPercentiles {
+
+    private static final String PATTERN_PERCENTILES =
+            "%nRuntime of %d executions (%s): p50 %.3f, p90 %.3f, p99 %.3f, "
+            + "p99.9 %.3f, max %.3f %n";
+
+    private static final double P50 = 50.0;
+    private static final double P90 = 90.0;
+    private static final double P99 = 99.0;
+    private static final double P99_9 = 99.9;
+
+    private final OutputExecutionTimeToConsole outputTime =
+            new OutputExecutionTimeToConsole();
+    private final TimeUnit timeUnit;
+
+    /**
+     * Constructs an object of this class. The percentiles output in
+     * microseconds.
+     */
+    public OutputExecutionPercentilesToConsole() {
+        this(TimeUnit.MICROSECONDS);
+    }
+
+    /**
+     * Constructs an object of this class. The percentiles output in the {@code
+     * timeUnit} time unit.
+     *
+     * @param timeUnit the time unit of the output percentiles.
+     * @throws NullPointerException if the {@code timeUnit} is {@code null}.
+     */
+    public OutputExecutionPercentilesToConsole(@NotNull final TimeUnit timeUnit) {
+        this.timeUnit = Objects.requireNonNull(timeUnit, "Time unit is null");
+    }
+
+    /**
+     * Outputs the time {@code milliseconds} of execution. The output is the
+     * same as by {@link OutputExecutionTimeToConsole#output(long)}.
+     *
+     * @param milliseconds the time to output.
+     * @throws IllegalArgumentException if the {@code milliseconds} argument
+     * value is negative.
+     */
+    @Override
+    public void output(final long milliseconds) {
+        this.outputTime.output(milliseconds);
+    }
+
+    /**
+     * Outputs the percentiles of the execution times recorded into the {@code
+     * histogram} to the console.
+     *
+     * @param histogram the histogram of the execution times to output.
+     * @throws NullPointerException if the {@code histogram} is {@code null}.
+     */
+    @Override
+    public void output(@NotNull final LatencyHistogram histogram) {
+        Objects.requireNonNull(histogram, "Histogram is null");
+        double nanosInUnit = this.timeUnit.toNanos(1);
+        System.out.printf(PATTERN_PERCENTILES, histogram.getCount(),
+                          this.timeUnit.name().toLowerCase(),
+                          histogram.getValueAtPercentile(P50) / nanosInUnit,
+                          histogram.getValueAtPercentile(P90) / nanosInUnit,
+                          histogram.getValueAtPercentile(P99) / nanosInUnit,
+                          histogram.getValueAtPercentile(P99_9) / nanosInUnit,
+                          histogram.getMaxNanos() / nanosInUnit);
+    }
+
+}
@@ -0,0 +1,26 @@
+package com.lugowoy.helper.execution;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The interface declares a contract to output the structured record of the
+ * execution any task.
+ * <p>
+ * Created by Konstantin Lugowoy on 18.10.2026.
+ *
+ * @author Konstantin Lugowoy
+ * @version 1.0
+ * @see com.lugowoy.helper.execution.ExecutionRecord
+ * @since 3.2
+ */
+public interface OutputExecutionRecord {
+
+    /**
+     * Outputs the record of the execution. The appearance for outputting the
+     * record implemented in a class that implements an interface contract.
+     *
+     * @param record the record of the execution to output.
+     */
+    void output(@NotNull ExecutionRecord record);
+
+}
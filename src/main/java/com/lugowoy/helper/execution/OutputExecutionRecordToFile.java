@@ -0,0 +1,314 @@
+package com.lugowoy.helper.execution;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The class provides an implementation of the output of the structured
+ * records of the executions to a file in the {@link ExecutionRecordFormat},
+ * thereby implementing the contracts declared in the interfaces {@link
+ * OutputExecutionRecord}, {@link OutputExecutionResult} and {@link
+ * OutputExecutionTime}.<p>The records are appended to the file through the
+ * {@link FileChannel}. Each record is formatted into a reusable buffer and
+ * encoded into a direct byte buffer, which is written to the channel only when
+ * it is filled, so writing a record neither allocates the buffers nor calls
+ * the operating system. The written data are forced to the storage device
+ * (fsync) not more often than once per the sync interval, on the {@link
+ * OutputExecutionRecordToFile#flush()} and on the {@link
+ * OutputExecutionRecordToFile#close()}, so that a crash loses only the records
+ * of the last interval. The header of the format is written only to the empty
+ * file.<p>To output the records by the methods of {@link
+ * OutputExecutionResult} and {@link OutputExecutionTime}, the identifier and
+ * the input size of the task are set by the {@link
+ * OutputExecutionRecordToFile#setTask(String, long)} method. The output of the
+ * result keeps its hash code, and the following output of the time writes the
+ * record. The number of the allocated bytes of such record is {@value
+ * ExecutionAllocation#UNSUPPORTED}, and the execution time is converted from
+ * milliseconds. The full records are output by the {@link
+ * Executor#execute(java.util.concurrent.Callable, String, long,
+ * OutputExecutionRecord)} method.<p>The object of this class can be used by
+ * several threads, each record is written as a whole.
+ * <p>
+ * Created by Konstantin Lugowoy on 18.10.2026.
+ *
+ * @author Konstantin Lugowoy
+ * @version 1.0
+ * @see com.lugowoy.helper.execution.ExecutionRecord
+ * @since 3.2
+ */
+public class OutputExecutionRecordToFile implements OutputExecutionRecord,
+        OutputExecutionResult, OutputExecutionTime, Flushable, AutoCloseable {
+
+    /**
+     * The default size of the buffer in bytes.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+    /**
+     * The default interval between the forcing of the data to the storage
+     * device in milliseconds.
+     */
+    public static final long DEFAULT_SYNC_INTERVAL_MILLIS = 1000;
+
+    private static final String DEFAULT_TASK_ID = "";
+    private static final long UNKNOWN_INPUT_SIZE = -1L;
+
+    private final FileChannel channel;
+    private final ExecutionRecordFormat format;
+    private final ByteBuffer buffer;
+    private final CharsetEncoder encoder;
+    private final StringBuilder line;
+    private final long syncIntervalNanos;
+
+    private long lastSyncNanos;
+    private boolean isDirty;
+    private boolean isClosed;
+    private String taskId = DEFAULT_TASK_ID;
+    private long inputSize = UNKNOWN_INPUT_SIZE;
+    private int resultHash;
+
+    /**
+     * Constructs an object of this class, which appends the records to the
+     * {@code file} in the {@code format} with the default buffer size and sync
+     * interval. The file is created if it does not exist.
+     *
+     * @param file the file to append the records.
+     * @param format the format of the records.
+     * @throws NullPointerException if the {@code file} or the {@code format} is
+     * {@code null}.
+     * @throws IOException if the file could not be opened.
+     */
+    public OutputExecutionRecordToFile(@NotNull final Path file,
+                                       @NotNull final ExecutionRecordFormat format)
+            throws IOException {
+        this(file, format, DEFAULT_BUFFER_SIZE, DEFAULT_SYNC_INTERVAL_MILLIS,
+             TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Constructs an object of this class, which appends the records to the
+     * {@code file} in the {@code format}. The file is created if it does not
+     * exist.
+     *
+     * @param file the file to append the records.
+     * @param format the format of the records.
+     * @param bufferSize the size of the buffer in bytes.
+     * @param syncInterval the minimum interval between the forcing of the data
+     * to the storage device.
+     * @param unit the time unit of the {@code syncInterval}.
+     * @throws NullPointerException if the {@code file}, the {@code format} or
+     * the {@code unit} is {@code null}.
+     * @throws IllegalArgumentException if the {@code bufferSize} is not
+     * positive or the {@code syncInterval} is negative.
+     * @throws IOException if the file could not be opened.
+     */
+    public OutputExecutionRecordToFile(@NotNull final Path file,
+                                       @NotNull final ExecutionRecordFormat format,
+                                       final int bufferSize,
+                                       final long syncInterval,
+                                       @NotNull final TimeUnit unit)
+            throws IOException {
+        Objects.requireNonNull(file, "File is null");
+        Objects.requireNonNull(format, "Format is null");
+        Objects.requireNonNull(unit, "Time unit is null");
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException(
+                    "Not positive value of the buffer size");
+        }
+        if (syncInterval < 0) {
+            throw new IllegalArgumentException(
+                    "Negative value of the sync interval");
+        }
+        this.format = format;
+        this.buffer = ByteBuffer.allocateDirect(bufferSize);
+        this.encoder = StandardCharsets.UTF_8.newEncoder();
+        this.line = new StringBuilder();
+        this.syncIntervalNanos = unit.toNanos(syncInterval);
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                                        StandardOpenOption.WRITE,
+                                        StandardOpenOption.APPEND);
+        try {
+            if (format.getHeader() != null && this.channel.size() == 0) {
+                this.line.append(format.getHeader()).append('\n');
+                this.encodeLine();
+            }
+        } catch (IOException | RuntimeException ex) {
+            this.channel.close();
+            throw ex;
+        }
+        this.lastSyncNanos = System.nanoTime();
+    }
+
+    /**
+     * Sets the identifier and the input size of the task of the records
+     * output by the methods of {@link OutputExecutionResult} and {@link
+     * OutputExecutionTime}.
+     *
+     * @param taskId the identifier of the task.
+     * @param inputSize the size of the input of the task.
+     * @throws NullPointerException if the {@code taskId} is {@code null}.
+     */
+    public synchronized void setTask(@NotNull final String taskId,
+                                     final long inputSize) {
+        this.taskId = Objects.requireNonNull(taskId, "Task id is null");
+        this.inputSize = inputSize;
+    }
+
+    /**
+     * Appends the {@code record} to the file.
+     *
+     * @param record the record of the execution to output.
+     * @throws NullPointerException if the {@code record} is {@code null}.
+     * @throws IllegalStateException if the output is closed.
+     * @throws UncheckedIOException if the record could not be written.
+     */
+    @Override
+    public synchronized void output(@NotNull final ExecutionRecord record) {
+        Objects.requireNonNull(record, "Record is null");
+        this.checkNotClosed();
+        this.line.setLength(0);
+        this.format.append(this.line, record);
+        try {
+            this.encodeLine();
+            long nowNanos = System.nanoTime();
+            if (nowNanos - this.lastSyncNanos >= this.syncIntervalNanos) {
+                this.sync(nowNanos);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Keeps the hash code of the {@code resultValue} for the record written by
+     * the next output of the time.
+     *
+     * @param <T> the type of the result of the execution.
+     * @param resultValue the result to output.
+     */
+    @Override
+    public synchronized <T> void output(final T resultValue) {
+        this.resultHash = ExecutionRecord.hashOf(resultValue);
+    }
+
+    /**
+     * Keeps the hash code of the {@code resultValues} for the record written
+     * by the next output of the time. The {@code patternResult} is not used.
+     *
+     * @param <T> the type of the result values of the execution.
+     * @param patternResult the pattern appearance of the result.
+     * @param resultValues the result values to output.
+     */
+    @SuppressWarnings("unchecked")
+    //Possible heap pollution from parameterized vararg type
+    @Override
+    public synchronized <T> void output(final String patternResult,
+                                        final T... resultValues) {
+        this.resultHash = ExecutionRecord.hashOf(resultValues);
+    }
+
+    /**
+     * Appends the record of the current task with the execution time {@code
+     * milliseconds} and the hash code of the last output result to the file.
+     *
+     * @param milliseconds the time of the execution to output.
+     * @throws IllegalStateException if the output is closed.
+     * @throws UncheckedIOException if the record could not be written.
+     */
+    @Override
+    public synchronized void output(final long milliseconds) {
+        this.output(new ExecutionRecord(this.taskId, this.inputSize,
+                                        TimeUnit.MILLISECONDS.toNanos(milliseconds),
+                                        ExecutionAllocation.UNSUPPORTED,
+                                        this.resultHash));
+        this.resultHash = 0;
+    }
+
+    /**
+     * Writes the buffered records to the file and forces them to the storage
+     * device.
+     *
+     * @throws IOException if the records could not be written.
+     * @throws IllegalStateException if the output is closed.
+     */
+    @Override
+    public synchronized void flush() throws IOException {
+        this.checkNotClosed();
+        this.sync(System.nanoTime());
+    }
+
+    /**
+     * Writes the buffered records to the file, forces them to the storage
+     * device and closes the file. The repeated closing has no effect.
+     *
+     * @throws IOException if the records could not be written or the file
+     * could not be closed.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (this.isClosed) {
+            return;
+        }
+        this.isClosed = true;
+        try {
+            this.sync(System.nanoTime());
+        } finally {
+            this.channel.close();
+        }
+    }
+
+    private void encodeLine() throws IOException {
+        CharBuffer chars = CharBuffer.wrap(this.line);
+        this.encoder.reset();
+        CoderResult result;
+        do {
+            result = this.encoder.encode(chars, this.buffer, true);
+            if (result.isOverflow()) {
+                this.writeBuffer();
+            } else if (result.isError()) {
+                result.throwException();
+            }
+        } while (result.isOverflow());
+        while (this.encoder.flush(this.buffer).isOverflow()) {
+            this.writeBuffer();
+        }
+        this.isDirty = true;
+    }
+
+    private void writeBuffer() throws IOException {
+        this.buffer.flip();
+        while (this.buffer.hasRemaining()) {
+            this.channel.write(this.buffer);
+        }
+        this.buffer.clear();
+    }
+
+    private void sync(final long nowNanos) throws IOException {
+        if (this.isDirty) {
+            this.writeBuffer();
+            this.channel.force(false);
+            this.isDirty = false;
+        }
+        this.lastSyncNanos = nowNanos;
+    }
+
+    private void checkNotClosed() {
+        if (this.isClosed) {
+            throw new IllegalStateException("Output is closed");
+        }
+    }
+
+}
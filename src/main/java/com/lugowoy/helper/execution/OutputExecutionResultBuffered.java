@@ -0,0 +1,384 @@
+package com.lugowoy.helper.execution;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Formatter;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The class provides an implementation of the buffered asynchronous output of
+ * the execution result, thereby implementing the contract declared in the
+ * interface {@link OutputExecutionResult}.<p>The results are formatted into a
+ * reusable buffer (block) in the calling thread. When the block is filled, it
+ * is passed to the queue of the background thread, which writes it to the sink
+ * in one call. The number of the blocks waiting in the queue is bounded: if the
+ * queue is full, the output waits until the background thread writes a block.
+ * The blocks are reused, so after the start the output does not allocate the
+ * buffers.<p>The sink is the console ({@link System#out}), a file or any
+ * {@link Writer}. The partly filled block is written by calling the {@link
+ * OutputExecutionResultBuffered#flush()} method, and all the results are
+ * written when the output is closed by the {@link
+ * OutputExecutionResultBuffered#close()} method. The results are output with
+ * the same patterns as by the {@link OutputExecutionResultToConsole}.<p>If the
+ * sink fails, the background thread discards the following blocks, so the
+ * output never waits for it, and the failure is thrown by the next call of
+ * the output.<p>The object of this class can be used by several threads.
+ * <p>
+ * Created by Konstantin Lugowoy on 18.10.2026.
+ *
+ * @author Konstantin Lugowoy
+ * @version 1.1
+ * @see com.lugowoy.helper.execution.OutputExecutionResult
+ * @since 3.2
+ */
+public class OutputExecutionResultBuffered
+        implements OutputExecutionResult, Flushable, AutoCloseable {
+
+    /**
+     * The default size of a block in characters.
+     */
+    public static final int DEFAULT_BLOCK_SIZE = 1 << 16;
+
+    /**
+     * The default number of the blocks waiting in the queue to be written.
+     */
+    public static final int DEFAULT_QUEUE_CAPACITY = 8;
+
+    private static final StringBuilder END_OF_OUTPUT = new StringBuilder(0);
+
+    private static final long WAIT_MILLIS = 100;
+
+    private final Writer writer;
+    private final boolean isWriterClosed;
+    private final int blockSize;
+    private final BlockingQueue<StringBuilder> filledBlocks;
+    private final BlockingQueue<StringBuilder> freeBlocks;
+    private final StringBuilder formatBuffer;
+    private final Formatter formatter;
+    private final Thread writerThread;
+    private final Object writtenMonitor = new Object();
+
+    private StringBuilder currentBlock;
+    private long submittedBlocks;
+    private long flushedBlocks;
+    private volatile long flushRequestedBlocks;
+    private volatile IOException writeException;
+    private boolean isClosed;
+
+    /**
+     * Constructs an object of this class, which outputs the results to the
+     * console with the default block size and queue capacity. Closing this
+     * output does not close the {@link System#out}.
+     */
+    public OutputExecutionResultBuffered() {
+        this(new OutputStreamWriter(System.out, Charset.defaultCharset()),
+             false, DEFAULT_BLOCK_SIZE, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    /**
+     * Constructs an object of this class, which outputs the results to the
+     * {@code file} in the UTF-8 encoding with the default block size and queue
+     * capacity. The file is created or truncated.
+     *
+     * @param file the file to output the results.
+     * @throws NullPointerException if the {@code file} is {@code null}.
+     * @throws IOException if the file could not be opened.
+     */
+    public OutputExecutionResultBuffered(@NotNull final Path file)
+            throws IOException {
+        this(Files.newBufferedWriter(Objects.requireNonNull(file, "File is null"),
+                                     StandardCharsets.UTF_8),
+             true, DEFAULT_BLOCK_SIZE, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    /**
+     * Constructs an object of this class, which outputs the results to the
+     * {@code writer}. The writer is closed when this output is closed.
+     *
+     * @param writer the writer to output the results.
+     * @param blockSize the size of a block in characters.
+     * @param queueCapacity the maximum number of the blocks waiting in the
+     * queue to be written.
+     * @throws NullPointerException if the {@code writer} is {@code null}.
+     * @throws IllegalArgumentException if the {@code blockSize} or the {@code
+     * queueCapacity} is not positive.
+     */
+    public OutputExecutionResultBuffered(@NotNull final Writer writer,
+                                         final int blockSize,
+                                         final int queueCapacity) {
+        this(writer, true, blockSize, queueCapacity);
+    }
+
+    private OutputExecutionResultBuffered(final Writer writer,
+                                          final boolean isWriterClosed,
+                                          final int blockSize,
+                                          final int queueCapacity) {
+        Objects.requireNonNull(writer, "Writer is null");
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException(
+                    "Not positive value of the block size");
+        }
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException(
+                    "Not positive value of the queue capacity");
+        }
+        this.writer = writer;
+        this.isWriterClosed = isWriterClosed;
+        this.blockSize = blockSize;
+        this.filledBlocks = new ArrayBlockingQueue<>(queueCapacity + 1);
+        this.freeBlocks = new ArrayBlockingQueue<>(queueCapacity + 1);
+        for (int i = 0; i < queueCapacity + 1; i++) {
+            this.freeBlocks.add(new StringBuilder(blockSize));
+        }
+        this.currentBlock = new StringBuilder(blockSize);
+        this.formatBuffer = new StringBuilder();
+        this.formatter = new Formatter(this.formatBuffer);
+        this.writerThread = new Thread(this::writeBlocks, "Output-Execution-Result");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    /**
+     * Outputs the result {@code resultValue} of the execution, formatting its
+     * appearance with the {@link
+     * OutputExecutionResultToConsole#PATTERN_RESULT_STRING} pattern.
+     *
+     * @param <T> the type of the result of the execution.
+     * @param resultValue the result to output.
+     * @throws IllegalStateException if the output is closed.
+     * @throws UncheckedIOException if the previous block could not be
+     * written.
+     */
+    @Override
+    public <T> void output(final T resultValue) {
+        this.format(OutputExecutionResultToConsole.PATTERN_RESULT_STRING,
+                    resultValue);
+    }
+
+    /**
+     * Outputs the result values of execution, formatting its appearance as a
+     * {@code patternResult} string.
+     *
+     * @param <T> the type of the result values of the execution.
+     * @param patternResult the pattern appearance of the result.
+     * @param resultValues the result values to output.
+     * @throws IllegalStateException if the output is closed.
+     * @throws UncheckedIOException if the previous block could not be
+     * written.
+     */
+    @SuppressWarnings("unchecked")
+    //Possible heap pollution from parameterized vararg type
+    @Override
+    public <T> void output(final String patternResult,
+                           final T... resultValues) {
+        this.format(patternResult, (Object[]) resultValues);
+    }
+
+    /**
+     * Writes the results output before this call to the sink, and flushes the
+     * sink. This method waits until the results are written.
+     *
+     * @throws IOException if the results could not be written.
+     */
+    @Override
+    public void flush() throws IOException {
+        long blocksToFlush;
+        synchronized (this) {
+            if (this.isClosed) {
+                return;
+            }
+            this.flushRequestedBlocks = this.submittedBlocks + 1;
+            if (this.currentBlock.length() > 0) {
+                this.submitCurrentBlock();
+            } else {
+                this.submitBlock(this.takeFreeBlock());
+            }
+            blocksToFlush = this.submittedBlocks;
+        }
+        this.awaitFlushed(blocksToFlush);
+        this.rethrowWriteException();
+    }
+
+    /**
+     * Writes all the output results to the sink, stops the background thread
+     * and closes the sink (except for the console). Repeated calls have no
+     * effect.
+     *
+     * @throws IOException if the results could not be written or the sink
+     * could not be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            if (this.isClosed) {
+                return;
+            }
+            if (this.currentBlock.length() > 0) {
+                this.submitCurrentBlock();
+            }
+            this.isClosed = true;
+            if (this.writerThread.isAlive()) {
+                this.putFilledBlock(END_OF_OUTPUT);
+            }
+        }
+        try {
+            this.writerThread.join();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while closing the output", ex);
+        }
+        if (this.isWriterClosed) {
+            this.writer.close();
+        } else {
+            this.writer.flush();
+        }
+        this.rethrowWriteException();
+    }
+
+    private synchronized void format(final String pattern,
+                                     final Object... values) {
+        this.checkNotClosed();
+        this.checkWriteException();
+        this.formatBuffer.setLength(0);
+        this.formatter.format(pattern, values);
+        this.currentBlock.append(this.formatBuffer);
+        if (this.currentBlock.length() >= this.blockSize) {
+            this.submitCurrentBlock();
+        }
+    }
+
+    private void submitCurrentBlock() {
+        StringBuilder block = this.currentBlock;
+        this.currentBlock = this.takeFreeBlock();
+        this.submitBlock(block);
+    }
+
+    private void submitBlock(final StringBuilder block) {
+        this.putFilledBlock(block);
+        this.submittedBlocks++;
+    }
+
+    /*
+     * The waits for the queues are bounded, so that the output fails instead
+     * of waiting forever if the background thread is terminated.
+     */
+    private StringBuilder takeFreeBlock() {
+        try {
+            StringBuilder block;
+            while ((block = this.freeBlocks.poll(WAIT_MILLIS,
+                                                 TimeUnit.MILLISECONDS))
+                   == null) {
+                this.checkWriterThreadAlive();
+            }
+            return block;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting", ex);
+        }
+    }
+
+    private void putFilledBlock(final StringBuilder block) {
+        try {
+            while (!this.filledBlocks.offer(block, WAIT_MILLIS,
+                                            TimeUnit.MILLISECONDS)) {
+                this.checkWriterThreadAlive();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting", ex);
+        }
+    }
+
+    private void awaitFlushed(final long blocksToFlush) throws IOException {
+        synchronized (this.writtenMonitor) {
+            while (this.flushedBlocks < blocksToFlush
+                   && this.writerThread.isAlive()) {
+                try {
+                    this.writtenMonitor.wait();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Interrupted while flushing", ex);
+                }
+            }
+        }
+    }
+
+    private void writeBlocks() {
+        long writtenBlocks = 0;
+        while (true) {
+            StringBuilder block;
+            try {
+                block = this.filledBlocks.take();
+            } catch (InterruptedException ex) {
+                return;
+            }
+            if (block == END_OF_OUTPUT) {
+                return;
+            }
+            writtenBlocks++;
+            boolean isFlushed = this.filledBlocks.isEmpty()
+                                || writtenBlocks == this.flushRequestedBlocks;
+            try {
+                if (this.writeException == null) {
+                    this.writer.append(block);
+                    if (isFlushed) {
+                        this.writer.flush();
+                    }
+                }
+            } catch (IOException ex) {
+                this.writeException = ex;
+            } catch (RuntimeException ex) {
+                this.writeException = new IOException(
+                        "Could not write the results", ex);
+            }
+            block.setLength(0);
+            this.freeBlocks.add(block);
+            if (isFlushed || this.writeException != null) {
+                synchronized (this.writtenMonitor) {
+                    this.flushedBlocks = writtenBlocks;
+                    this.writtenMonitor.notifyAll();
+                }
+            }
+        }
+    }
+
+    private void checkNotClosed() {
+        if (this.isClosed) {
+            throw new IllegalStateException("Output is closed");
+        }
+    }
+
+    private void checkWriterThreadAlive() {
+        if (!this.writerThread.isAlive()) {
+            this.checkWriteException();
+            throw new IllegalStateException("Output thread is terminated");
+        }
+    }
+
+    private void checkWriteException() {
+        IOException ex = this.writeException;
+        if (ex != null) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void rethrowWriteException() throws IOException {
+        IOException ex = this.writeException;
+        if (ex != null) {
+            throw ex;
+        }
+    }
+
+}
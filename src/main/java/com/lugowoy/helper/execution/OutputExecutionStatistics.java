@@ -0,0 +1,28 @@
+package com.lugowoy.helper.execution;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The interface extends the contract to output the time execution any task by
+ * the output of the statistics of the execution times of a task executed
+ * several times.
+ * <p>
+ * Created by Konstantin Lugowoy on 18.10.2026.
+ *
+ * @author Konstantin Lugowoy
+ * @version 1.0
+ * @see com.lugowoy.helper.execution.ExecutionStatistics
+ * @since 3.2
+ */
+public interface OutputExecutionStatistics extends OutputExecutionTime {
+
+    /**
+     * Outputs the statistics of the execution times. The appearance for
+     * outputting the statistics implemented in a class that implements an
+     * interface contract.
+     *
+     * @param statistics the statistics of the execution times to output.
+     */
+    void output(@NotNull ExecutionStatistics statistics);
+
+}
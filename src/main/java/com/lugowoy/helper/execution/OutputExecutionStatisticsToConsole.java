@@ -0,0 +1,84 @@
+package com.lugowoy.helper.execution;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The class provides an implementation of the output of the execution time
+ * statistics on the console, thereby implementing the contract declares in the
+ * interface {@link OutputExecutionStatistics}.<p>The statistics values output
+ * in the time unit passed to the constructor, microseconds by default. The
+ * single execution time output the same way as {@link
+ * OutputExecutionTimeToConsole} does.
+ * <p>
+ * Created by Konstantin Lugowoy on 18.10.2026.
+ *
+ * @author Konstantin Lugowoy
+ * @version 1.0
+ * @since 3.2
+ */
+public final class OutputExecutionStatisticsToConsole
+        implements OutputExecutionStatistics {
+
+    private static final String PATTERN_STATISTICS =
+            "%nRuntime of %d iterations (%s): min %.3f, mean %.3f, "
+            + "median %.3f, standard deviation %.3f %n";
+
+    private final OutputExecutionTimeToConsole outputTime =
+            new OutputExecutionTimeToConsole();
+    private final TimeUnit timeUnit;
+
+    /**
+     * Constructs an object of this class. The statistics output in
+     * microseconds.
+     */
+    public OutputExecutionStatisticsToConsole() {
+        this(TimeUnit.MICROSECONDS);
+    }
+
+    /**
+     * Constructs an object of this class. The statistics output in the {@code
+     * timeUnit} time unit.
+     *
+     * @param timeUnit the time unit of the output statistics.
+     * @throws NullPointerException if the {@code timeUnit} is {@code null}.
+     */
+    public OutputExecutionStatisticsToConsole(@NotNull final TimeUnit timeUnit) {
+        this.timeUnit = Objects.requireNonNull(timeUnit, "Time unit is null");
+    }
+
+    /**
+     * Outputs the time {@code milliseconds} of execution. The output is the
+     * same as by {@link OutputExecutionTimeToConsole#output(long)}.
+     *
+     * @param milliseconds the time to output.
+     * @throws IllegalArgumentException if the {@code milliseconds} argument
+     * value is negative.
+     */
+    @Override
+    public void output(final long milliseconds) {
+        this.outputTime.output(milliseconds);
+    }
+
+    /**
+     * Outputs the {@code statistics} of the execution times to the console.
+     *
+     * @param statistics the statistics of the execution times to output.
+     * @throws NullPointerException if the {@code statistics} is {@code
+     * null}.
+     */
+    @Override
+    public void output(@NotNull final ExecutionStatistics statistics) {
+        Objects.requireNonNull(statistics, "Statistics is null");
+        double nanosInUnit = this.timeUnit.toNanos(1);
+        System.out.printf(PATTERN_STATISTICS, statistics.getIterations(),
+                          this.timeUnit.name().toLowerCase(),
+                          statistics.getMinNanos() / nanosInUnit,
+                          statistics.getMeanNanos() / nanosInUnit,
+                          statistics.getMedianNanos() / nanosInUnit,
+                          statistics.getStandardDeviationNanos() / nanosInUnit);
+    }
+
+}
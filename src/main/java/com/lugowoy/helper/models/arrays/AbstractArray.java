@@ -2,9 +2,11 @@ package com.lugowoy.helper.models.arrays;
 
 import com.lugowoy.helper.checkers.CheckerArray;
 import com.lugowoy.helper.checkers.CheckerBoundNumber;
+import com.lugowoy.helper.checkers.CheckerIndex;
 import com.lugowoy.helper.models.Model;
 import com.lugowoy.helper.utils.Capacity;
 import com.lugowoy.helper.utils.LengthOutOfRangeException;
+import org.jetbrains.annotations.NotNull;
 
 import java.util.Objects;
 import java.util.RandomAccess;
@@ -19,7 +21,7 @@ import java.util.RandomAccess;
  * Created by Konstantin Lugowoy on 16.10.2019.
  *
  * @author Konstantin Lugowoy
- * @version 2.5
+ * @version 2.9
  * @since 2.0
  */
 //TODO review documentation
@@ -36,9 +38,24 @@ public abstract class AbstractArray implements Model, RandomAccess {
 
     protected static final int START_MOD_COUNT = 0;
 
+    /**
+     * The number of the elements of the argument of the bulk removal, above
+     * which the elements are looked up through a hash table or a sorted copy
+     * instead of the linear search.
+     *
+     * @since 3.2
+     */
+    protected static final int BULK_LOOKUP_THRESHOLD = 16;
+
     private int size = START_SIZE;
     private int modCount = START_MOD_COUNT;
 
+    /*
+     * The growth policy is not serialized, the deserialized array grows by
+     * the default policy.
+     */
+    private transient GrowthPolicy growthPolicy;
+
     /**
      * Constructs an object of an array (for the heir class).
      */
@@ -91,6 +108,27 @@ public abstract class AbstractArray implements Model, RandomAccess {
 
     protected abstract void ensureCapacity();
 
+    /**
+     * Increases the capacity of an array, if necessary, so that it can hold at
+     * least the {@code minCapacity} elements without the reallocation. The new
+     * capacity is calculated by the growth policy of an array.<p>The heir
+     * classes storing their elements in the resizable storage override this
+     * method, the default implementation does not support the reservation of
+     * the capacity.
+     *
+     * @param minCapacity the required capacity.
+     * @throws LengthOutOfRangeException if the {@code minCapacity} value out of
+     * range from {@link Capacity#LOWER} to {@link Capacity#UPPER}.
+     * @throws UnsupportedOperationException if the heir class does not
+     * override this method.
+     * @since 3.2
+     */
+    public void ensureCapacity(final int minCapacity) {
+        throw new UnsupportedOperationException(
+                "The capacity of " + this.getClass().getName()
+                + " can not be reserved");
+    }
+
     protected abstract void trimToSize();
 
     /**
@@ -170,6 +208,96 @@ public abstract class AbstractArray implements Model, RandomAccess {
         }
     }
 
+    /**
+     * Checks that the range from {@code fromIndex}(inclusive) to {@code
+     * toIndex}(exclusive) lies within the size of an array.
+     *
+     * @param fromIndex the index of the first element of the range.
+     * @param toIndex the index after the last element of the range.
+     * @throws IndexOutOfBoundsException if the {@code fromIndex} or the {@code
+     * toIndex} is out of range ({@code fromIndex < 0 || toIndex > size()}).
+     * @throws com.lugowoy.helper.utils.BoundsComparisonException if the
+     * {@code fromIndex} is greater than the {@code toIndex}.
+     * @since 3.2
+     */
+    protected void checkRange(final int fromIndex, final int toIndex) {
+        CheckerIndex.checkInRange(fromIndex, this.size + 1);
+        CheckerIndex.checkInRange(toIndex, this.size + 1);
+        CheckerBoundNumber.checkLowerLessOrEqualUpper(fromIndex, toIndex);
+    }
+
+    /**
+     * Gets the policy by which the capacity of an array grows.
+     *
+     * @return the growth policy of an array, {@link GrowthPolicy#doubling()}
+     * by default.
+     * @since 3.2
+     */
+    public GrowthPolicy getGrowthPolicy() {
+        if (this.growthPolicy == null) {
+            this.growthPolicy = GrowthPolicy.doubling();
+        }
+        return this.growthPolicy;
+    }
+
+    /**
+     * Sets the policy by which the capacity of an array grows.
+     *
+     * @param growthPolicy the growth policy of an array.
+     * @throws NullPointerException if the {@code growthPolicy} is {@code
+     * null}.
+     * @since 3.2
+     */
+    public void setGrowthPolicy(@NotNull final GrowthPolicy growthPolicy) {
+        this.growthPolicy = Objects.requireNonNull(growthPolicy,
+                                                   "Growth policy is null");
+    }
+
+    /**
+     * Calculates the capacity of an array that must hold at least the {@code
+     * minCapacity} elements by the growth policy of an array. The capacity
+     * proposed by the policy is brought into range from the {@code
+     * minCapacity}, but not less than {@link AbstractArray#DEFAULT_CAPACITY},
+     * to {@link Capacity#UPPER}.
+     *
+     * @param capacity the current capacity of an array.
+     * @param minCapacity the required capacity.
+     * @return the new capacity.
+     * @throws LengthOutOfRangeException if the {@code minCapacity} value out of
+     * range from {@link Capacity#LOWER} to {@link Capacity#UPPER}.
+     * @since 3.2
+     */
+    protected int grownCapacity(final int capacity, final int minCapacity) {
+        CheckerArray.check(minCapacity);
+        int newCapacity = this.getGrowthPolicy().grow(capacity, minCapacity);
+        if (newCapacity < minCapacity) {
+            newCapacity = Math.max(minCapacity, DEFAULT_CAPACITY);
+        }
+        return Math.min(newCapacity, Capacity.UPPER.get());
+    }
+
+    /**
+     * Calculates the capacity of an array after the removal of elements. The
+     * capacity is reduced only when the {@code size} drops below a quarter of
+     * the {@code capacity}, and then to twice the {@code size}, but not less
+     * than {@link AbstractArray#DEFAULT_CAPACITY}, so that the alternating
+     * additions and removals do not reallocate the array each time. It is
+     * applied only by the bulk removals, so that the removal of a single
+     * element keeps the capacity reserved by {@link #ensureCapacity(int)}.
+     *
+     * @param size the size of an array after the removal.
+     * @param capacity the current capacity of an array.
+     * @return the new capacity, or the {@code capacity} if the array should
+     * not be shrunk.
+     * @since 3.2
+     */
+    protected static int shrunkCapacity(final int size, final int capacity) {
+        if (capacity > DEFAULT_CAPACITY && size < (capacity >>> 2)) {
+            return Math.max(size << 1, DEFAULT_CAPACITY);
+        }
+        return capacity;
+    }
+
     protected void increaseModCount() {
         CheckerBoundNumber.isInRange(this.modCount + 1, 0,
                                      Capacity.UPPER.get());
@@ -0,0 +1,303 @@
+package com.lugowoy.helper.models.arrays;
+
+import com.lugowoy.helper.models.Model;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * The abstract class describing the root for the hierarchy of classes
+ * representing immutable arrays of {@code int} values stored in the compressed
+ * form.<p>The elements are encoded in the blocks of {@link #BLOCK_SIZE}
+ * elements, each of which can be decoded independently. The sequential
+ * traversal decodes the whole blocks into the reusable buffer, and the access
+ * by the index decodes at most one block. The arrays are created from {@link
+ * ArrayInts} by the static factory methods of the heir classes and are
+ * converted back by {@link #toArrayInts()}.
+ * <p>
+ * Created by Konstantin Lugowoy on 18.10.2026.
+ *
+ * @author Konstantin Lugowoy
+ * @version 1.0
+ * @see com.lugowoy.helper.models.arrays.ArrayInts
+ * @since 3.2
+ */
+public abstract class AbstractCompressedArrayInts implements Model,
+                                                             RandomAccess {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The number of the elements in the block.
+     */
+    public static final int BLOCK_SIZE = 128;
+
+    /*
+     * The binary logarithm of the block size.
+     */
+    static final int BLOCK_SHIFT = 7;
+
+    private final int size;
+
+    /**
+     * Constructs an object of an array (for the heir class) of the {@code
+     * size} elements.
+     *
+     * @param size the number of the elements.
+     */
+    protected AbstractCompressedArrayInts(final int size) {
+        this.size = size;
+    }
+
+    /**
+     * Gets the number of the elements in an array.
+     *
+     * @return the number of the elements in an array.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Checks whether an array contains no elements.
+     *
+     * @return {@code true} if an array contains no elements.
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Gets the element at the {@code index} position.
+     *
+     * @param index the index of the element.
+     * @return the element at the {@code index} position.
+     * @throws IndexOutOfBoundsException if the {@code index} is out of range
+     * ({@code index < 0 || index >= size()}).
+     */
+    public abstract int get(int index);
+
+    /**
+     * Gets the number of the bytes taken by the encoded elements and the
+     * metadata of their blocks.
+     *
+     * @return the size of the encoded elements in bytes.
+     */
+    public abstract long sizeInBytes();
+
+    /**
+     * Gets the number of the blocks of an array.
+     *
+     * @return the number of the blocks.
+     */
+    public int blockCount() {
+        return (this.size + BLOCK_SIZE - 1) >>> BLOCK_SHIFT;
+    }
+
+    /**
+     * Decodes the block of an array into the {@code target} starting from the
+     * {@code offset} position.
+     *
+     * @param block the index of the block.
+     * @param target the array into which the elements are decoded.
+     * @param offset the position of the first decoded element in the {@code
+     * target}.
+     * @return the number of the decoded elements, which is {@link
+     * #BLOCK_SIZE} for all of the blocks except the last one.
+     * @throws NullPointerException if the {@code target} is {@code null}.
+     * @throws IndexOutOfBoundsException if the {@code block} is out of range,
+     * or the decoded elements do not fit into the {@code target}.
+     */
+    public int readBlock(final int block, @NotNull final int[] target,
+                         final int offset) {
+        Objects.requireNonNull(target, "Target is null");
+        Objects.checkIndex(block, this.blockCount());
+        final int length = this.blockLength(block);
+        Objects.checkFromIndexSize(offset, length, target.length);
+        this.decodeBlock(block, target, offset);
+        return length;
+    }
+
+    /**
+     * Performs the given action for each element of an array, in the order of
+     * the indices, decoding the elements block by block.
+     *
+     * @param action the action to be performed for each element.
+     * @throws NullPointerException if the {@code action} is {@code null}.
+     */
+    public void forEachInt(@NotNull final IntConsumer action) {
+        Objects.requireNonNull(action, "Action is null.");
+        final int[] buffer = new int[BLOCK_SIZE];
+        for (int block = 0, count = this.blockCount(); block < count;
+             block++) {
+            final int length = this.blockLength(block);
+            this.decodeBlock(block, buffer, 0);
+            for (int i = 0; i < length; i++) {
+                action.accept(buffer[i]);
+            }
+        }
+    }
+
+    /**
+     * Returns an iterator over the elements of an array in proper sequence,
+     * decoding the elements block by block.
+     *
+     * @return an iterator over the elements of an array.
+     */
+    public PrimitiveIterator.OfInt iterator() {
+        return new IteratorCompressedArrayInts();
+    }
+
+    /**
+     * Returns a sequential {@link IntStream} over the elements of an array.
+     *
+     * @return a stream over the elements of an array.
+     */
+    public IntStream intStream() {
+        return StreamSupport.intStream(
+                Spliterators.spliterator(this.iterator(), this.size,
+                                         Spliterator.ORDERED
+                                         | Spliterator.IMMUTABLE
+                                         | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * Converts an array to the {@link ArrayInts}, decoding the blocks directly
+     * into the resulting array.
+     *
+     * @return the array containing the elements of an array.
+     */
+    public ArrayInts toArrayInts() {
+        final int[] elements = new int[this.size];
+        for (int block = 0, count = this.blockCount(); block < count;
+             block++) {
+            this.decodeBlock(block, elements, block << BLOCK_SHIFT);
+        }
+        return new ArrayInts(elements);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || this.getClass() != o.getClass()) {
+            return false;
+        }
+        final AbstractCompressedArrayInts that =
+                (AbstractCompressedArrayInts) o;
+        if (this.size != that.size) {
+            return false;
+        }
+        final int[] these = new int[BLOCK_SIZE];
+        final int[] those = new int[BLOCK_SIZE];
+        for (int block = 0, count = this.blockCount(); block < count;
+             block++) {
+            this.decodeBlock(block, these, 0);
+            that.decodeBlock(block, those, 0);
+            final int length = this.blockLength(block);
+            for (int i = 0; i < length; i++) {
+                if (these[i] != those[i]) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        final int[] hashCode = {1};
+        this.forEachInt(element -> hashCode[0] = 31 * hashCode[0] + element);
+        return hashCode[0];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder("[");
+        this.forEachInt(element -> {
+            if (builder.length() > 1) {
+                builder.append(", ");
+            }
+            builder.append(element);
+        });
+        return builder.append(']').toString();
+    }
+
+    /**
+     * Decodes the block of an array into the {@code target} starting from the
+     * {@code offset} position. The arguments are already checked.
+     *
+     * @param block the index of the block.
+     * @param target the array into which the elements are decoded.
+     * @param offset the position of the first decoded element in the {@code
+     * target}.
+     */
+    protected abstract void decodeBlock(int block, int[] target, int offset);
+
+    /**
+     * Gets the number of the elements in the block.
+     *
+     * @param block the index of the block.
+     * @return the number of the elements in the block.
+     */
+    protected int blockLength(final int block) {
+        return Math.min(BLOCK_SIZE, this.size - (block << BLOCK_SHIFT));
+    }
+
+    /**
+     * Checks that the {@code index} is in range from 0(inclusive) to the size
+     * of an array(exclusive).
+     *
+     * @param index the index of the element.
+     * @throws IndexOutOfBoundsException if the {@code index} is out of range.
+     */
+    protected void checkIndex(final int index) {
+        Objects.checkIndex(index, this.size);
+    }
+
+    private final class IteratorCompressedArrayInts
+            implements PrimitiveIterator.OfInt {
+
+        private final int[] buffer = new int[BLOCK_SIZE];
+        private int cursor;
+
+        @Override
+        public boolean hasNext() {
+            return this.cursor < AbstractCompressedArrayInts.this.size;
+        }
+
+        @Override
+        public int nextInt() {
+            if (this.cursor >= AbstractCompressedArrayInts.this.size) {
+                throw new NoSuchElementException();
+            }
+            final int position = this.cursor & (BLOCK_SIZE - 1);
+            if (position == 0) {
+                AbstractCompressedArrayInts.this.decodeBlock(
+                        this.cursor >>> BLOCK_SHIFT, this.buffer, 0);
+            }
+            this.cursor++;
+            return this.buffer[position];
+        }
+
+    }
+
+}
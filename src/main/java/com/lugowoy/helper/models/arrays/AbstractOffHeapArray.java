@@ -0,0 +1,352 @@
+package com.lugowoy.helper.models.arrays;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ReadOnlyBufferException;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+
+/**
+ * The abstract class describing the root for the hierarchy of classes
+ * representing dynamic arrays of primitive values stored outside the Java
+ * heap.<p>The elements are stored in the direct {@link ByteBuffer} segments of
+ * {@link #SEGMENT_BYTES} bytes each, in the native byte order, and are indexed
+ * by {@code long}, so the size of an array is not limited by {@link
+ * com.lugowoy.helper.utils.Capacity#UPPER} and the garbage collector does not
+ * scan or copy the elements. The segments are allocated as the array grows,
+ * the existing elements are never copied.<p>The memory of an array is released
+ * by {@link #close()}; after that the array is empty and can not be used. If
+ * the JDK does not allow to release the direct buffers explicitly, the memory
+ * is released when the buffers are collected.<p>An array can also be the view
+ * of the array file mapped into memory. Such an array does not parse the file
+ * and does not copy the elements, the operating system loads the pages of the
+ * file on demand and shares them between the processes mapping the same file.
+ * The mapped array can not grow beyond the size of the file.
+ * <p>
+ * Created by Konstantin Lugowoy on 18.10.2026.
+ *
+ * @author Konstantin Lugowoy
+ * @version 1.0
+ * @since 3.2
+ */
+public abstract class AbstractOffHeapArray implements AutoCloseable {
+
+    /**
+     * The size of the segment of an array in bytes.
+     */
+    public static final int SEGMENT_BYTES = 1 << 24;
+
+    private static final int SEGMENT_BYTES_SHIFT = 24;
+
+    private static final Object UNSAFE;
+    private static final Method INVOKE_CLEANER;
+
+    static {
+        Object unsafe = null;
+        Method invokeCleaner = null;
+        try {
+            final Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            final Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            unsafe = theUnsafe.get(null);
+            invokeCleaner = unsafeClass.getMethod("invokeCleaner",
+                                                  ByteBuffer.class);
+        } catch (ReflectiveOperationException | RuntimeException ex) {
+            unsafe = null;
+            invokeCleaner = null;
+        }
+        UNSAFE = unsafe;
+        INVOKE_CLEANER = invokeCleaner;
+    }
+
+    private final int elementShift;
+    private final int segmentShift;
+    private final long segmentMask;
+    private final ByteOrder order;
+    private final boolean mapped;
+    private final boolean readOnly;
+    private ByteBuffer[] segments = new ByteBuffer[0];
+    private int segmentCount;
+    private long capacity;
+    private long size;
+    private boolean closed;
+
+    /**
+     * Constructs an object of an array (for the heir class) that can hold the
+     * {@code capacity} elements without allocating new segments.
+     *
+     * @param elementShift the binary logarithm of the size of the element in
+     * bytes.
+     * @param capacity the initial capacity of the array.
+     * @throws IllegalArgumentException if the {@code capacity} is negative.
+     */
+    protected AbstractOffHeapArray(final int elementShift,
+                                   final long capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException(
+                    "Negative value of the capacity: " + capacity);
+        }
+        this.elementShift = elementShift;
+        this.segmentShift = SEGMENT_BYTES_SHIFT - elementShift;
+        this.segmentMask = (1L << this.segmentShift) - 1;
+        this.order = ByteOrder.nativeOrder();
+        this.mapped = false;
+        this.readOnly = false;
+        this.ensureCapacity(capacity);
+    }
+
+    /**
+     * Constructs an object of an array (for the heir class) viewing the
+     * {@code size} elements stored in the mapped {@code segments}. All of the
+     * segments except the last one must be {@link #SEGMENT_BYTES} bytes long.
+     *
+     * @param elementShift the binary logarithm of the size of the element in
+     * bytes.
+     * @param segments the mapped segments containing the elements.
+     * @param size the number of the elements.
+     * @param order the byte order of the elements.
+     * @since 3.2
+     */
+    protected AbstractOffHeapArray(final int elementShift,
+                                   final ByteBuffer[] segments,
+                                   final long size, final ByteOrder order) {
+        this.elementShift = elementShift;
+        this.segmentShift = SEGMENT_BYTES_SHIFT - elementShift;
+        this.segmentMask = (1L << this.segmentShift) - 1;
+        this.order = order;
+        this.mapped = true;
+        this.readOnly = segments.length > 0 && segments[0].isReadOnly();
+        this.segments = segments;
+        this.segmentCount = segments.length;
+        this.capacity = size;
+        this.size = size;
+    }
+
+    /**
+     * Gets the number of the elements in an array.
+     *
+     * @return the number of the elements in an array.
+     */
+    public long size() {
+        return this.size;
+    }
+
+    /**
+     * Checks whether an array contains no elements.
+     *
+     * @return {@code true} if an array contains no elements.
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Gets the number of the elements an array can hold without allocating
+     * new segments.
+     *
+     * @return the capacity of an array.
+     */
+    public long capacity() {
+        return this.capacity;
+    }
+
+    /**
+     * Allocates the segments so that an array can hold at least the {@code
+     * minCapacity} elements.
+     *
+     * @param minCapacity the required capacity.
+     * @throws IllegalStateException if an array is closed.
+     * @throws UnsupportedOperationException if an array is mapped and the
+     * {@code minCapacity} is greater than the size of the file.
+     */
+    public void ensureCapacity(final long minCapacity) {
+        this.checkOpen();
+        if (this.mapped && minCapacity > this.capacity) {
+            throw new UnsupportedOperationException(
+                    "Mapped array can not grow beyond the size of the file");
+        }
+        while (this.capacity < minCapacity) {
+            if (this.segmentCount == this.segments.length) {
+                this.segments = Arrays.copyOf(
+                        this.segments, Math.max(this.segmentCount << 1, 1));
+            }
+            this.segments[this.segmentCount++] =
+                    ByteBuffer.allocateDirect(SEGMENT_BYTES)
+                              .order(ByteOrder.nativeOrder());
+            this.capacity += 1L << this.segmentShift;
+        }
+    }
+
+    /**
+     * Checks whether an array is the view of the mapped file.
+     *
+     * @return {@code true} if an array is mapped.
+     * @since 3.2
+     */
+    public boolean isMapped() {
+        return this.mapped;
+    }
+
+    /**
+     * Removes all of the elements from an array. The segments are kept for
+     * the following additions.
+     *
+     * @throws IllegalStateException if an array is closed.
+     */
+    public void clear() {
+        this.checkOpen();
+        this.size = 0;
+    }
+
+    /**
+     * Checks whether an array is closed.
+     *
+     * @return {@code true} if an array is closed.
+     */
+    public boolean isClosed() {
+        return this.closed;
+    }
+
+    /**
+     * Releases the memory of an array. The closed array is empty, and all of
+     * the operations except {@link #size()}, {@link #isEmpty()} and {@link
+     * #close()} fail on it. Closing the closed array has no effect.
+     */
+    @Override
+    public void close() {
+        if (!this.closed) {
+            this.closed = true;
+            this.size = 0;
+            for (int i = 0; i < this.segmentCount; i++) {
+                release(this.segments[i]);
+                this.segments[i] = null;
+            }
+            this.segmentCount = 0;
+            this.capacity = 0;
+        }
+    }
+
+    /**
+     * Checks that the {@code index} is in range from 0(inclusive) to the size
+     * of an array(exclusive).
+     *
+     * @param index the index of the element.
+     * @throws IndexOutOfBoundsException if the {@code index} is out of range.
+     */
+    protected void checkIndex(final long index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException(
+                    "Index value " + index + " out of range from 0(inclusive)"
+                    + " to " + this.size + "(exclusive)");
+        }
+    }
+
+    /**
+     * Checks that an array is not closed.
+     *
+     * @throws IllegalStateException if an array is closed.
+     */
+    protected void checkOpen() {
+        if (this.closed) {
+            throw new IllegalStateException("Array is closed");
+        }
+    }
+
+    /**
+     * Gets the byte order of the elements in the segments.
+     *
+     * @return the byte order of the elements.
+     * @since 3.2
+     */
+    protected ByteOrder order() {
+        return this.order;
+    }
+
+    /**
+     * Gets the segment containing the element at the {@code index} position.
+     *
+     * @param index the index of the element.
+     * @return the segment containing the element.
+     */
+    protected ByteBuffer segment(final long index) {
+        return this.segments[(int) (index >>> this.segmentShift)];
+    }
+
+    /**
+     * Gets the offset in bytes of the element at the {@code index} position in
+     * its segment.
+     *
+     * @param index the index of the element.
+     * @return the offset of the element in its segment.
+     */
+    protected int offset(final long index) {
+        return (int) (index & this.segmentMask) << this.elementShift;
+    }
+
+    /**
+     * Gets the number of the elements from the {@code index} position to the
+     * end of its segment.
+     *
+     * @param index the index of the element.
+     * @return the number of the elements remaining in the segment.
+     */
+    protected int remainingInSegment(final long index) {
+        return (int) ((1L << this.segmentShift) - (index & this.segmentMask));
+    }
+
+    /**
+     * Increases the size of an array by the {@code increment}, allocating the
+     * segments if necessary, and returns the index of the first added
+     * element.
+     *
+     * @param increment the number of the added elements.
+     * @return the index of the first added element.
+     * @throws IllegalStateException if an array is closed.
+     * @throws ReadOnlyBufferException if an array is mapped read-only.
+     * @throws UnsupportedOperationException if an array is mapped and can not
+     * hold the added elements.
+     */
+    protected long grow(final long increment) {
+        if (this.readOnly) {
+            throw new ReadOnlyBufferException();
+        }
+        final long index = this.size;
+        this.ensureCapacity(index + increment);
+        this.size = index + increment;
+        return index;
+    }
+
+    /**
+     * Writes the elements of an array to the {@code channel} as they are
+     * stored in the segments, in the byte order of an array.
+     *
+     * @param channel the channel to which the elements are written.
+     * @throws IOException if an I/O error occurs.
+     * @throws IllegalStateException if an array is closed.
+     * @since 3.2
+     */
+    protected void writeTo(final FileChannel channel) throws IOException {
+        this.checkOpen();
+        final long bytes = this.size << this.elementShift;
+        for (int i = 0; (long) i * SEGMENT_BYTES < bytes; i++) {
+            final ByteBuffer segment = this.segments[i].duplicate();
+            segment.limit((int) Math.min(SEGMENT_BYTES,
+                                         bytes - (long) i * SEGMENT_BYTES));
+            ArrayFiles.write(channel, segment);
+        }
+    }
+
+    private static void release(final ByteBuffer buffer) {
+        if (INVOKE_CLEANER != null) {
+            try {
+                INVOKE_CLEANER.invoke(UNSAFE, buffer);
+            } catch (ReflectiveOperationException | RuntimeException ex) {
+                //the buffer is released when it is collected
+            }
+        }
+    }
+
+}
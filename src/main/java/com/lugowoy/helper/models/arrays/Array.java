@@ -1,16 +1,17 @@
 package com.lugowoy.helper.models.arrays;
 
 import com.lugowoy.helper.checkers.CheckerArray;
-import com.lugowoy.helper.checkers.CheckerBoundNumber;
 import com.lugowoy.helper.checkers.CheckerIndex;
 import com.lugowoy.helper.utils.Capacity;
+import com.lugowoy.helper.utils.DeepCopierRegistry;
 import com.lugowoy.helper.utils.LengthOutOfRangeException;
-import org.apache.commons.lang3.SerializationUtils;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.*;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
 /**
  * The class represents a description of a dynamic array data structure. Array
  * elements can be of any reference data type. Inherits from class {@link
@@ -19,7 +20,7 @@ import java.util.function.UnaryOperator;
  * Created by Konstantin Lugowoy on 31.05.2017.
  *
  * @author Konstantin Lugowoy
- * @version 5.2
+ * @version 6.0
  * @since 1.0
  */
 //TODO review documentation
@@ -27,6 +28,13 @@ public class Array<T> extends AbstractArray implements List<T> {
 
     private Object[] array;
 
+    /*
+     * The hash index of the elements is not serialized, the deserialized
+     * indexed array rebuilds it on the first lookup.
+     */
+    private boolean indexed;
+    private transient ElementIndex index;
+
     /**
      * Constructs an object of this class, thereby creating a dynamic array of
      * capacity {@link AbstractArray#DEFAULT_CAPACITY}.
@@ -88,6 +96,7 @@ public class Array<T> extends AbstractArray implements List<T> {
         this.array = Arrays.copyOf(array.array, array.size());
         super.setSize(this.array.length);
         super.setModCount(AbstractArray.START_MOD_COUNT);
+        this.index = null;
     }
 
     //TODO add constructor with Collection object parameter.
@@ -142,7 +151,12 @@ public class Array<T> extends AbstractArray implements List<T> {
     }
 
     /**
-     * {@inheritDoc}
+     * Creates the deep copy of this array. The elements are copied by the
+     * {@link DeepCopierRegistry#getDefault() default registry} of the copy
+     * strategies, so the serialization is used only for the elements that
+     * could not be copied in the other way.
+     *
+     * @return the deep copy of this array.
      */
     @SuppressWarnings("unchecked") //possibly unchecked cast
     @Override
@@ -150,7 +164,9 @@ public class Array<T> extends AbstractArray implements List<T> {
         Array<T> cloneArray;
         try {
             cloneArray = (Array<T>) super.clone();
-            cloneArray.setArray((T) SerializationUtils.clone(this.array));
+            cloneArray.index = null;
+            cloneArray.array = (Object[]) DeepCopierRegistry.getDefault().copy(
+                    this.array);
         } catch (CloneNotSupportedException ex) {
             throw new UnsupportedOperationException(ex);
         }
@@ -167,14 +183,19 @@ public class Array<T> extends AbstractArray implements List<T> {
         return new IteratorArray();
     }
 
-    private final class IteratorArray implements Iterator<T> {
+    private class IteratorArray implements Iterator<T> {
 
-        private int cursorIterator = 0;
-        private int lastReturned = -1;
-        private int expectedModCount = Array.super.getModCount();
+        int cursorIterator;
+        int lastReturned = -1;
+        int expectedModCount = Array.super.getModCount();
 
         private IteratorArray() {
+            this(0);
+        }
+
+        private IteratorArray(final int cursorIterator) {
             super();
+            this.cursorIterator = cursorIterator;
         }
 
         @Override
@@ -213,12 +234,29 @@ public class Array<T> extends AbstractArray implements List<T> {
             }
         }
 
+        @SuppressWarnings("unchecked")
         @Override
         public void forEachRemaining(final Consumer<? super T> action) {
-            throw new UnsupportedOperationException("Not realize.");
+            Objects.requireNonNull(action, "Action is null.");
+            final int size = Array.super.size();
+            int cursor = this.cursorIterator;
+            if (cursor < size) {
+                final Object[] elements = Array.this.array;
+                if (size > elements.length) {
+                    throw new ConcurrentModificationException();
+                }
+                for (; cursor < size
+                       && this.expectedModCount == Array.super.getModCount();
+                     cursor++) {
+                    action.accept((T) elements[cursor]);
+                }
+                this.cursorIterator = cursor;
+                this.lastReturned = cursor - 1;
+                this.checkModification();
+            }
         }
 
-        private void checkModification() {
+        void checkModification() {
             if (this.expectedModCount != Array.super.getModCount()) {
                 throw new ConcurrentModificationException();
             }
@@ -226,6 +264,177 @@ public class Array<T> extends AbstractArray implements List<T> {
 
     }
 
+    private final class ListIteratorArray extends IteratorArray
+            implements ListIterator<T> {
+
+        private ListIteratorArray(final int index) {
+            super(index);
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return this.cursorIterator != 0;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public T previous() {
+            this.checkModification();
+            int i = this.cursorIterator - 1;
+            if (i < 0) {
+                throw new NoSuchElementException();
+            }
+            if (i >= Array.this.array.length) {
+                throw new ConcurrentModificationException();
+            }
+            this.cursorIterator = i;
+            this.lastReturned = i;
+            return (T) Array.this.array[i];
+        }
+
+        @Override
+        public int nextIndex() {
+            return this.cursorIterator;
+        }
+
+        @Override
+        public int previousIndex() {
+            return this.cursorIterator - 1;
+        }
+
+        @Override
+        public void set(final T t) {
+            if (this.lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            this.checkModification();
+            try {
+                Array.this.set(this.lastReturned, t);
+            } catch (IndexOutOfBoundsException ex) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public void add(final T t) {
+            this.checkModification();
+            try {
+                Array.this.add(this.cursorIterator, t);
+                this.cursorIterator++;
+                this.lastReturned = -1;
+                this.expectedModCount = Array.super.getModCount();
+            } catch (IndexOutOfBoundsException ex) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+    }
+
+    /**
+     * Creates a late-binding and fail-fast {@link Spliterator} over the
+     * elements in this array. The spliterator reports {@link
+     * Spliterator#SIZED}, {@link Spliterator#SUBSIZED} and {@link
+     * Spliterator#ORDERED}, and splits the range of the indexes of the
+     * elements in halves, so that the parallel streams over this array divide
+     * the work evenly between the threads.
+     *
+     * @return a {@code Spliterator} over the elements in this array.
+     * @since 3.2
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new SpliteratorArray(0, -1, 0);
+    }
+
+    /*
+     * The spliterator binds to the array, the size and the modification count
+     * on the first traversal, split or size estimate, so the modifications
+     * made before that are taken into account.
+     */
+    private final class SpliteratorArray implements Spliterator<T> {
+
+        private int index;
+        private int fence;
+        private int expectedModCount;
+
+        private SpliteratorArray(final int origin, final int fence,
+                                 final int expectedModCount) {
+            this.index = origin;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        private int getFence() {
+            int hi = this.fence;
+            if (hi < 0) {
+                this.expectedModCount = Array.super.getModCount();
+                hi = Array.super.size();
+                this.fence = hi;
+            }
+            return hi;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int hi = this.getFence();
+            int lo = this.index;
+            int mid = (lo + hi) >>> 1;
+            if (lo >= mid) {
+                return null;
+            }
+            this.index = mid;
+            return new SpliteratorArray(lo, mid, this.expectedModCount);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public boolean tryAdvance(final Consumer<? super T> action) {
+            Objects.requireNonNull(action, "Action is null.");
+            int hi = this.getFence();
+            int i = this.index;
+            if (i < hi) {
+                this.index = i + 1;
+                action.accept((T) Array.this.array[i]);
+                if (this.expectedModCount != Array.super.getModCount()) {
+                    throw new ConcurrentModificationException();
+                }
+                return true;
+            }
+            return false;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public void forEachRemaining(final Consumer<? super T> action) {
+            Objects.requireNonNull(action, "Action is null.");
+            final int hi = this.getFence();
+            final Object[] elements = Array.this.array;
+            int i = this.index;
+            this.index = hi;
+            if (i >= 0 && hi <= elements.length) {
+                for (; i < hi; i++) {
+                    action.accept((T) elements[i]);
+                }
+                if (this.expectedModCount == Array.super.getModCount()) {
+                    return;
+                }
+            }
+            throw new ConcurrentModificationException();
+        }
+
+        @Override
+        public long estimateSize() {
+            return this.getFence() - this.index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED
+                   | Spliterator.SUBSIZED;
+        }
+
+    }
+
     /**
      * Performs the given action for each element of the {@code Iterable} until
      * all elements have been processed or the action throws an exception.
@@ -236,22 +445,55 @@ public class Array<T> extends AbstractArray implements List<T> {
      * side-effects that modify the underlying source of elements, unless an
      * overriding class has specified a concurrent modification policy.
      *
+     * <p>
+     * The elements are traversed in a tight loop over the backing array, and
+     * the modification count is checked once, after the traversal.
+     *
      * @param action the action to be performed for each element.
      * @throws NullPointerException if the specified action is null.
-     * @throws NullPointerException if the element is null.
+     * @throws ConcurrentModificationException if the action modified the
+     * structure of this array.
      * @since 1.8
      */
+    @SuppressWarnings("unchecked")
     @Override
     public void forEach(final Consumer<? super T> action) {
         Objects.requireNonNull(action, "Action is null.");
         final int expectedModCount = super.getModCount();
+        final Object[] elements = this.array;
         final int size = super.size();
         for (int i = 0; i < size; i++) {
-            if (expectedModCount == super.getModCount()) {
-                action.accept(this.get(i));
-            } else {
-                throw new ConcurrentModificationException();
-            }
+            action.accept((T) elements[i]);
+        }
+        if (expectedModCount != super.getModCount()) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Performs the given action for each element of this array together with
+     * its index, in the order of the indices. The elements are traversed in a
+     * tight loop over the backing array, and the modification count is
+     * checked once, after the traversal.
+     *
+     * @param action the action to be performed for each element.
+     * @throws NullPointerException if the {@code action} is {@code null}.
+     * @throws ConcurrentModificationException if the action modified the
+     * structure of this array.
+     * @since 3.2
+     */
+    @SuppressWarnings("unchecked")
+    public void forEachIndexed(@NotNull final IndexedConsumer<? super T>
+                                       action) {
+        Objects.requireNonNull(action, "Action is null.");
+        final int expectedModCount = super.getModCount();
+        final Object[] elements = this.array;
+        final int size = super.size();
+        for (int i = 0; i < size; i++) {
+            action.accept(i, (T) elements[i]);
+        }
+        if (expectedModCount != super.getModCount()) {
+            throw new ConcurrentModificationException();
         }
     }
 
@@ -266,8 +508,16 @@ public class Array<T> extends AbstractArray implements List<T> {
         return Arrays.copyOf(this.array, super.size());
     }
 
+    /**
+     * Returns an array containing the deep copies of all of the elements in
+     * this array in proper sequence. The elements are copied by the {@link
+     * DeepCopierRegistry#getDefault() default registry} of the copy
+     * strategies.
+     *
+     * @return an array containing the copies of the elements of this array.
+     */
     public Object[] toDeepArray() {
-        return SerializationUtils.clone(this.array);
+        return (Object[]) DeepCopierRegistry.getDefault().copy(this.toArray());
     }
 
     /**
@@ -284,44 +534,61 @@ public class Array<T> extends AbstractArray implements List<T> {
         return a;
     }
 
+    /**
+     * Returns an array containing the deep copies of all of the elements in
+     * this array in proper sequence, the runtime type of the returned array
+     * is that of the specified array. The elements are copied by the {@link
+     * DeepCopierRegistry#getDefault() default registry} of the copy
+     * strategies.
+     *
+     * @param <E> the component type of the array to contain the copies.
+     * @param a the array into which the copies are to be stored, if it is big
+     * enough, otherwise a new array of the same runtime type is allocated.
+     * @return an array containing the copies of the elements of this array.
+     */
     @SuppressWarnings("unchecked")
     public <E> E[] toDeepArray(final E[] a) {
-        return SerializationUtils.clone(this.toArray(a));
+        E[] result = this.toArray(a);
+        Object[] copies = (Object[]) DeepCopierRegistry.getDefault().copy(
+                this.toArray());
+        System.arraycopy(copies, 0, result, 0, copies.length);
+        return result;
     }
 
     public void setArray(final int capacity) {
         CheckerArray.check(capacity, Capacity.UPPER.get());
         this.array = new Object[capacity];
         super.setSize(capacity);
-        super.setModCount(START_MOD_COUNT);
+        this.resetModCount();
     }
 
     public void setArray(final T... t) {
         CheckerArray.check(t, Capacity.UPPER.get());
         this.array = Arrays.copyOf(t, t.length);
         super.setSize(this.array.length);
-        super.setModCount(START_MOD_COUNT);
+        this.resetModCount();
     }
 
     public void setArray(final Array<T> array) {
         CheckerArray.check(array, Capacity.UPPER.get());
         this.array = Arrays.copyOf(array.array, array.size());
         super.setSize(this.array.length);
-        super.setModCount(AbstractArray.START_MOD_COUNT);
+        this.resetModCount();
     }
 
     public void setDeepArray(final T... t) {
         CheckerArray.check(t, Capacity.UPPER.get());
-        this.array = SerializationUtils.clone(t);
+        this.array = (Object[]) DeepCopierRegistry.getDefault().copy(t);
         super.setSize(this.array.length);
-        super.setModCount(START_MOD_COUNT);
+        this.resetModCount();
     }
 
     public void setDeepArray(final Array<T> array) {
         CheckerArray.check(array, Capacity.UPPER.get());
-        this.array = SerializationUtils.clone(array.toArray());
+        this.array = (Object[]) DeepCopierRegistry.getDefault().copy(
+                array.toArray());
         super.setSize(this.array.length);
-        super.setModCount(AbstractArray.START_MOD_COUNT);
+        this.resetModCount();
     }
 
     /**
@@ -372,6 +639,11 @@ public class Array<T> extends AbstractArray implements List<T> {
         CheckerIndex.checkInRange(index, super.size());
         T oldElement = this.get(index);
         this.array[index] = element;
+        final ElementIndex elementIndex = this.validIndex();
+        if (elementIndex != null) {
+            elementIndex.remove(oldElement, index);
+            elementIndex.add(element, index);
+        }
         return oldElement;
     }
 
@@ -398,17 +670,19 @@ public class Array<T> extends AbstractArray implements List<T> {
      */
     @Override
     public boolean add(final T t) {
-        if (super.size() >= this.array.length) {
-            this.ensureCapacity();
+        final int size = super.size();
+        if (size == this.array.length) {
+            this.ensureCapacity(size + 1);
         }
-        this.array[super.size()] = t;
-        boolean additionResult = false;
-        if (this.isExactlyAdded(t)) {
-            additionResult = true;
-            super.increaseSize();
-            super.increaseModCount();
+        final ElementIndex elementIndex = this.validIndex();
+        this.array[size] = t;
+        super.setSize(size + 1);
+        super.increaseModCount();
+        if (elementIndex != null) {
+            elementIndex.add(t, size);
+            elementIndex.setModCount(super.getModCount());
         }
-        return additionResult;
+        return true;
     }
 
     /**
@@ -434,13 +708,19 @@ public class Array<T> extends AbstractArray implements List<T> {
     public void add(final int index, final T element) {
         CheckerIndex.checkInRange(index, super.size() + 1);
         if (super.size() >= this.array.length) {
-            this.ensureCapacity();
+            this.ensureCapacity(super.size() + 1);
         }
+        final ElementIndex elementIndex = this.validIndex();
         System.arraycopy(this.array, index, this.array, index + 1,
                          super.size() - index);
         this.array[index] = element;
         super.increaseSize();
         super.increaseModCount();
+        if (elementIndex != null) {
+            this.moveInIndex(elementIndex, index + 1, super.size(), -1);
+            elementIndex.add(element, index);
+            elementIndex.setModCount(super.getModCount());
+        }
     }
 
     /**
@@ -468,13 +748,12 @@ public class Array<T> extends AbstractArray implements List<T> {
     public boolean addAll(final Collection<? extends T> c) {
         Objects.requireNonNull(c, "Collection argument is null.");
         boolean resultAddAll = false;
-        if (!c.isEmpty()) {
-            if (c.size() > (this.array.length - super.size())) {
-                this.array = Arrays.copyOf(this.array,
-                                           (this.array.length << 1) + c.size());
-            }
-            System.arraycopy(c.toArray(), 0, this.array, this.size(), c.size());
-            super.increaseSize(c.size());
+        final Object[] elements = c.toArray();
+        if (elements.length != 0) {
+            this.ensureCapacity(super.size() + elements.length);
+            System.arraycopy(elements, 0, this.array, super.size(),
+                             elements.length);
+            super.increaseSize(elements.length);
             super.increaseModCount();
             resultAddAll = true;
         }
@@ -513,24 +792,107 @@ public class Array<T> extends AbstractArray implements List<T> {
         Objects.requireNonNull(c, "Collection argument is null.");
         CheckerIndex.checkInRange(index, super.size() + 1);
         boolean resultAddAll = false;
-        if (!c.isEmpty()) {
-            if (c.size() > (this.array.length - super.size())) {
-                this.array = Arrays.copyOf(this.array,
-                                           (this.array.length << 1) + c.size());
-            }
+        final Object[] elements = c.toArray();
+        if (elements.length != 0) {
+            this.ensureCapacity(super.size() + elements.length);
             int numMoved = super.size() - index;
             if (numMoved > 0) {
                 System.arraycopy(this.array, index, this.array,
-                                 index + c.size(), numMoved);
+                                 index + elements.length, numMoved);
             }
-            System.arraycopy(c.toArray(), 0, this.array, index, c.size());
-            super.increaseSize(c.size());
+            System.arraycopy(elements, 0, this.array, index, elements.length);
+            super.increaseSize(elements.length);
             super.increaseModCount();
             resultAddAll = true;
         }
         return resultAddAll;
     }
 
+    /**
+     * Appends all of the elements of the {@code elements} array to the end of
+     * this array. The capacity grows at most once, and the elements are copied
+     * in one pass.
+     *
+     * @param elements the array containing elements to be added to this array.
+     * @return {@code true} if this array changed as a result of the call.
+     * @throws NullPointerException if the {@code elements} is {@code null}.
+     * @throws LengthOutOfRangeException if the resulting size is greater than
+     * {@link Capacity#UPPER}.
+     * @since 3.2
+     */
+    public boolean addAll(@NotNull final T[] elements) {
+        Objects.requireNonNull(elements, "Array argument is null.");
+        boolean resultAddAll = false;
+        if (elements.length != 0) {
+            this.ensureCapacity(super.size() + elements.length);
+            System.arraycopy(elements, 0, this.array, super.size(),
+                             elements.length);
+            super.increaseSize(elements.length);
+            super.increaseModCount();
+            resultAddAll = true;
+        }
+        return resultAddAll;
+    }
+
+    /**
+     * Appends all of the remaining elements of the {@code iterator} to the end
+     * of this array, in the order that they are returned by the {@code
+     * iterator}. The capacity grows by the growth policy only when it is
+     * exhausted, and the size and the modification count are updated once,
+     * after the last element is added.
+     *
+     * @param iterator the iterator over the elements to be added to this array.
+     * @return {@code true} if this array changed as a result of the call.
+     * @throws NullPointerException if the {@code iterator} is {@code null}.
+     * @throws LengthOutOfRangeException if the resulting size is greater than
+     * {@link Capacity#UPPER}.
+     * @since 3.2
+     */
+    public boolean addAll(@NotNull final Iterator<? extends T> iterator) {
+        Objects.requireNonNull(iterator, "Iterator argument is null.");
+        final int startSize = super.size();
+        Object[] elements = this.array;
+        int size = startSize;
+        try {
+            while (iterator.hasNext()) {
+                if (size == elements.length) {
+                    this.ensureCapacity(size + 1);
+                    elements = this.array;
+                }
+                elements[size++] = iterator.next();
+            }
+        } finally {
+            if (size != startSize) {
+                super.setSize(size);
+                super.increaseModCount();
+            }
+        }
+        return size != startSize;
+    }
+
+    /**
+     * Appends all of the elements of the {@code stream} to the end of this
+     * array, in the encounter order of the {@code stream}. If the exact size of
+     * the {@code stream} is known in advance, the capacity grows once.
+     *
+     * @param stream the stream of the elements to be added to this array.
+     * @return {@code true} if this array changed as a result of the call.
+     * @throws NullPointerException if the {@code stream} is {@code null}.
+     * @throws LengthOutOfRangeException if the resulting size is greater than
+     * {@link Capacity#UPPER}.
+     * @since 3.2
+     */
+    public boolean addAll(@NotNull final Stream<? extends T> stream) {
+        Objects.requireNonNull(stream, "Stream argument is null.");
+        final Spliterator<? extends T> spliterator = stream.spliterator();
+        final long exactSize = spliterator.getExactSizeIfKnown();
+        if (exactSize > 0) {
+            this.ensureCapacity((int) Math.min(super.size() + exactSize,
+                                               Integer.MAX_VALUE));
+        }
+        return this.addAll(Spliterators.iterator(spliterator));
+    }
+
     /**
      * Removes the first occurrence of the specified element from this list, if
      * it is present (optional operation).  If this list does not contain the
@@ -553,12 +915,10 @@ public class Array<T> extends AbstractArray implements List<T> {
     public boolean remove(final Object o) {
         Objects.requireNonNull(o, "Object argument is null.");
         boolean resultOfRemoving = false;
-        for (int i = 0; i < super.size(); i++) {
-            if (Objects.equals(o, this.get(i))) {
-                this.remove(i);
-                resultOfRemoving = true;
-                break;
-            }
+        final int index = this.indexOf(o);
+        if (index >= 0) {
+            this.remove(index);
+            resultOfRemoving = true;
         }
         return resultOfRemoving;
     }
@@ -579,31 +939,32 @@ public class Array<T> extends AbstractArray implements List<T> {
     @Override
     public T remove(final int index) {
         Objects.checkIndex(index, super.size());
-        Object[] newArray = new Object[this.array.length - 1];
         T resultRemove = this.get(index);
-        System.arraycopy(this.array, 0, newArray, 0, index);
-        System.arraycopy(this.array, index + 1, newArray, index,
+        final ElementIndex elementIndex = this.validIndex();
+        System.arraycopy(this.array, index + 1, this.array, index,
                          super.size() - (index + 1));
-        this.array = newArray;
+        this.array[super.size() - 1] = null;
         super.decreaseSize();
         super.increaseModCount();
+        if (elementIndex != null) {
+            elementIndex.remove(resultRemove, index);
+            this.moveInIndex(elementIndex, index, super.size(), 1);
+            elementIndex.setModCount(super.getModCount());
+        }
         return resultRemove;
     }
 
+    /**
+     * Removes all occurrences of the {@code o} element from this array in one
+     * pass over the array.
+     *
+     * @param o the element to be removed from this array.
+     * @return {@code true} if this array changed as a result of the call.
+     * @throws NullPointerException if the {@code o} is {@code null}.
+     */
     public boolean removeAll(final Object o) {
         Objects.requireNonNull(o, "Object argument is null.");
-        boolean resultRemove = false;
-        int indexToRemove;
-        while (true) {
-            indexToRemove = this.indexOf(o);
-            if (indexToRemove == -1) {
-                break;
-            } else {
-                this.remove(indexToRemove);
-                resultRemove = true;
-            }
-        }
-        return resultRemove;
+        return this.removeElements(o::equals);
     }
 
     /**
@@ -626,15 +987,33 @@ public class Array<T> extends AbstractArray implements List<T> {
     @Override
     public boolean removeAll(@NotNull final Collection<?> c) {
         Objects.requireNonNull(c, "Collection argument is null.");
-        int sizeToCheckResult = super.size();
+        boolean resultRemoveAll = false;
         if (!c.isEmpty()) {
-            Object[] tmpArray = c.toArray();
-            for (int i = 0; i < c.size(); i++) {
-                this.removeAll(tmpArray[i]);
-                sizeToCheckResult--;
-            }
+            final Collection<?> lookup = lookupOf(c);
+            resultRemoveAll = this.removeElements(lookup::contains);
         }
-        return super.size() != sizeToCheckResult;
+        return resultRemoveAll;
+    }
+
+    /**
+     * Removes all of the elements of this array that satisfy the given
+     * predicate. The elements are removed in one pass over the array without
+     * the allocation of a new array, the capacity is reduced only when the
+     * most of the elements are removed.
+     *
+     * @param filter a predicate which returns {@code true} for elements to be
+     * removed.
+     * @return {@code true} if any elements were removed.
+     * @throws NullPointerException if the {@code filter} is {@code null}.
+     * @throws ConcurrentModificationException if the {@code filter} modifies
+     * this array.
+     * @since 3.2
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public boolean removeIf(@NotNull final Predicate<? super T> filter) {
+        Objects.requireNonNull(filter, "Predicate is null");
+        return this.removeElements(element -> filter.test((T) element));
     }
 
     /**
@@ -646,7 +1025,9 @@ public class Array<T> extends AbstractArray implements List<T> {
      */
     @Override
     public void clear() {
-        this.array = new Object[0];
+        Arrays.fill(this.array, 0, super.size(), null);
+        super.setSize(START_SIZE);
+        super.increaseModCount();
     }
 
     /**
@@ -661,6 +1042,10 @@ public class Array<T> extends AbstractArray implements List<T> {
      */
     @Override
     public boolean contains(final Object o) {
+        final ElementIndex elementIndex = this.index();
+        if (elementIndex != null) {
+            return elementIndex.contains(o);
+        }
         return this.indexOf(o) >= 0;
     }
 
@@ -685,9 +1070,14 @@ public class Array<T> extends AbstractArray implements List<T> {
         Objects.requireNonNull(c, "Collection argument is null.");
         boolean resultContainsAll = true;
         if (!c.isEmpty()) {
+            Collection<?> lookup = this;
+            if (this.index() == null && c.size() > BULK_LOOKUP_THRESHOLD) {
+                lookup = new HashSet<>(this);
+            }
             for (Object o : c) {
-                if (!this.contains(o)) {
+                if (!lookup.contains(o)) {
                     resultContainsAll = false;
+                    break;
                 }
             }
         }
@@ -715,18 +1105,9 @@ public class Array<T> extends AbstractArray implements List<T> {
      */
     @Override
     public boolean retainAll(@NotNull final Collection<?> c) {
-        boolean resultRetainAll = false;
         Objects.requireNonNull(c, "Collection argument is null.");
-        if (!c.isEmpty()) {
-            for (int i = super.size() - 1; i >= 0; i--) {
-                Object obj = this.get(i);
-                if (!c.contains(obj)) {
-                    this.remove(i);
-                    resultRetainAll = true;
-                }
-            }
-        }
-        return resultRetainAll;
+        final Collection<?> lookup = lookupOf(c);
+        return this.removeElements(element -> !lookup.contains(element));
     }
 
     /**
@@ -745,17 +1126,23 @@ public class Array<T> extends AbstractArray implements List<T> {
      */
     @Override
     public int indexOf(final Object o) {
+        final ElementIndex elementIndex = this.index();
+        if (elementIndex != null) {
+            return elementIndex.indexOf(o);
+        }
+        final Object[] elements = this.array;
+        final int size = super.size();
         int resultIndexOf = -1;
         if (o == null) {
-            for (int i = 0; i < super.size(); i++) {
-                if (this.get(i) == null) {
+            for (int i = 0; i < size; i++) {
+                if (elements[i] == null) {
                     resultIndexOf = i;
                     break;
                 }
             }
         } else {
-            for (int i = 0; i < super.size(); i++) {
-                if (o.equals(this.get(i))) {
+            for (int i = 0; i < size; i++) {
+                if (o.equals(elements[i])) {
                     resultIndexOf = i;
                     break;
                 }
@@ -780,17 +1167,22 @@ public class Array<T> extends AbstractArray implements List<T> {
      */
     @Override
     public int lastIndexOf(final Object o) {
+        final ElementIndex elementIndex = this.index();
+        if (elementIndex != null) {
+            return elementIndex.lastIndexOf(o);
+        }
+        final Object[] elements = this.array;
         int resultLastIndexOf = -1;
         if (o == null) {
             for (int i = super.size() - 1; i >= 0; i--) {
-                if (this.get(i) == null) {
+                if (elements[i] == null) {
                     resultLastIndexOf = i;
                     break;
                 }
             }
         } else {
             for (int i = super.size() - 1; i >= 0; i--) {
-                if (this.get(i).equals(o)) {
+                if (o.equals(elements[i])) {
                     resultLastIndexOf = i;
                     break;
                 }
@@ -799,24 +1191,145 @@ public class Array<T> extends AbstractArray implements List<T> {
         return resultLastIndexOf;
     }
 
-    @SuppressWarnings("unchecked")
+    /**
+     * Sorts the elements of this array according to the order induced by the
+     * {@code comparator}. The sort is stable.
+     *
+     * @param comparator the comparator used to compare the elements.
+     * @throws NullPointerException if the {@code comparator} is {@code null}.
+     */
+    @Override
     public void sort(@NotNull final Comparator<? super T> comparator) {
+        this.sort(0, super.size(), comparator);
+    }
+
+    /**
+     * Sorts the elements of this array from {@code fromIndex}(inclusive) to
+     * {@code toIndex}(exclusive) according to the order induced by the {@code
+     * comparator}. The sort is stable.
+     *
+     * @param fromIndex the index of the first element to be sorted.
+     * @param toIndex the index after the last element to be sorted.
+     * @param comparator the comparator used to compare the elements.
+     * @throws NullPointerException if the {@code comparator} is {@code null}.
+     * @throws IndexOutOfBoundsException if the {@code fromIndex} or the {@code
+     * toIndex} is out of range ({@code fromIndex < 0 || toIndex > size()}).
+     * @throws com.lugowoy.helper.utils.BoundsComparisonException if the
+     * {@code fromIndex} is greater than the {@code toIndex}.
+     * @since 3.2
+     */
+    public void sort(final int fromIndex, final int toIndex,
+                     @NotNull final Comparator<? super T> comparator) {
+        Objects.requireNonNull(comparator, "Comparator is null");
+        super.checkRange(fromIndex, toIndex);
+        Arrays.sort(this.array, fromIndex, toIndex, comparatorOf(comparator));
+        super.increaseModCount();
+    }
+
+    /**
+     * Sorts the elements of this array from {@code fromIndex}(inclusive) to
+     * {@code toIndex}(exclusive) according to the order induced by the {@code
+     * comparator}. The sort is not stable, but unlike the stable sort it is
+     * in-place and does not allocate the memory.
+     *
+     * @param fromIndex the index of the first element to be sorted.
+     * @param toIndex the index after the last element to be sorted.
+     * @param comparator the comparator used to compare the elements.
+     * @throws NullPointerException if the {@code comparator} is {@code null}.
+     * @throws IndexOutOfBoundsException if the {@code fromIndex} or the {@code
+     * toIndex} is out of range ({@code fromIndex < 0 || toIndex > size()}).
+     * @throws com.lugowoy.helper.utils.BoundsComparisonException if the
+     * {@code fromIndex} is greater than the {@code toIndex}.
+     * @since 3.2
+     */
+    public void sortUnstable(final int fromIndex, final int toIndex,
+                             @NotNull final Comparator<? super T> comparator) {
         Objects.requireNonNull(comparator, "Comparator is null");
-        Arrays.sort(this.array, (Comparator<? super Object>) comparator);
+        super.checkRange(fromIndex, toIndex);
+        ArraySorting.sortUnstable(this.array, fromIndex, toIndex,
+                                  comparatorOf(comparator));
+        super.increaseModCount();
+    }
+
+    /**
+     * Sorts the elements of this array according to the order induced by the
+     * {@code comparator}, using the fork/join framework to sort the parts of
+     * the array in parallel. The sort is stable.
+     *
+     * @param comparator the comparator used to compare the elements.
+     * @throws NullPointerException if the {@code comparator} is {@code null}.
+     * @see Arrays#parallelSort(Object[], int, int, Comparator)
+     * @since 3.2
+     */
+    public void parallelSort(@NotNull final Comparator<? super T> comparator) {
+        this.parallelSort(0, super.size(), comparator);
+    }
+
+    /**
+     * Sorts the elements of this array from {@code fromIndex}(inclusive) to
+     * {@code toIndex}(exclusive) according to the order induced by the {@code
+     * comparator}, using the fork/join framework to sort the parts of the
+     * range in parallel. The sort is stable.
+     *
+     * @param fromIndex the index of the first element to be sorted.
+     * @param toIndex the index after the last element to be sorted.
+     * @param comparator the comparator used to compare the elements.
+     * @throws NullPointerException if the {@code comparator} is {@code null}.
+     * @throws IndexOutOfBoundsException if the {@code fromIndex} or the {@code
+     * toIndex} is out of range ({@code fromIndex < 0 || toIndex > size()}).
+     * @throws com.lugowoy.helper.utils.BoundsComparisonException if the
+     * {@code fromIndex} is greater than the {@code toIndex}.
+     * @see Arrays#parallelSort(Object[], int, int, Comparator)
+     * @since 3.2
+     */
+    public void parallelSort(final int fromIndex, final int toIndex,
+                             @NotNull final Comparator<? super T> comparator) {
+        Objects.requireNonNull(comparator, "Comparator is null");
+        super.checkRange(fromIndex, toIndex);
+        Arrays.parallelSort(this.array, fromIndex, toIndex,
+                            comparatorOf(comparator));
+        super.increaseModCount();
+    }
+
+    /**
+     * Sorts the elements of this array from {@code fromIndex}(inclusive) to
+     * {@code toIndex}(exclusive) according to the order induced by the {@code
+     * comparator}, sorting the partitions of the range in parallel in the
+     * common fork/join pool. The sort is not stable, but unlike the stable
+     * sort it is in-place and does not allocate the memory.
+     *
+     * @param fromIndex the index of the first element to be sorted.
+     * @param toIndex the index after the last element to be sorted.
+     * @param comparator the comparator used to compare the elements.
+     * @throws NullPointerException if the {@code comparator} is {@code null}.
+     * @throws IndexOutOfBoundsException if the {@code fromIndex} or the {@code
+     * toIndex} is out of range ({@code fromIndex < 0 || toIndex > size()}).
+     * @throws com.lugowoy.helper.utils.BoundsComparisonException if the
+     * {@code fromIndex} is greater than the {@code toIndex}.
+     * @since 3.2
+     */
+    public void parallelSortUnstable(final int fromIndex, final int toIndex,
+                                     @NotNull final Comparator<? super T>
+                                             comparator) {
+        Objects.requireNonNull(comparator, "Comparator is null");
+        super.checkRange(fromIndex, toIndex);
+        ArraySorting.parallelSortUnstable(this.array, fromIndex, toIndex,
+                                          comparatorOf(comparator));
+        super.increaseModCount();
     }
 
     /**
      * Returns a list iterator over the elements in this list (in proper
-     * sequence).
+     * sequence). The iterator works directly on the elements of this array
+     * without copying them, and is fail-fast.
      *
      * @return a list iterator over the elements in this list (in proper
      * sequence)
      */
-    @SuppressWarnings("unchecked")
     @Override
     @NotNull
     public ListIterator<T> listIterator() {
-        return new ArrayList<>(new Array<>((T[]) this.array)).listIterator();
+        return new ListIteratorArray(0);
     }
 
     /**
@@ -825,7 +1338,8 @@ public class Array<T> extends AbstractArray implements List<T> {
      * index indicates the first element that would be returned by an initial
      * call to {@link ListIterator#next next}. An initial call to {@link
      * ListIterator#previous previous} would return the element with the
-     * specified index minus one.
+     * specified index minus one. The iterator works directly on the elements
+     * of this array without copying them, and is fail-fast.
      *
      * @param index index of the first element to be returned from the list
      * iterator (by a call to {@link ListIterator#next next})
@@ -834,43 +1348,188 @@ public class Array<T> extends AbstractArray implements List<T> {
      * @throws IndexOutOfBoundsException if the index is out of range ({@code
      * index < 0 || index > size()})
      */
-    @SuppressWarnings("unchecked")
     @Override
     @NotNull
     public ListIterator<T> listIterator(final int index) {
-        return new ArrayList<>(new Array<>((T[]) this.array)).listIterator(index);
+        CheckerIndex.checkInRange(index, super.size() + 1);
+        return new ListIteratorArray(index);
     }
 
+    /**
+     * Returns a view of the portion of this array between the specified {@code
+     * fromIndex}, inclusive, and {@code toIndex}, exclusive. The returned list
+     * is backed by this array without copying the elements, so the changes in
+     * the returned list are reflected in this array. The structural changes of
+     * this array made not through the returned list make the returned list
+     * fail with {@link ConcurrentModificationException}.
+     *
+     * @param fromIndex low endpoint (inclusive) of the subList.
+     * @param toIndex high endpoint (exclusive) of the subList.
+     * @return a view of the specified range within this array.
+     * @throws IndexOutOfBoundsException if the {@code fromIndex} or the {@code
+     * toIndex} is out of range ({@code fromIndex < 0 || toIndex > size()}).
+     * @throws com.lugowoy.helper.utils.BoundsComparisonException if the
+     * {@code fromIndex} is greater than the {@code toIndex}.
+     */
     @Override
     @NotNull
     public List<T> subList(final int fromIndex, final int toIndex) {
-        CheckerIndex.checkInRange(fromIndex, START_SIZE, super.size());
-        CheckerIndex.checkInRange(toIndex, START_SIZE, super.size());
-        CheckerBoundNumber.checkLowerLessOrEqualUpper(fromIndex, toIndex);
-        Array<T> list = new Array<>();
-        for (int i = fromIndex; i <= toIndex; i++) {
-            list.add(this.get(i));
+        super.checkRange(fromIndex, toIndex);
+        return new SubArray(fromIndex, toIndex - fromIndex);
+    }
+
+    private final class SubArray extends AbstractList<T>
+            implements RandomAccess {
+
+        private final int offset;
+        private int size;
+        private int expectedModCount;
+
+        private SubArray(final int offset, final int size) {
+            this.offset = offset;
+            this.size = size;
+            this.expectedModCount = Array.super.getModCount();
         }
-        return list;
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public T get(final int index) {
+            Objects.checkIndex(index, this.size);
+            this.checkModification();
+            return (T) Array.this.array[this.offset + index];
+        }
+
+        @Override
+        public T set(final int index, final T element) {
+            Objects.checkIndex(index, this.size);
+            this.checkModification();
+            return Array.this.set(this.offset + index, element);
+        }
+
+        @Override
+        public int size() {
+            this.checkModification();
+            return this.size;
+        }
+
+        @Override
+        public void add(final int index, final T element) {
+            Objects.checkIndex(index, this.size + 1);
+            this.checkModification();
+            Array.this.add(this.offset + index, element);
+            this.updateSize(1);
+        }
+
+        @Override
+        public T remove(final int index) {
+            Objects.checkIndex(index, this.size);
+            this.checkModification();
+            T result = Array.this.remove(this.offset + index);
+            this.updateSize(-1);
+            return result;
+        }
+
+        @Override
+        protected void removeRange(final int fromIndex, final int toIndex) {
+            this.checkModification();
+            Array.this.removeRange(this.offset + fromIndex,
+                                   this.offset + toIndex);
+            this.updateSize(fromIndex - toIndex);
+        }
+
+        private void updateSize(final int sizeChange) {
+            this.size += sizeChange;
+            this.expectedModCount = Array.super.getModCount();
+            this.modCount++;
+        }
+
+        private void checkModification() {
+            if (this.expectedModCount != Array.super.getModCount()) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
     }
 
+    /**
+     * Replaces each element of this array with the result of applying the
+     * {@code operator} to that element. The elements are replaced in a tight
+     * loop over the backing array, and the modification count is checked
+     * once, after the replacement.
+     *
+     * @param operator the operator to apply to each element.
+     * @throws NullPointerException if the {@code operator} is {@code null}.
+     * @throws ConcurrentModificationException if the operator modified the
+     * structure of this array.
+     */
+    @SuppressWarnings("unchecked")
     @Override
     public void replaceAll(@NotNull final UnaryOperator<T> operator) {
         Objects.requireNonNull(operator, "UnaryOperator is null");
         final int expectedModCount = super.getModCount();
+        final Object[] elements = this.array;
         final int size = super.size();
-        for (int i = 0; super.getModCount() == expectedModCount && i < size; i++) {
-            this.array[i] = operator.apply((T) this.array[i]);
+        for (int i = 0; i < size; i++) {
+            elements[i] = operator.apply((T) elements[i]);
         }
         if (super.getModCount() != expectedModCount) {
             throw new ConcurrentModificationException();
         }
-        super.setModCount(super.getModCount() + 1);
+        super.increaseModCount();
+    }
+
+    /**
+     * Checks whether the lookups of this array use the hash index of the
+     * elements.
+     *
+     * @return {@code true} if this array is indexed.
+     * @see #setIndexed(boolean)
+     * @since 3.2
+     */
+    public boolean isIndexed() {
+        return this.indexed;
+    }
+
+    /**
+     * Enables or disables the hash index of the elements of this array, mapping
+     * each element to the positions at which it occurs.<p>The indexed array
+     * answers {@link #contains}, {@link #indexOf} and {@link #lastIndexOf} in
+     * the constant time and {@link #containsAll} in the time linear in the size
+     * of the argument. The index is kept up to date by {@link #add(Object)},
+     * {@link #set}, the insertion and the removal of one element, which shift
+     * the positions of the following elements in the time linear in their
+     * number. The index is dropped by the bulk removals and is rebuilt in the
+     * linear time on the first lookup after them or after any other
+     * structural modification, such as the sorting. The index takes
+     * memory proportional to the number of distinct elements, and the elements
+     * must not change their hash code while they are in this array.
+     *
+     * @param indexed {@code true} to enable the index, {@code false} to
+     * disable it and release its memory.
+     * @since 3.2
+     */
+    public void setIndexed(final boolean indexed) {
+        this.indexed = indexed;
+        if (!indexed) {
+            this.index = null;
+        }
     }
 
     public void ensureCapacity() {
         if (super.size() == this.array.length) {
-            this.array = Arrays.copyOf(this.array, this.array.length << 1);
+            this.ensureCapacity(super.size() + 1);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void ensureCapacity(final int minCapacity) {
+        if (minCapacity > this.array.length) {
+            this.array = Arrays.copyOf(this.array,
+                                       super.grownCapacity(this.array.length,
+                                                           minCapacity));
         }
     }
 
@@ -881,8 +1540,141 @@ public class Array<T> extends AbstractArray implements List<T> {
         }
     }
 
-    private boolean isExactlyAdded(final T t) {
-        return this.array[super.size()].equals(t);
+    /*
+     * Returns the length of the underlying array.
+     */
+    int capacity() {
+        return this.array.length;
+    }
+
+    /*
+     * Compacts the array in place: the elements not matching the filter are
+     * moved to the front in one pass, and the freed tail is cleared for the
+     * garbage collector. If the filter throws an exception, the not yet
+     * checked elements are kept, so the array stays consistent.
+     */
+    private boolean removeElements(final Predicate<Object> filter) {
+        final int expectedModCount = super.getModCount();
+        final int size = super.size();
+        final Object[] elements = this.array;
+        int read = 0;
+        int write = 0;
+        try {
+            for (; read < size; read++) {
+                Object element = elements[read];
+                if (!filter.test(element)) {
+                    elements[write++] = element;
+                }
+                if (expectedModCount != super.getModCount()) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+        } finally {
+            if (read != size && expectedModCount == super.getModCount()) {
+                System.arraycopy(elements, read, elements, write, size - read);
+                write += size - read;
+            }
+            if (write != size && expectedModCount == super.getModCount()) {
+                Arrays.fill(elements, write, size, null);
+                super.decreaseSize(size - write);
+                super.increaseModCount();
+                this.index = null;
+                this.shrinkCapacity();
+            }
+        }
+        return write != size;
+    }
+
+    private void removeRange(final int fromIndex, final int toIndex) {
+        if (fromIndex < toIndex) {
+            final int size = super.size();
+            System.arraycopy(this.array, toIndex, this.array, fromIndex,
+                             size - toIndex);
+            Arrays.fill(this.array, size - (toIndex - fromIndex), size, null);
+            super.decreaseSize(toIndex - fromIndex);
+            super.increaseModCount();
+            this.index = null;
+        }
+    }
+
+    /*
+     * Updates the positions of the elements, which have been moved by the
+     * distance to the left (or to the right, if the distance is negative) into
+     * the range from the fromIndex to the toIndex. The positions are updated
+     * in the direction of the move, so that the position to which an element
+     * is moved is never occupied and the positions of the repeated elements
+     * stay sorted.
+     */
+    private void moveInIndex(final ElementIndex elementIndex,
+                             final int fromIndex, final int toIndex,
+                             final int distance) {
+        if (distance > 0) {
+            for (int i = fromIndex; i < toIndex; i++) {
+                elementIndex.move(this.array[i], i + distance, i);
+            }
+        } else {
+            for (int i = toIndex - 1; i >= fromIndex; i--) {
+                elementIndex.move(this.array[i], i + distance, i);
+            }
+        }
+    }
+
+    /*
+     * Resets the modification count when the elements are replaced. The index
+     * is dropped together with the count, since the index built before the
+     * reset could have the same count as the new elements.
+     */
+    private void resetModCount() {
+        super.setModCount(START_MOD_COUNT);
+        this.index = null;
+    }
+
+    /*
+     * Gets the index of the elements, rebuilding it if it is out of date, or
+     * null if this array is not indexed.
+     */
+    private ElementIndex index() {
+        if (!this.indexed) {
+            return null;
+        }
+        if (this.index == null
+                || this.index.getModCount() != super.getModCount()) {
+            this.index = new ElementIndex(this.array, super.size(),
+                                          super.getModCount());
+        }
+        return this.index;
+    }
+
+    /*
+     * Gets the index of the elements if it is up to date and can be updated
+     * incrementally, or null otherwise.
+     */
+    private ElementIndex validIndex() {
+        if (this.index != null
+                && this.index.getModCount() == super.getModCount()) {
+            return this.index;
+        }
+        return null;
+    }
+
+    private void shrinkCapacity() {
+        int capacity = shrunkCapacity(super.size(), this.array.length);
+        if (capacity != this.array.length) {
+            this.array = Arrays.copyOf(this.array, capacity);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Comparator<Object> comparatorOf(
+            final Comparator<?> comparator) {
+        return (Comparator<Object>) comparator;
+    }
+
+    private static Collection<?> lookupOf(final Collection<?> c) {
+        if (c.size() > BULK_LOOKUP_THRESHOLD && !(c instanceof Set)) {
+            return new HashSet<>(c);
+        }
+        return c;
     }
 
 }
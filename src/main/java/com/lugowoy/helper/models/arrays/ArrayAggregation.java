@@ -0,0 +1,292 @@
+package com.lugowoy.helper.models.arrays;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+
+/**
+ * The utility class containing the aggregation kernels over the ranges of the
+ * backing arrays of {@link ArrayInts} and {@link ArrayDoubles}.<p>The kernels
+ * are the loops unrolled by four with the independent accumulators, which the
+ * JIT compiler turns into the SIMD instructions, and the ranges at least
+ * {@link #PARALLEL_THRESHOLD} long are aggregated in the {@link
+ * ForkJoinPool#commonPool()} by splitting them in halves and combining the
+ * partial results.
+ * <p>
+ * Created by Konstantin Lugowoy on 18.10.2026.
+ *
+ * @author Konstantin Lugowoy
+ * @version 1.0
+ * @since 3.2
+ */
+final class ArrayAggregation {
+
+    /*
+     * The size of an array from which the aggregation runs in parallel.
+     */
+    static final int PARALLEL_THRESHOLD = 1 << 17;
+
+    /*
+     * The parallel aggregation splits the ranges until they are no longer
+     * than this.
+     */
+    private static final int LEAF_SIZE = 1 << 15;
+
+    private ArrayAggregation() {
+    }
+
+    static boolean isParallel(final int size) {
+        return size >= PARALLEL_THRESHOLD
+               && ForkJoinPool.getCommonPoolParallelism() > 1;
+    }
+
+    /**
+     * Aggregates the range from {@code from}(inclusive) to {@code
+     * to}(exclusive) in the common fork/join pool, applying the {@code kernel}
+     * to the subranges and combining the partial results, the left one first,
+     * by the {@code combiner}.
+     */
+    static <R> R parallel(final int from, final int to,
+                          final RangeKernel<R> kernel,
+                          final BinaryOperator<R> combiner) {
+        return ForkJoinPool.commonPool().invoke(
+                new AggregationTask<>(from, to, kernel, combiner));
+    }
+
+    static long sum(final int[] array, final int from, final int to) {
+        long s0 = 0;
+        long s1 = 0;
+        long s2 = 0;
+        long s3 = 0;
+        int i = from;
+        for (final int bound = to - 3; i < bound; i += 4) {
+            s0 += array[i];
+            s1 += array[i + 1];
+            s2 += array[i + 2];
+            s3 += array[i + 3];
+        }
+        for (; i < to; i++) {
+            s0 += array[i];
+        }
+        return s0 + s1 + s2 + s3;
+    }
+
+    static double sum(final double[] array, final int from, final int to) {
+        double s0 = 0;
+        double s1 = 0;
+        double s2 = 0;
+        double s3 = 0;
+        int i = from;
+        for (final int bound = to - 3; i < bound; i += 4) {
+            s0 += array[i];
+            s1 += array[i + 1];
+            s2 += array[i + 2];
+            s3 += array[i + 3];
+        }
+        for (; i < to; i++) {
+            s0 += array[i];
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    static int min(final int[] array, final int from, final int to) {
+        int m0 = Integer.MAX_VALUE;
+        int m1 = Integer.MAX_VALUE;
+        int m2 = Integer.MAX_VALUE;
+        int m3 = Integer.MAX_VALUE;
+        int i = from;
+        for (final int bound = to - 3; i < bound; i += 4) {
+            m0 = Math.min(m0, array[i]);
+            m1 = Math.min(m1, array[i + 1]);
+            m2 = Math.min(m2, array[i + 2]);
+            m3 = Math.min(m3, array[i + 3]);
+        }
+        for (; i < to; i++) {
+            m0 = Math.min(m0, array[i]);
+        }
+        return Math.min(Math.min(m0, m1), Math.min(m2, m3));
+    }
+
+    static int max(final int[] array, final int from, final int to) {
+        int m0 = Integer.MIN_VALUE;
+        int m1 = Integer.MIN_VALUE;
+        int m2 = Integer.MIN_VALUE;
+        int m3 = Integer.MIN_VALUE;
+        int i = from;
+        for (final int bound = to - 3; i < bound; i += 4) {
+            m0 = Math.max(m0, array[i]);
+            m1 = Math.max(m1, array[i + 1]);
+            m2 = Math.max(m2, array[i + 2]);
+            m3 = Math.max(m3, array[i + 3]);
+        }
+        for (; i < to; i++) {
+            m0 = Math.max(m0, array[i]);
+        }
+        return Math.max(Math.max(m0, m1), Math.max(m2, m3));
+    }
+
+    static double min(final double[] array, final int from, final int to) {
+        double m0 = Double.POSITIVE_INFINITY;
+        double m1 = Double.POSITIVE_INFINITY;
+        double m2 = Double.POSITIVE_INFINITY;
+        double m3 = Double.POSITIVE_INFINITY;
+        int i = from;
+        for (final int bound = to - 3; i < bound; i += 4) {
+            m0 = Math.min(m0, array[i]);
+            m1 = Math.min(m1, array[i + 1]);
+            m2 = Math.min(m2, array[i + 2]);
+            m3 = Math.min(m3, array[i + 3]);
+        }
+        for (; i < to; i++) {
+            m0 = Math.min(m0, array[i]);
+        }
+        return Math.min(Math.min(m0, m1), Math.min(m2, m3));
+    }
+
+    static double max(final double[] array, final int from, final int to) {
+        double m0 = Double.NEGATIVE_INFINITY;
+        double m1 = Double.NEGATIVE_INFINITY;
+        double m2 = Double.NEGATIVE_INFINITY;
+        double m3 = Double.NEGATIVE_INFINITY;
+        int i = from;
+        for (final int bound = to - 3; i < bound; i += 4) {
+            m0 = Math.max(m0, array[i]);
+            m1 = Math.max(m1, array[i + 1]);
+            m2 = Math.max(m2, array[i + 2]);
+            m3 = Math.max(m3, array[i + 3]);
+        }
+        for (; i < to; i++) {
+            m0 = Math.max(m0, array[i]);
+        }
+        return Math.max(Math.max(m0, m1), Math.max(m2, m3));
+    }
+
+    /*
+     * The first index of the value in the range; the value is known to be
+     * there, since it was found by the min or max kernel.
+     */
+    static int indexOf(final int[] array, final int from, final int to,
+                       final int value) {
+        for (int i = from; i < to; i++) {
+            if (array[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /*
+     * The first index of the value in the range, comparing the bits, so that
+     * -0.0 is distinguished from 0.0 and NaN is found.
+     */
+    static int indexOf(final double[] array, final int from, final int to,
+                       final double value) {
+        final long bits = Double.doubleToLongBits(value);
+        for (int i = from; i < to; i++) {
+            if (Double.doubleToLongBits(array[i]) == bits) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /*
+     * The sum of the squared deviations of the values in the range from the
+     * mean of the range, computed in the second pass for the accuracy.
+     */
+    static double squaredDeviations(final int[] array, final int from,
+                                    final int to, final double mean) {
+        double s0 = 0;
+        double s1 = 0;
+        int i = from;
+        for (final int bound = to - 1; i < bound; i += 2) {
+            final double d0 = array[i] - mean;
+            final double d1 = array[i + 1] - mean;
+            s0 += d0 * d0;
+            s1 += d1 * d1;
+        }
+        if (i < to) {
+            final double d = array[i] - mean;
+            s0 += d * d;
+        }
+        return s0 + s1;
+    }
+
+    static double squaredDeviations(final double[] array, final int from,
+                                    final int to, final double mean) {
+        double s0 = 0;
+        double s1 = 0;
+        int i = from;
+        for (final int bound = to - 1; i < bound; i += 2) {
+            final double d0 = array[i] - mean;
+            final double d1 = array[i + 1] - mean;
+            s0 += d0 * d0;
+            s1 += d1 * d1;
+        }
+        if (i < to) {
+            final double d = array[i] - mean;
+            s0 += d * d;
+        }
+        return s0 + s1;
+    }
+
+    /*
+     * Combines the count, the mean and the sum of the squared deviations of
+     * the two ranges by the pairwise formula of Chan et al.
+     */
+    static double[] combineMoments(final double[] left, final double[] right) {
+        final double count = left[0] + right[0];
+        final double delta = right[1] - left[1];
+        final double mean = left[1] + delta * right[0] / count;
+        final double m2 = left[2] + right[2]
+                          + delta * delta * left[0] * right[0] / count;
+        return new double[]{count, mean, m2};
+    }
+
+    /**
+     * The aggregation of the range of an array.
+     *
+     * @param <R> the type of the result of the aggregation.
+     */
+    @FunctionalInterface
+    interface RangeKernel<R> {
+
+        R apply(int from, int to);
+
+    }
+
+    private static final class AggregationTask<R> extends RecursiveTask<R> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final transient RangeKernel<R> kernel;
+        private final transient BinaryOperator<R> combiner;
+
+        private AggregationTask(final int from, final int to,
+                                final RangeKernel<R> kernel,
+                                final BinaryOperator<R> combiner) {
+            this.from = from;
+            this.to = to;
+            this.kernel = kernel;
+            this.combiner = combiner;
+        }
+
+        @Override
+        protected R compute() {
+            if (this.to - this.from <= LEAF_SIZE) {
+                return this.kernel.apply(this.from, this.to);
+            }
+            final int middle = (this.from + this.to) >>> 1;
+            final AggregationTask<R> left = new AggregationTask<>(
+                    this.from, middle, this.kernel, this.combiner);
+            left.fork();
+            final R right = new AggregationTask<>(middle, this.to, this.kernel,
+                                                  this.combiner).compute();
+            return this.combiner.apply(left.join(), right);
+        }
+
+    }
+
+}
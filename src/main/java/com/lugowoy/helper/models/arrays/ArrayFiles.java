@@ -0,0 +1,256 @@
+package com.lugowoy.helper.models.arrays;
+
+import com.lugowoy.helper.utils.Capacity;
+import com.lugowoy.helper.utils.LengthOutOfRangeException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * The utility class implementing the binary file format of the primitive
+ * arrays.<p>The file consists of the header of {@link #HEADER_BYTES} bytes
+ * followed by the elements. The header holds, in the big-endian order, the
+ * magic number, the version of the format, the type of the elements, the byte
+ * order of the elements and the number of the elements. The elements are
+ * written in the native byte order of the writing machine, so that the file
+ * can be mapped into memory and used as is on the same machine, and the
+ * recorded byte order lets the other machines read it correctly. The mapped
+ * array is written back in the byte order it was read in.
+ * <p>
+ * Created by Konstantin Lugowoy on 18.10.2026.
+ *
+ * @author Konstantin Lugowoy
+ * @version 1.0
+ * @since 3.2
+ */
+final class ArrayFiles {
+
+    static final int HEADER_BYTES = 16;
+
+    static final byte TYPE_INTS = 'I';
+    static final byte TYPE_DOUBLES = 'D';
+
+    private static final int MAGIC = 0x48415252;
+    private static final byte VERSION = 1;
+
+    private static final byte BIG_ENDIAN = 0;
+    private static final byte LITTLE_ENDIAN = 1;
+
+    /*
+     * The size of the buffer through which the heap arrays are written.
+     */
+    private static final int CHUNK_BYTES = 1 << 16;
+
+    private ArrayFiles() {
+    }
+
+    /**
+     * Creates or truncates the {@code file} and writes the header of the
+     * array of the {@code size} elements of the {@code type} stored in the
+     * {@code order}. The returned channel is positioned at the first element.
+     */
+    static FileChannel create(final Path file, final byte type,
+                              final ByteOrder order, final long size)
+            throws IOException {
+        final FileChannel channel = FileChannel.open(
+                file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        try {
+            final ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            header.putInt(MAGIC).put(VERSION).put(type)
+                  .put(order == ByteOrder.BIG_ENDIAN
+                       ? BIG_ENDIAN : LITTLE_ENDIAN)
+                  .put((byte) 0).putLong(size).flip();
+            write(channel, header);
+            return channel;
+        } catch (IOException | RuntimeException ex) {
+            channel.close();
+            throw ex;
+        }
+    }
+
+    /**
+     * Reads and checks the header of the array of the elements of the {@code
+     * type}, which are {@code 1 << elementShift} bytes long.
+     *
+     * @throws IOException if the file is not the array file of the {@code
+     * type}, or it is shorter than the header states.
+     */
+    static Header readHeader(final FileChannel channel, final Path file,
+                             final byte type, final int elementShift)
+            throws IOException {
+        final ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        while (header.hasRemaining()) {
+            if (channel.read(header, header.position()) < 0) {
+                throw new IOException("File is not an array file: " + file);
+            }
+        }
+        header.flip();
+        if (header.getInt() != MAGIC || header.get() != VERSION) {
+            throw new IOException("File is not an array file: " + file);
+        }
+        if (header.get() != type) {
+            throw new IOException("File contains the elements of other type: "
+                                  + file);
+        }
+        final ByteOrder order = header.get() == BIG_ENDIAN
+                                ? ByteOrder.BIG_ENDIAN
+                                : ByteOrder.LITTLE_ENDIAN;
+        header.get();
+        final long size = header.getLong();
+        if (size < 0 || size > (Long.MAX_VALUE - HEADER_BYTES) >>> elementShift
+            || channel.size() < HEADER_BYTES + (size << elementShift)) {
+            throw new IOException("File is truncated: " + file);
+        }
+        return new Header(size, order);
+    }
+
+    static void write(final FileChannel channel, final ByteBuffer buffer)
+            throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    static void writeInts(final FileChannel channel, final int[] array,
+                          final int size) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(CHUNK_BYTES)
+                                            .order(ByteOrder.nativeOrder());
+        for (int i = 0; i < size; ) {
+            final int length = Math.min(size - i, CHUNK_BYTES / Integer.BYTES);
+            buffer.clear();
+            buffer.asIntBuffer().put(array, i, length);
+            buffer.limit(length * Integer.BYTES);
+            write(channel, buffer);
+            i += length;
+        }
+    }
+
+    static void writeDoubles(final FileChannel channel, final double[] array,
+                             final int size) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(CHUNK_BYTES)
+                                            .order(ByteOrder.nativeOrder());
+        for (int i = 0; i < size; ) {
+            final int length = Math.min(size - i, CHUNK_BYTES / Double.BYTES);
+            buffer.clear();
+            buffer.asDoubleBuffer().put(array, i, length);
+            buffer.limit(length * Double.BYTES);
+            write(channel, buffer);
+            i += length;
+        }
+    }
+
+    /*
+     * Reads the elements following the header into the array, converting
+     * them from the byte order of the file.
+     */
+    static void readInts(final FileChannel channel, final Header header,
+                         final int[] array) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(CHUNK_BYTES)
+                                            .order(header.order);
+        long position = HEADER_BYTES;
+        for (int i = 0; i < array.length; ) {
+            final int length = Math.min(array.length - i,
+                                        CHUNK_BYTES / Integer.BYTES);
+            buffer.clear().limit(length * Integer.BYTES);
+            position += read(channel, buffer, position);
+            buffer.flip();
+            buffer.asIntBuffer().get(array, i, length);
+            i += length;
+        }
+    }
+
+    static void readDoubles(final FileChannel channel, final Header header,
+                            final double[] array) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(CHUNK_BYTES)
+                                            .order(header.order);
+        long position = HEADER_BYTES;
+        for (int i = 0; i < array.length; ) {
+            final int length = Math.min(array.length - i,
+                                        CHUNK_BYTES / Double.BYTES);
+            buffer.clear().limit(length * Double.BYTES);
+            position += read(channel, buffer, position);
+            buffer.flip();
+            buffer.asDoubleBuffer().get(array, i, length);
+            i += length;
+        }
+    }
+
+    /**
+     * Maps the elements of the array file into the segments of {@link
+     * AbstractOffHeapArray#SEGMENT_BYTES} bytes, the last one may be shorter.
+     */
+    static ByteBuffer[] map(final FileChannel channel, final Header header,
+                            final int elementShift,
+                            final FileChannel.MapMode mode)
+            throws IOException {
+        final long bytes = header.size << elementShift;
+        final int segmentBytes = AbstractOffHeapArray.SEGMENT_BYTES;
+        final ByteBuffer[] segments = new ByteBuffer[
+                (int) ((bytes + segmentBytes - 1) / segmentBytes)];
+        for (int i = 0; i < segments.length; i++) {
+            final long position = (long) i * segmentBytes;
+            segments[i] = channel.map(mode, HEADER_BYTES + position,
+                                      Math.min(segmentBytes, bytes - position))
+                                 .order(header.order);
+        }
+        return segments;
+    }
+
+    private static int read(final FileChannel channel, final ByteBuffer buffer,
+                            final long position) throws IOException {
+        int read = 0;
+        while (buffer.hasRemaining()) {
+            final int count = channel.read(buffer, position + read);
+            if (count < 0) {
+                throw new IOException("Unexpected end of the file");
+            }
+            read += count;
+        }
+        return read;
+    }
+
+    /**
+     * Checks that the array of the {@code size} elements fits into the heap
+     * array.
+     *
+     * @throws LengthOutOfRangeException if the {@code size} is greater than
+     * {@link Capacity#UPPER}.
+     */
+    static int checkHeapSize(final long size) {
+        if (size > Capacity.UPPER.get()) {
+            throw new LengthOutOfRangeException(
+                    "Length value " + size + " out of range from "
+                    + Capacity.LOWER.get() + " to " + Capacity.UPPER.get());
+        }
+        return (int) size;
+    }
+
+    /*
+     * The size and the byte order of the elements of the array file.
+     */
+    static final class Header {
+
+        private final long size;
+        private final ByteOrder order;
+
+        private Header(final long size, final ByteOrder order) {
+            this.size = size;
+            this.order = order;
+        }
+
+        long getSize() {
+            return this.size;
+        }
+
+        ByteOrder getOrder() {
+            return this.order;
+        }
+
+    }
+
+}
@@ -4,20 +4,32 @@ import com.lugowoy.helper.checkers.CheckerArray;
 import com.lugowoy.helper.checkers.CheckerBoundNumber;
 import com.lugowoy.helper.checkers.CheckerIndex;
 import com.lugowoy.helper.utils.Capacity;
-import org.apache.commons.lang3.SerializationUtils;
+import org.jetbrains.annotations.NotNull;
 
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
 import java.util.ConcurrentModificationException;
-import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
 
 /**
  * Created by Konstantin Lugowoy on 16.10.2019.
  *
  * @author Konstantin Lugowoy
- * @version 2.4
+ * @version 3.2
  * @since 2.0
  */
 //TODO write documentation
@@ -93,15 +105,22 @@ public final class ArrayInts extends AbstractArray {
         ArrayInts cloneArrayInts;
         try {
             cloneArrayInts = (ArrayInts) super.clone();
-            cloneArrayInts.setArray(SerializationUtils.clone(this.array));
+            cloneArrayInts.array = Arrays.copyOf(this.array, this.array.length);
         } catch (CloneNotSupportedException ex) {
             throw new UnsupportedOperationException(ex);
         }
         return cloneArrayInts;
     }
 
-    public Iterator<Integer> iterator() {
-        return new Iterator<>() {
+    /**
+     * Returns the fail-fast iterator over the elements of this array. The
+     * iterator returns the elements without boxing through {@link
+     * PrimitiveIterator.OfInt#nextInt()}.
+     *
+     * @return the iterator over the elements of this array.
+     */
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
 
             private int cursorIterator = 0;
             private int lastReturned = -1;
@@ -113,7 +132,7 @@ public final class ArrayInts extends AbstractArray {
             }
 
             @Override
-            public Integer next() {
+            public int nextInt() {
                 this.checkModification();
                 if (this.cursorIterator >= ArrayInts.super.size()) {
                     throw new NoSuchElementException();
@@ -133,7 +152,7 @@ public final class ArrayInts extends AbstractArray {
                 }
                 this.checkModification();
                 try {
-                    ArrayInts.this.remove(this.lastReturned);
+                    ArrayInts.this.removeByIndex(this.lastReturned);
                     this.cursorIterator = this.lastReturned;
                     this.lastReturned = -1;
                     this.expectedModCount = ArrayInts.super.getModCount();
@@ -143,9 +162,19 @@ public final class ArrayInts extends AbstractArray {
             }
 
             @Override
-            public void forEachRemaining(
-                    final Consumer<? super Integer> action) {
-                throw new UnsupportedOperationException("Not realize.");
+            public void forEachRemaining(final IntConsumer action) {
+                Objects.requireNonNull(action, "Action is null.");
+                final int[] elements = ArrayInts.this.array;
+                final int size = ArrayInts.super.size();
+                int cursor = this.cursorIterator;
+                for (; cursor < size; cursor++) {
+                    action.accept(elements[cursor]);
+                }
+                if (cursor != this.cursorIterator) {
+                    this.cursorIterator = cursor;
+                    this.lastReturned = cursor - 1;
+                }
+                this.checkModification();
             }
 
             private void checkModification() {
@@ -157,24 +186,123 @@ public final class ArrayInts extends AbstractArray {
     }
 
     public void forEach(final Consumer<Integer> action) {
+        Objects.requireNonNull(action, "Action is null.");
+        this.forEachInt(action::accept);
+    }
+
+    /**
+     * Creates a late-binding and fail-fast {@link Spliterator.OfInt} over
+     * the elements of this array. The spliterator reports {@link
+     * Spliterator#SIZED}, {@link Spliterator#SUBSIZED} and {@link
+     * Spliterator#ORDERED}, and splits the range of the indexes in halves.
+     *
+     * @return the spliterator over the elements of this array.
+     * @since 3.2
+     */
+    public Spliterator.OfInt spliterator() {
+        return new SpliteratorArrayInts(0, -1, 0);
+    }
+
+    /**
+     * Returns the sequential {@link IntStream} over the elements of this
+     * array, which traverses the backing array without boxing. The stream
+     * binds to this array when the terminal operation starts.
+     *
+     * @return the stream over the elements of this array.
+     * @since 3.2
+     */
+    public IntStream intStream() {
+        return StreamSupport.intStream(this.spliterator(), false);
+    }
+
+    /**
+     * Returns the parallel {@link IntStream} over the elements of this array,
+     * which traverses the backing array without boxing.
+     *
+     * @return the parallel stream over the elements of this array.
+     * @since 3.2
+     */
+    public IntStream parallelIntStream() {
+        return StreamSupport.intStream(this.spliterator(), true);
+    }
+
+    /**
+     * Performs the given action for each element of this array without
+     * boxing. The elements are traversed in a tight loop over the backing
+     * array, and the modification count is checked once, after the traversal.
+     *
+     * @param action the action to be performed for each element.
+     * @throws NullPointerException if the {@code action} is {@code null}.
+     * @throws ConcurrentModificationException if the action modified the
+     * structure of this array.
+     * @since 3.2
+     */
+    public void forEachInt(@NotNull final IntConsumer action) {
         Objects.requireNonNull(action, "Action is null.");
         final int expectedModCount = super.getModCount();
+        final int[] elements = this.array;
         final int size = super.size();
         for (int i = 0; i < size; i++) {
-            if (expectedModCount == super.getModCount()) {
-                action.accept(this.get(i));
-            } else {
-                throw new ConcurrentModificationException();
-            }
+            action.accept(elements[i]);
+        }
+        if (expectedModCount != super.getModCount()) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Performs the given action for each element of this array together with
+     * its index, in the order of the indices, without boxing.
+     *
+     * @param action the action to be performed for each element.
+     * @throws NullPointerException if the {@code action} is {@code null}.
+     * @throws ConcurrentModificationException if the action modified the
+     * structure of this array.
+     * @since 3.2
+     */
+    public void forEachIndexed(@NotNull final IndexedIntConsumer action) {
+        Objects.requireNonNull(action, "Action is null.");
+        final int expectedModCount = super.getModCount();
+        final int[] elements = this.array;
+        final int size = super.size();
+        for (int i = 0; i < size; i++) {
+            action.accept(i, elements[i]);
+        }
+        if (expectedModCount != super.getModCount()) {
+            throw new ConcurrentModificationException();
         }
     }
 
+    /**
+     * Replaces each element of this array with the result of applying the
+     * {@code operator} to that element, without boxing.
+     *
+     * @param operator the operator to apply to each element.
+     * @throws NullPointerException if the {@code operator} is {@code null}.
+     * @throws ConcurrentModificationException if the operator modified the
+     * structure of this array.
+     * @since 3.2
+     */
+    public void replaceAll(@NotNull final IntUnaryOperator operator) {
+        Objects.requireNonNull(operator, "Operator is null");
+        final int expectedModCount = super.getModCount();
+        final int[] elements = this.array;
+        final int size = super.size();
+        for (int i = 0; i < size; i++) {
+            elements[i] = operator.applyAsInt(elements[i]);
+        }
+        if (expectedModCount != super.getModCount()) {
+            throw new ConcurrentModificationException();
+        }
+        super.increaseModCount();
+    }
+
     public int[] toArray() {
         return Arrays.copyOf(this.array, super.size());
     }
 
     public int[] toDeepArray() {
-        return SerializationUtils.clone(this.array);
+        return this.toArray();
     }
 
     public int[] toArray(int[] array) {
@@ -187,7 +315,7 @@ public final class ArrayInts extends AbstractArray {
     }
 
     public int[] toDeepArray(final int[] array) {
-        return SerializationUtils.clone(toArray(array));
+        return this.toArray(array);
     }
 
     public void setArray(final int capacity) {
@@ -213,14 +341,14 @@ public final class ArrayInts extends AbstractArray {
 
     public void setDeepArray(final int... array) {
         CheckerArray.check(array, Capacity.UPPER.get());
-        this.array = SerializationUtils.clone(array);
+        this.array = Arrays.copyOf(array, array.length);
         super.setSize(this.array.length);
         super.setModCount(AbstractArray.START_MOD_COUNT);
     }
 
     public void setDeepArray(final ArrayInts array) {
         CheckerArray.check(array, Capacity.UPPER.get());
-        this.array = SerializationUtils.clone(array.toArray());
+        this.array = array.toArray();
         super.setSize(this.array.length);
         super.setModCount(AbstractArray.START_MOD_COUNT);
     }
@@ -242,24 +370,21 @@ public final class ArrayInts extends AbstractArray {
     }
 
     public boolean add(final int element) {
-        if (super.size() >= this.array.length) {
-            this.ensureCapacity();
-        }
-        this.array[super.size()] = element;
-        boolean additionResult = false;
-        if (this.isExactlyAdded(element)) {
-            additionResult = true;
-            super.increaseSize();
-            super.increaseModCount();
+        final int size = super.size();
+        if (size == this.array.length) {
+            this.ensureCapacity(size + 1);
         }
-        return additionResult;
+        this.array[size] = element;
+        super.setSize(size + 1);
+        super.increaseModCount();
+        return true;
     }
 
     public void add(final int index, final int element) {
         CheckerBoundNumber.checkInRange(index, Capacity.UPPER.get());
         CheckerIndex.checkInRange(index, super.size() + 1);
         if (super.size() >= this.array.length) {
-            this.ensureCapacity();
+            this.ensureCapacity(super.size() + 1);
         }
         System.arraycopy(this.array, index, this.array, index + 1,
                          super.size() - index);
@@ -273,10 +398,7 @@ public final class ArrayInts extends AbstractArray {
         boolean resultAddAll = false;
         //TODO refactoring this. delete this 'if'
         if (array.length > 0) {
-            if (array.length > (this.array.length - super.size())) {
-                this.array = Arrays.copyOf(this.array, (this.array.length << 1)
-                                                       + array.length);
-            }
+            this.ensureCapacity(super.size() + array.length);
             System.arraycopy(array, 0, this.array, this.size(), array.length);
             super.increaseSize(array.length);
             super.increaseModCount();
@@ -291,10 +413,7 @@ public final class ArrayInts extends AbstractArray {
         boolean resultAddAll = false;
         //TODO refactoring this. delete this 'if'
         if (array.length > 0) {
-            if (array.length > (this.array.length - super.size())) {
-                this.array = Arrays.copyOf(this.array, (this.array.length << 1)
-                                                       + array.length);
-            }
+            this.ensureCapacity(super.size() + array.length);
             int numMoved = super.size() - index;
             if (numMoved > 0) {
                 System.arraycopy(this.array, index, this.array,
@@ -308,6 +427,60 @@ public final class ArrayInts extends AbstractArray {
         return resultAddAll;
     }
 
+    /**
+     * Appends all of the remaining elements of the {@code iterator} to the end
+     * of this array. The capacity grows by the growth policy only when it is
+     * exhausted, and the size and the modification count are updated once,
+     * after the last element is added.
+     *
+     * @param iterator the iterator over the elements to be added to this array.
+     * @return {@code true} if this array changed as a result of the call.
+     * @throws NullPointerException if the {@code iterator} is {@code null}.
+     * @since 3.2
+     */
+    public boolean addAll(@NotNull final PrimitiveIterator.OfInt iterator) {
+        Objects.requireNonNull(iterator, "Iterator argument is null.");
+        final int startSize = super.size();
+        int[] elements = this.array;
+        int size = startSize;
+        try {
+            while (iterator.hasNext()) {
+                if (size == elements.length) {
+                    this.ensureCapacity(size + 1);
+                    elements = this.array;
+                }
+                elements[size++] = iterator.nextInt();
+            }
+        } finally {
+            if (size != startSize) {
+                super.setSize(size);
+                super.increaseModCount();
+            }
+        }
+        return size != startSize;
+    }
+
+    /**
+     * Appends all of the elements of the {@code stream} to the end of this
+     * array, in the encounter order of the {@code stream}. If the exact size of
+     * the {@code stream} is known in advance, the capacity grows once.
+     *
+     * @param stream the stream of the elements to be added to this array.
+     * @return {@code true} if this array changed as a result of the call.
+     * @throws NullPointerException if the {@code stream} is {@code null}.
+     * @since 3.2
+     */
+    public boolean addAll(@NotNull final IntStream stream) {
+        Objects.requireNonNull(stream, "Stream argument is null.");
+        final Spliterator.OfInt spliterator = stream.spliterator();
+        final long exactSize = spliterator.getExactSizeIfKnown();
+        if (exactSize > 0) {
+            this.ensureCapacity((int) Math.min(super.size() + exactSize,
+                                               Integer.MAX_VALUE));
+        }
+        return this.addAll(Spliterators.iterator(spliterator));
+    }
+
     //TODO add methods:
     // addAll(ArrayDoubles array);
     // addAll(int index, ArrayDoubles array);
@@ -326,46 +499,47 @@ public final class ArrayInts extends AbstractArray {
 
     public int removeByIndex(final int index) {
         Objects.checkIndex(index, super.size());
-        int[] newArray = new int[this.array.length - 1];
         int resultRemove = this.get(index);
-        System.arraycopy(this.array, 0, newArray, 0, index);
-        System.arraycopy(this.array, index + 1, newArray, index,
+        System.arraycopy(this.array, index + 1, this.array, index,
                          super.size() - (index + 1));
-        this.array = newArray;
+        this.array[super.size() - 1] = 0;
         super.decreaseSize();
         super.increaseModCount();
         return resultRemove;
     }
 
     public boolean removeAll(final int element) {
-        boolean resultRemove = false;
-        int indexToRemove;
-        while (true) {
-            indexToRemove = this.indexOf(element);
-            if (indexToRemove == -1) {
-                break;
-            } else {
-                this.removeByIndex(indexToRemove);
-                resultRemove = true;
-            }
-        }
-        return resultRemove;
+        return this.removeElements(value -> value == element);
     }
 
     public boolean removeAll(final int... array) {
         Objects.requireNonNull(array, "Array is null.");
         boolean resultRemoveAll = false;
-        for (int i = 0; i < array.length; i++) {
-            for (int j = 0; j < super.size(); j++) {
-                if (array[i] == this.get(j)) {
-                    this.removeByIndex(j);
-                    resultRemoveAll = true;
-                }
-            }
+        if (array.length > 0) {
+            resultRemoveAll = this.removeElements(containedIn(array));
         }
         return resultRemoveAll;
     }
 
+    /**
+     * Removes all of the elements of this array that satisfy the given
+     * predicate. The elements are removed in one pass over the array without
+     * the allocation of a new array, the capacity is reduced only when the
+     * most of the elements are removed.
+     *
+     * @param filter a predicate which returns {@code true} for elements to be
+     * removed.
+     * @return {@code true} if any elements were removed.
+     * @throws NullPointerException if the {@code filter} is {@code null}.
+     * @throws ConcurrentModificationException if the {@code filter} modifies
+     * this array.
+     * @since 3.2
+     */
+    public boolean removeIf(final IntPredicate filter) {
+        Objects.requireNonNull(filter, "Predicate is null");
+        return this.removeElements(filter);
+    }
+
     public void clear() {
         this.array = new int[0];
     }
@@ -387,15 +561,8 @@ public final class ArrayInts extends AbstractArray {
 
     public boolean retainAll(final int... array) {
         Objects.requireNonNull(array, "Array is null.");
-        boolean resultRetainAll = false;
-        for (int i = super.size() - 1; i >= 0; i--) {
-            int val = this.get(i);
-            if (!this.contains(val)) {
-                this.removeByIndex(i);
-                resultRetainAll = true;
-            }
-        }
-        return resultRetainAll;
+        final IntPredicate contained = containedIn(array);
+        return this.removeElements(value -> !contained.test(value));
     }
 
     public int indexOf(final int element) {
@@ -420,10 +587,313 @@ public final class ArrayInts extends AbstractArray {
         return resultLastIndexOf;
     }
 
+    /**
+     * Sorts the elements of this array in ascending order.<br>The equal
+     * values are indistinguishable, so the result is the same as of a stable
+     * sort.
+     *
+     * @since 3.2
+     */
+    public void sort() {
+        this.sort(0, super.size());
+    }
+
+    /**
+     * Sorts the elements of this array from {@code fromIndex}(inclusive) to
+     * {@code toIndex}(exclusive) in ascending order.
+     *
+     * @param fromIndex the index of the first element to be sorted.
+     * @param toIndex the index after the last element to be sorted.
+     * @throws IndexOutOfBoundsException if the {@code fromIndex} or the {@code
+     * toIndex} is out of range ({@code fromIndex < 0 || toIndex > size()}).
+     * @throws com.lugowoy.helper.utils.BoundsComparisonException if the
+     * {@code fromIndex} is greater than the {@code toIndex}.
+     * @see Arrays#sort(int[], int, int)
+     * @since 3.2
+     */
+    public void sort(final int fromIndex, final int toIndex) {
+        super.checkRange(fromIndex, toIndex);
+        Arrays.sort(this.array, fromIndex, toIndex);
+        super.increaseModCount();
+    }
+
+    /**
+     * Sorts the elements of this array in ascending order, using the
+     * fork/join framework to sort the parts of the array in parallel.
+     *
+     * @since 3.2
+     */
+    public void parallelSort() {
+        this.parallelSort(0, super.size());
+    }
+
+    /**
+     * Sorts the elements of this array from {@code fromIndex}(inclusive) to
+     * {@code toIndex}(exclusive) in ascending order, using the fork/join
+     * framework to sort the parts of the range in parallel.
+     *
+     * @param fromIndex the index of the first element to be sorted.
+     * @param toIndex the index after the last element to be sorted.
+     * @throws IndexOutOfBoundsException if the {@code fromIndex} or the {@code
+     * toIndex} is out of range ({@code fromIndex < 0 || toIndex > size()}).
+     * @throws com.lugowoy.helper.utils.BoundsComparisonException if the
+     * {@code fromIndex} is greater than the {@code toIndex}.
+     * @see Arrays#parallelSort(int[], int, int)
+     * @since 3.2
+     */
+    public void parallelSort(final int fromIndex, final int toIndex) {
+        super.checkRange(fromIndex, toIndex);
+        Arrays.parallelSort(this.array, fromIndex, toIndex);
+        super.increaseModCount();
+    }
+
+    /**
+     * Sorts the elements of this array in ascending order by the radix sort.
+     *
+     * @since 3.2
+     */
+    public void radixSort() {
+        this.radixSort(0, super.size());
+    }
+
+    /**
+     * Sorts the elements of this array from {@code fromIndex}(inclusive) to
+     * {@code toIndex}(exclusive) in ascending order by the LSD radix sort.
+     * The radix sort takes linear time and is faster than the comparison sort
+     * on the large ranges of the arbitrary values, at the cost of the buffer
+     * of the length of the range.
+     *
+     * @param fromIndex the index of the first element to be sorted.
+     * @param toIndex the index after the last element to be sorted.
+     * @throws IndexOutOfBoundsException if the {@code fromIndex} or the {@code
+     * toIndex} is out of range ({@code fromIndex < 0 || toIndex > size()}).
+     * @throws com.lugowoy.helper.utils.BoundsComparisonException if the
+     * {@code fromIndex} is greater than the {@code toIndex}.
+     * @since 3.2
+     */
+    public void radixSort(final int fromIndex, final int toIndex) {
+        super.checkRange(fromIndex, toIndex);
+        ArraySorting.radixSort(this.array, fromIndex, toIndex);
+        super.increaseModCount();
+    }
+
+    /**
+     * Gets the sum of the elements of this array. The elements are summed up
+     * into {@code long}, so the sum does not overflow.
+     *
+     * @return the sum of the elements, or zero if this array is empty.
+     * @since 3.2
+     */
+    public long sum() {
+        final int[] elements = this.array;
+        final int size = super.size();
+        if (ArrayAggregation.isParallel(size)) {
+            return ArrayAggregation.parallel(
+                    0, size, (from, to) -> ArrayAggregation.sum(elements, from,
+                                                                to),
+                    Long::sum);
+        }
+        return ArrayAggregation.sum(elements, 0, size);
+    }
+
+    /**
+     * Gets the minimum element of this array.
+     *
+     * @return the minimum element.
+     * @throws NoSuchElementException if this array is empty.
+     * @since 3.2
+     */
+    public int min() {
+        this.checkNotEmpty();
+        final int[] elements = this.array;
+        final int size = super.size();
+        if (ArrayAggregation.isParallel(size)) {
+            return ArrayAggregation.parallel(
+                    0, size, (from, to) -> ArrayAggregation.min(elements, from,
+                                                                to),
+                    Math::min);
+        }
+        return ArrayAggregation.min(elements, 0, size);
+    }
+
+    /**
+     * Gets the maximum element of this array.
+     *
+     * @return the maximum element.
+     * @throws NoSuchElementException if this array is empty.
+     * @since 3.2
+     */
+    public int max() {
+        this.checkNotEmpty();
+        final int[] elements = this.array;
+        final int size = super.size();
+        if (ArrayAggregation.isParallel(size)) {
+            return ArrayAggregation.parallel(
+                    0, size, (from, to) -> ArrayAggregation.max(elements, from,
+                                                                to),
+                    Math::max);
+        }
+        return ArrayAggregation.max(elements, 0, size);
+    }
+
+    /**
+     * Gets the index of the first occurrence of the minimum element of this
+     * array.
+     *
+     * @return the index of the minimum element, or -1 if this array is empty.
+     * @see #min()
+     * @since 3.2
+     */
+    public int argMin() {
+        final int[] elements = this.array;
+        final int size = super.size();
+        if (size == 0) {
+            return -1;
+        }
+        if (ArrayAggregation.isParallel(size)) {
+            return ArrayAggregation.parallel(
+                    0, size, (from, to) -> ArrayAggregation.indexOf(
+                            elements, from, to,
+                            ArrayAggregation.min(elements, from, to)),
+                    (i, j) -> elements[j] < elements[i] ? j : i);
+        }
+        return ArrayAggregation.indexOf(elements, 0, size,
+                                        ArrayAggregation.min(elements, 0,
+                                                             size));
+    }
+
+    /**
+     * Gets the index of the first occurrence of the maximum element of this
+     * array.
+     *
+     * @return the index of the maximum element, or -1 if this array is empty.
+     * @see #max()
+     * @since 3.2
+     */
+    public int argMax() {
+        final int[] elements = this.array;
+        final int size = super.size();
+        if (size == 0) {
+            return -1;
+        }
+        if (ArrayAggregation.isParallel(size)) {
+            return ArrayAggregation.parallel(
+                    0, size, (from, to) -> ArrayAggregation.indexOf(
+                            elements, from, to,
+                            ArrayAggregation.max(elements, from, to)),
+                    (i, j) -> elements[j] > elements[i] ? j : i);
+        }
+        return ArrayAggregation.indexOf(elements, 0, size,
+                                        ArrayAggregation.max(elements, 0,
+                                                             size));
+    }
+
+    /**
+     * Gets the arithmetic mean of the elements of this array.
+     *
+     * @return the mean of the elements.
+     * @throws NoSuchElementException if this array is empty.
+     * @since 3.2
+     */
+    public double mean() {
+        this.checkNotEmpty();
+        return (double) this.sum() / super.size();
+    }
+
+    /**
+     * Gets the population variance of the elements of this array. The
+     * variance is computed from the squared deviations from the mean in the
+     * second pass, and the partial results of the parallel computation are
+     * combined by the pairwise formula, so it does not suffer from the
+     * cancellation of the one-pass formula.
+     *
+     * @return the population variance of the elements.
+     * @throws NoSuchElementException if this array is empty.
+     * @since 3.2
+     */
+    public double variance() {
+        this.checkNotEmpty();
+        final int[] elements = this.array;
+        final int size = super.size();
+        if (ArrayAggregation.isParallel(size)) {
+            final double[] moments = ArrayAggregation.parallel(
+                    0, size, (from, to) -> {
+                        final double mean =
+                                (double) ArrayAggregation.sum(elements, from, to)
+                                / (to - from);
+                        return new double[]{to - from, mean,
+                                            ArrayAggregation.squaredDeviations(
+                                                    elements, from, to, mean)};
+                    }, ArrayAggregation::combineMoments);
+            return moments[2] / size;
+        }
+        return ArrayAggregation.squaredDeviations(elements, 0, size,
+                                                  this.mean()) / size;
+    }
+
+    /**
+     * Saves the elements of this array to the binary array file: the small
+     * header followed by the elements in the native byte order. The file can
+     * be loaded by {@link #load(Path)}, or opened without the parsing by
+     * {@link OffHeapArrayInts#open(Path, FileChannel.MapMode)}.
+     *
+     * @param file the file to which the array is saved.
+     * @throws NullPointerException if the {@code file} is {@code null}.
+     * @throws IOException if the file could not be written.
+     * @since 3.2
+     */
+    public void save(@NotNull final Path file) throws IOException {
+        Objects.requireNonNull(file, "File is null");
+        try (FileChannel channel = ArrayFiles.create(
+                file, ArrayFiles.TYPE_INTS, ByteOrder.nativeOrder(),
+                super.size())) {
+            ArrayFiles.writeInts(channel, this.array, super.size());
+        }
+    }
+
+    /**
+     * Loads the array saved to the binary array file by {@link #save(Path)}
+     * or by {@link OffHeapArrayInts#save(Path)}. The elements are copied in
+     * bulk into the heap, without the parsing.
+     *
+     * @param file the array file.
+     * @return the array containing the elements of the {@code file}.
+     * @throws NullPointerException if the {@code file} is {@code null}.
+     * @throws IOException if the file could not be read, or it is not the
+     * file of the {@code int} array.
+     * @throws com.lugowoy.helper.utils.LengthOutOfRangeException if the file
+     * contains more than {@link Capacity#UPPER} elements.
+     * @since 3.2
+     */
+    public static ArrayInts load(@NotNull final Path file) throws IOException {
+        Objects.requireNonNull(file, "File is null");
+        try (FileChannel channel = FileChannel.open(file,
+                                                    StandardOpenOption.READ)) {
+            final ArrayFiles.Header header = ArrayFiles.readHeader(
+                    channel, file, ArrayFiles.TYPE_INTS, 2);
+            final ArrayInts loaded = new ArrayInts(
+                    ArrayFiles.checkHeapSize(header.getSize()));
+            ArrayFiles.readInts(channel, header, loaded.array);
+            return loaded;
+        }
+    }
+
     @Override
     protected void ensureCapacity() {
         if (super.size() == this.array.length) {
-            this.array = Arrays.copyOf(this.array, this.array.length << 1);
+            this.ensureCapacity(super.size() + 1);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void ensureCapacity(final int minCapacity) {
+        if (minCapacity > this.array.length) {
+            this.array = Arrays.copyOf(this.array,
+                                       super.grownCapacity(this.array.length,
+                                                           minCapacity));
         }
     }
 
@@ -435,8 +905,164 @@ public final class ArrayInts extends AbstractArray {
         }
     }
 
-    private boolean isExactlyAdded(final int element) {
-        return this.array[super.size()] == element;
+    /*
+     * Returns the length of the underlying array.
+     */
+    int capacity() {
+        return this.array.length;
+    }
+
+    private void checkNotEmpty() {
+        if (super.size() == 0) {
+            throw new NoSuchElementException("Array is empty");
+        }
+    }
+
+    /*
+     * Compacts the array in place: the elements not matching the filter are
+     * moved to the front in one pass, and the freed tail is zeroed. If the
+     * filter throws an exception, the not yet checked elements are kept, so
+     * the array stays consistent.
+     */
+    private boolean removeElements(final IntPredicate filter) {
+        final int expectedModCount = super.getModCount();
+        final int size = super.size();
+        final int[] elements = this.array;
+        int read = 0;
+        int write = 0;
+        try {
+            for (; read < size; read++) {
+                int element = elements[read];
+                if (!filter.test(element)) {
+                    elements[write++] = element;
+                }
+                if (expectedModCount != super.getModCount()) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+        } finally {
+            if (read != size && expectedModCount == super.getModCount()) {
+                System.arraycopy(elements, read, elements, write, size - read);
+                write += size - read;
+            }
+            if (write != size && expectedModCount == super.getModCount()) {
+                Arrays.fill(elements, write, size, 0);
+                super.decreaseSize(size - write);
+                super.increaseModCount();
+                this.shrinkCapacity();
+            }
+        }
+        return write != size;
+    }
+
+    private void shrinkCapacity() {
+        int capacity = shrunkCapacity(super.size(), this.array.length);
+        if (capacity != this.array.length) {
+            this.array = Arrays.copyOf(this.array, capacity);
+        }
+    }
+
+    private static IntPredicate containedIn(final int[] array) {
+        if (array.length > BULK_LOOKUP_THRESHOLD) {
+            final int[] sorted = Arrays.copyOf(array, array.length);
+            Arrays.sort(sorted);
+            return value -> Arrays.binarySearch(sorted, value) >= 0;
+        }
+        return value -> {
+            for (int element : array) {
+                if (element == value) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+
+    /*
+     * The spliterator binds to the array, the size and the modification count
+     * on the first traversal, split or size estimate, so the modifications
+     * made before that are taken into account.
+     */
+    private final class SpliteratorArrayInts implements Spliterator.OfInt {
+
+        private int index;
+        private int fence;
+        private int expectedModCount;
+
+        private SpliteratorArrayInts(final int origin, final int fence,
+                                     final int expectedModCount) {
+            this.index = origin;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        private int getFence() {
+            int hi = this.fence;
+            if (hi < 0) {
+                this.expectedModCount = ArrayInts.super.getModCount();
+                hi = ArrayInts.super.size();
+                this.fence = hi;
+            }
+            return hi;
+        }
+
+        @Override
+        public Spliterator.OfInt trySplit() {
+            int hi = this.getFence();
+            int lo = this.index;
+            int mid = (lo + hi) >>> 1;
+            if (lo >= mid) {
+                return null;
+            }
+            this.index = mid;
+            return new SpliteratorArrayInts(lo, mid, this.expectedModCount);
+        }
+
+        @Override
+        public boolean tryAdvance(final IntConsumer action) {
+            Objects.requireNonNull(action, "Action is null.");
+            int hi = this.getFence();
+            int i = this.index;
+            if (i < hi) {
+                this.index = i + 1;
+                action.accept(ArrayInts.this.array[i]);
+                if (this.expectedModCount != ArrayInts.super.getModCount()) {
+                    throw new ConcurrentModificationException();
+                }
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(final IntConsumer action) {
+            Objects.requireNonNull(action, "Action is null.");
+            final int hi = this.getFence();
+            final int[] elements = ArrayInts.this.array;
+            int i = this.index;
+            this.index = hi;
+            if (i >= 0 && hi <= elements.length) {
+                for (; i < hi; i++) {
+                    action.accept(elements[i]);
+                }
+                if (this.expectedModCount == ArrayInts.super.getModCount()) {
+                    return;
+                }
+            }
+            throw new ConcurrentModificationException();
+        }
+
+        @Override
+        public long estimateSize() {
+            return this.getFence() - this.index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED
+                   | Spliterator.SUBSIZED;
+        }
+
     }
 
 }
@@ -0,0 +1,298 @@
+package com.lugowoy.helper.models.arrays;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * The utility class containing the sorting algorithms on the backing arrays
+ * of the dynamic arrays that are not provided by {@link Arrays}: the unstable
+ * in-place sort of the objects, sequential and parallel, and the radix sort of
+ * the integers.
+ * <p>
+ * Created by Konstantin Lugowoy on 18.10.2026.
+ *
+ * @author Konstantin Lugowoy
+ * @version 1.0
+ * @since 3.2
+ */
+final class ArraySorting {
+
+    /*
+     * The ranges shorter than this are sorted by the insertion sort.
+     */
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    /*
+     * The ranges shorter than this are not split between the parallel tasks.
+     */
+    private static final int PARALLEL_SORT_THRESHOLD = 1 << 13;
+
+    /*
+     * The ranges shorter than this are sorted by Arrays.sort instead of the
+     * radix sort, which does not pay off for them.
+     */
+    private static final int RADIX_SORT_THRESHOLD = 1 << 10;
+
+    private static final int RADIX_BITS = 8;
+    private static final int RADIX = 1 << RADIX_BITS;
+    private static final int RADIX_MASK = RADIX - 1;
+    private static final int RADIX_PASSES = Integer.SIZE / RADIX_BITS;
+
+    private ArraySorting() {
+    }
+
+    /**
+     * Sorts the range from {@code fromIndex}(inclusive) to {@code
+     * toIndex}(exclusive) of the {@code array} by the introsort. The sort is
+     * in-place and not stable.
+     */
+    static void sortUnstable(final Object[] array, final int fromIndex,
+                             final int toIndex,
+                             final Comparator<Object> comparator) {
+        introSort(array, fromIndex, toIndex - 1, depthLimit(toIndex - fromIndex),
+                  comparator);
+    }
+
+    /**
+     * Sorts the range from {@code fromIndex}(inclusive) to {@code
+     * toIndex}(exclusive) of the {@code array} by the introsort, whose
+     * partitions are sorted in parallel in the {@link
+     * ForkJoinPool#commonPool()}. The sort is in-place and not stable.
+     */
+    static void parallelSortUnstable(final Object[] array, final int fromIndex,
+                                     final int toIndex,
+                                     final Comparator<Object> comparator) {
+        final int length = toIndex - fromIndex;
+        if (length < PARALLEL_SORT_THRESHOLD
+                || ForkJoinPool.getCommonPoolParallelism() == 1) {
+            sortUnstable(array, fromIndex, toIndex, comparator);
+        } else {
+            ForkJoinPool.commonPool().invoke(
+                    new SortTask(array, fromIndex, toIndex - 1,
+                                 depthLimit(length), comparator));
+        }
+    }
+
+    /**
+     * Sorts the range from {@code fromIndex}(inclusive) to {@code
+     * toIndex}(exclusive) of the {@code array} in ascending order by the LSD
+     * radix sort. The sort takes four passes over the range at most, skipping
+     * the passes over the bytes that are the same in all the values, and
+     * allocates a buffer of the length of the range.
+     */
+    static void radixSort(final int[] array, final int fromIndex,
+                          final int toIndex) {
+        final int length = toIndex - fromIndex;
+        if (length < RADIX_SORT_THRESHOLD) {
+            Arrays.sort(array, fromIndex, toIndex);
+            return;
+        }
+        final int[] counts = new int[RADIX * RADIX_PASSES];
+        for (int i = fromIndex; i < toIndex; i++) {
+            final int key = array[i] ^ Integer.MIN_VALUE;
+            for (int pass = 0; pass < RADIX_PASSES; pass++) {
+                counts[(pass << RADIX_BITS)
+                       + ((key >>> (pass * RADIX_BITS)) & RADIX_MASK)]++;
+            }
+        }
+        int[] source = array;
+        int sourceFrom = fromIndex;
+        int[] target = new int[length];
+        int targetFrom = 0;
+        for (int pass = 0; pass < RADIX_PASSES; pass++) {
+            final int shift = pass * RADIX_BITS;
+            final int base = pass << RADIX_BITS;
+            final int firstDigit = ((source[sourceFrom] ^ Integer.MIN_VALUE)
+                                    >>> shift) & RADIX_MASK;
+            if (counts[base + firstDigit] == length) {
+                continue;
+            }
+            int offset = targetFrom;
+            for (int digit = 0; digit < RADIX; digit++) {
+                final int count = counts[base + digit];
+                counts[base + digit] = offset;
+                offset += count;
+            }
+            for (int i = sourceFrom; i < sourceFrom + length; i++) {
+                final int value = source[i];
+                final int digit = ((value ^ Integer.MIN_VALUE) >>> shift)
+                                  & RADIX_MASK;
+                target[counts[base + digit]++] = value;
+            }
+            final int[] swap = source;
+            source = target;
+            target = swap;
+            final int swapFrom = sourceFrom;
+            sourceFrom = targetFrom;
+            targetFrom = swapFrom;
+        }
+        if (source != array) {
+            System.arraycopy(source, sourceFrom, array, fromIndex, length);
+        }
+    }
+
+    private static int depthLimit(final int length) {
+        return 2 * (Integer.SIZE - Integer.numberOfLeadingZeros(length));
+    }
+
+    private static void introSort(final Object[] array, int low, int high,
+                                  int depth,
+                                  final Comparator<Object> comparator) {
+        while (high - low >= INSERTION_SORT_THRESHOLD) {
+            if (depth-- == 0) {
+                heapSort(array, low, high + 1, comparator);
+                return;
+            }
+            final int pivot = partition(array, low, high, comparator);
+            if (pivot - low < high - pivot) {
+                introSort(array, low, pivot - 1, depth, comparator);
+                low = pivot + 1;
+            } else {
+                introSort(array, pivot + 1, high, depth, comparator);
+                high = pivot - 1;
+            }
+        }
+        insertionSort(array, low, high + 1, comparator);
+    }
+
+    /*
+     * Partitions the range around the median of the first, middle and last
+     * elements and returns the final index of the pivot. The scans stop on
+     * the elements equal to the pivot, so the ranges of equal elements are
+     * split in halves.
+     */
+    private static int partition(final Object[] array, final int low,
+                                 final int high,
+                                 final Comparator<Object> comparator) {
+        final int middle = (low + high) >>> 1;
+        if (comparator.compare(array[middle], array[low]) < 0) {
+            swap(array, middle, low);
+        }
+        if (comparator.compare(array[high], array[low]) < 0) {
+            swap(array, high, low);
+        }
+        if (comparator.compare(array[high], array[middle]) < 0) {
+            swap(array, high, middle);
+        }
+        swap(array, low, middle);
+        final Object pivot = array[low];
+        int i = low;
+        int j = high + 1;
+        while (true) {
+            while (comparator.compare(array[++i], pivot) < 0) {
+                if (i == high) {
+                    break;
+                }
+            }
+            while (comparator.compare(pivot, array[--j]) < 0) {
+                if (j == low) {
+                    break;
+                }
+            }
+            if (i >= j) {
+                break;
+            }
+            swap(array, i, j);
+        }
+        swap(array, low, j);
+        return j;
+    }
+
+    private static void insertionSort(final Object[] array, final int fromIndex,
+                                      final int toIndex,
+                                      final Comparator<Object> comparator) {
+        for (int i = fromIndex + 1; i < toIndex; i++) {
+            final Object element = array[i];
+            int j = i - 1;
+            while (j >= fromIndex && comparator.compare(array[j], element) > 0) {
+                array[j + 1] = array[j];
+                j--;
+            }
+            array[j + 1] = element;
+        }
+    }
+
+    private static void heapSort(final Object[] array, final int fromIndex,
+                                 final int toIndex,
+                                 final Comparator<Object> comparator) {
+        final int length = toIndex - fromIndex;
+        for (int i = (length >>> 1) - 1; i >= 0; i--) {
+            siftDown(array, fromIndex, i, length, comparator);
+        }
+        for (int end = length - 1; end > 0; end--) {
+            swap(array, fromIndex, fromIndex + end);
+            siftDown(array, fromIndex, 0, end, comparator);
+        }
+    }
+
+    private static void siftDown(final Object[] array, final int offset,
+                                 int index, final int length,
+                                 final Comparator<Object> comparator) {
+        final Object element = array[offset + index];
+        int child;
+        while ((child = (index << 1) + 1) < length) {
+            if (child + 1 < length
+                    && comparator.compare(array[offset + child],
+                                          array[offset + child + 1]) < 0) {
+                child++;
+            }
+            if (comparator.compare(element, array[offset + child]) >= 0) {
+                break;
+            }
+            array[offset + index] = array[offset + child];
+            index = child;
+        }
+        array[offset + index] = element;
+    }
+
+    private static void swap(final Object[] array, final int i, final int j) {
+        final Object element = array[i];
+        array[i] = array[j];
+        array[j] = element;
+    }
+
+    /*
+     * Partitions the range and sorts both partitions in parallel until they
+     * become shorter than the parallel threshold.
+     */
+    private static final class SortTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient Object[] array;
+        private final int low;
+        private final int high;
+        private final int depth;
+        private final transient Comparator<Object> comparator;
+
+        private SortTask(final Object[] array, final int low, final int high,
+                         final int depth, final Comparator<Object> comparator) {
+            this.array = array;
+            this.low = low;
+            this.high = high;
+            this.depth = depth;
+            this.comparator = comparator;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.high - this.low < PARALLEL_SORT_THRESHOLD) {
+                introSort(this.array, this.low, this.high, this.depth,
+                          this.comparator);
+            } else if (this.depth == 0) {
+                heapSort(this.array, this.low, this.high + 1, this.comparator);
+            } else {
+                final int pivot = partition(this.array, this.low, this.high,
+                                            this.comparator);
+                invokeAll(new SortTask(this.array, this.low, pivot - 1,
+                                       this.depth - 1, this.comparator),
+                          new SortTask(this.array, pivot + 1, this.high,
+                                       this.depth - 1, this.comparator));
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,103 @@
+package com.lugowoy.helper.models.arrays;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * The class represents an immutable array of {@code int} values bit-packed
+ * with the fixed width.<p>Each element is stored as its difference from the
+ * minimum element of the array, in the number of bits needed for the
+ * difference between the maximum and the minimum elements, so the array of
+ * the values from the range of {@code 2^w} elements takes {@code w} bits per
+ * element. The element is accessed by the index in constant time, without
+ * decoding the block.
+ * <p>
+ * Created by Konstantin Lugowoy on 18.10.2026.
+ *
+ * @author Konstantin Lugowoy
+ * @version 1.0
+ * @see com.lugowoy.helper.models.arrays.FrameOfReferenceArrayInts
+ * @since 3.2
+ */
+public final class BitPackedArrayInts extends AbstractCompressedArrayInts {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int reference;
+    private final int width;
+    private final long[] words;
+
+    private BitPackedArrayInts(final int size, final int reference,
+                               final int width, final long[] words) {
+        super(size);
+        this.reference = reference;
+        this.width = width;
+        this.words = words;
+    }
+
+    /**
+     * Creates the bit-packed array containing the elements of the {@code
+     * array}.
+     *
+     * @param array the array whose elements are to be packed.
+     * @return the bit-packed array containing the elements of the {@code
+     * array}.
+     * @throws NullPointerException if the {@code array} is {@code null}.
+     */
+    public static BitPackedArrayInts of(@NotNull final ArrayInts array) {
+        Objects.requireNonNull(array, "Array is null");
+        final int[] elements = array.toArray();
+        int min = 0;
+        int max = 0;
+        if (elements.length > 0) {
+            min = ArrayAggregation.min(elements, 0, elements.length);
+            max = ArrayAggregation.max(elements, 0, elements.length);
+        }
+        final int width = BitPacking.width((long) max - min);
+        final long[] words =
+                new long[BitPacking.words((long) elements.length * width)];
+        for (int i = 0; i < elements.length; i++) {
+            BitPacking.write(words, (long) i * width, width,
+                             (long) elements[i] - min);
+        }
+        return new BitPackedArrayInts(elements.length, min, width, words);
+    }
+
+    /**
+     * Gets the number of the bits taken by each element.
+     *
+     * @return the width of the element in bits.
+     */
+    public int getWidth() {
+        return this.width;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int get(final int index) {
+        super.checkIndex(index);
+        return this.reference + (int) BitPacking.read(
+                this.words, (long) index * this.width, this.width);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long sizeInBytes() {
+        return (long) this.words.length * Long.BYTES;
+    }
+
+    @Override
+    protected void decodeBlock(final int block, final int[] target,
+                               final int offset) {
+        BitPacking.read(this.words,
+                        ((long) block << BLOCK_SHIFT) * this.width,
+                        this.width, this.reference, target, offset,
+                        super.blockLength(block));
+    }
+
+}
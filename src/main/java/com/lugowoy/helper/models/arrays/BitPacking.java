@@ -0,0 +1,90 @@
+package com.lugowoy.helper.models.arrays;
+
+import java.util.Arrays;
+
+/**
+ * The utility class packing the unsigned values of up to 32 bits into the
+ * {@code long} words, each value taking the same number of bits and the
+ * values following each other without gaps, the lower bits first.
+ * <p>
+ * Created by Konstantin Lugowoy on 18.10.2026.
+ *
+ * @author Konstantin Lugowoy
+ * @version 1.0
+ * @since 3.2
+ */
+final class BitPacking {
+
+    private BitPacking() {
+    }
+
+    /*
+     * The number of bits needed to store the unsigned value.
+     */
+    static int width(final long value) {
+        return Long.SIZE - Long.numberOfLeadingZeros(value);
+    }
+
+    /*
+     * The number of words needed to store the bits.
+     */
+    static int words(final long bits) {
+        return (int) ((bits + Long.SIZE - 1) >>> 6);
+    }
+
+    static void write(final long[] words, final long bit, final int width,
+                      final long value) {
+        final int index = (int) (bit >>> 6);
+        final int shift = (int) (bit & (Long.SIZE - 1));
+        words[index] |= value << shift;
+        if (shift + width > Long.SIZE) {
+            words[index + 1] |= value >>> (Long.SIZE - shift);
+        }
+    }
+
+    static long read(final long[] words, final long bit, final int width) {
+        if (width == 0) {
+            return 0;
+        }
+        final int index = (int) (bit >>> 6);
+        final int shift = (int) (bit & (Long.SIZE - 1));
+        long value = words[index] >>> shift;
+        if (shift + width > Long.SIZE) {
+            value |= words[index + 1] << (Long.SIZE - shift);
+        }
+        return value & ((1L << width) - 1);
+    }
+
+    /*
+     * Reads the length values starting from the bit into the target, adding
+     * the reference to each. The current word is kept in the register, so
+     * each word is loaded once.
+     */
+    static void read(final long[] words, final long bit, final int width,
+                     final int reference, final int[] target,
+                     final int offset, final int length) {
+        if (width == 0) {
+            Arrays.fill(target, offset, offset + length, reference);
+            return;
+        }
+        final long mask = (1L << width) - 1;
+        int index = (int) (bit >>> 6);
+        int shift = (int) (bit & (Long.SIZE - 1));
+        long word = words[index];
+        for (int i = offset, end = offset + length; i < end; i++) {
+            long value = word >>> shift;
+            shift += width;
+            if (shift >= Long.SIZE) {
+                shift -= Long.SIZE;
+                if (++index < words.length) {
+                    word = words[index];
+                    if (shift > 0) {
+                        value |= word << (width - shift);
+                    }
+                }
+            }
+            target[i] = reference + (int) (value & mask);
+        }
+    }
+
+}
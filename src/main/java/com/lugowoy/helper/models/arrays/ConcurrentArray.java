@@ -0,0 +1,602 @@
+package com.lugowoy.helper.models.arrays;
+
+import com.lugowoy.helper.checkers.CheckerArray;
+import com.lugowoy.helper.models.Model;
+import com.lugowoy.helper.utils.Capacity;
+import com.lugowoy.helper.utils.LengthOutOfRangeException;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * The class represents a thread-safe dynamic array, the concurrent sibling of
+ * {@link Array}, that can be shared by many threads without the external
+ * locking.<p>The reads ({@link #get}, {@link #size}, {@link #indexOf} and
+ * others) take no locks. The writes of the elements ({@link #set}, {@link
+ * #compareAndSet}) are atomic operations on the element slots and take no
+ * locks either, so the writes of the different elements do not block each
+ * other. The appends reserve the slots by an atomic counter and do not block
+ * each other, unless the array has to grow. The growth and the removals seal
+ * the slots of the elements they move, the writers meeting the sealed slot
+ * wait for the growth or the removal to complete, and the readers read the
+ * sealed elements without waiting.<p>The iterators,
+ * spliterators and streams of the array are weakly consistent: they traverse
+ * the elements that were in the array when the traversal started, reflect the
+ * concurrent changes of these elements, never throw {@link
+ * java.util.ConcurrentModificationException} and do not see the elements
+ * appended after the start of the traversal. The {@link #toArray()} method
+ * returns the snapshot of the array as the ordinary {@link Array}.
+ * <p>
+ * Created by Konstantin Lugowoy on 18.10.2026.
+ *
+ * @author Konstantin Lugowoy
+ * @version 1.1
+ * @param <T> the type of the elements of the array.
+ * @see com.lugowoy.helper.models.arrays.Array
+ * @since 3.2
+ */
+public final class ConcurrentArray<T> implements Model, RandomAccess,
+                                                 Iterable<T> {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final Object MOVED = Marker.MOVED;
+
+    /*
+     * The growth, the removals and the snapshots hold the write mode of the
+     * lock, so the state is replaced by one of them at a time. The writers of
+     * the elements and the appenders take no lock, the writers meeting the
+     * sealed slot take the read mode only to wait for the new state. Readers
+     * never take the lock, they read the current state, which is replaced as
+     * a whole.
+     */
+    private final StampedLock lock = new StampedLock();
+    private volatile State state;
+
+    /**
+     * Constructs an empty array of capacity {@link
+     * AbstractArray#DEFAULT_CAPACITY}.
+     */
+    public ConcurrentArray() {
+        this.state = new State(new AtomicReferenceArray<>(
+                AbstractArray.DEFAULT_CAPACITY), 0);
+    }
+
+    /**
+     * Constructs an empty array of the {@code capacity}.
+     *
+     * @param capacity the initial capacity of the array.
+     * @throws LengthOutOfRangeException if the {@code capacity} value out of
+     * range from {@link Capacity#LOWER} to {@link Capacity#UPPER}.
+     */
+    public ConcurrentArray(final int capacity) {
+        CheckerArray.check(capacity);
+        this.state = new State(new AtomicReferenceArray<>(capacity), 0);
+    }
+
+    /**
+     * Constructs an array containing the elements of the {@code array}.
+     *
+     * @param array the array whose elements are to be placed into this array.
+     * @throws NullPointerException if the {@code array} is {@code null}.
+     */
+    public ConcurrentArray(@NotNull final Array<? extends T> array) {
+        Objects.requireNonNull(array, "Array is null");
+        final Object[] elements = array.toArray();
+        this.state = new State(new AtomicReferenceArray<>(elements),
+                               elements.length);
+    }
+
+    /**
+     * Gets the number of the elements in this array.
+     *
+     * @return the number of the elements in this array.
+     */
+    public int size() {
+        return this.state.size.get();
+    }
+
+    /**
+     * Checks whether this array contains no elements.
+     *
+     * @return {@code true} if this array contains no elements.
+     */
+    public boolean isEmpty() {
+        return this.size() == 0;
+    }
+
+    /**
+     * Gets the element at the {@code index} position without locking.
+     *
+     * @param index the index of the element.
+     * @return the element at the {@code index} position.
+     * @throws IndexOutOfBoundsException if the {@code index} is out of range
+     * ({@code index < 0 || index >= size()}).
+     */
+    @SuppressWarnings("unchecked")
+    public T get(final int index) {
+        final State current = this.state;
+        Objects.checkIndex(index, current.size.get());
+        return (T) current.get(index);
+    }
+
+    /**
+     * Replaces the element at the {@code index} position with the {@code
+     * element}. The replacement is atomic, takes no lock and does not block
+     * the replacements of the other elements.
+     *
+     * @param index the index of the element to replace.
+     * @param element the element to be stored at the {@code index} position.
+     * @return the element previously at the {@code index} position.
+     * @throws IndexOutOfBoundsException if the {@code index} is out of range
+     * ({@code index < 0 || index >= size()}).
+     */
+    @SuppressWarnings("unchecked")
+    public T set(final int index, final T element) {
+        while (true) {
+            final State current = this.state;
+            Objects.checkIndex(index, current.size.get());
+            final Object previous = current.elements.get(index);
+            if (previous == MOVED) {
+                this.awaitReplaced();
+            } else if (current.elements.compareAndSet(index, previous,
+                                                      element)) {
+                return (T) previous;
+            }
+        }
+    }
+
+    /**
+     * Atomically replaces the element at the {@code index} position with the
+     * {@code element} if the current element is the {@code expected} one (the
+     * elements are compared by {@code ==}).
+     *
+     * @param index the index of the element to replace.
+     * @param expected the expected element.
+     * @param element the element to be stored at the {@code index} position.
+     * @return {@code true} if the element was replaced.
+     * @throws IndexOutOfBoundsException if the {@code index} is out of range
+     * ({@code index < 0 || index >= size()}).
+     */
+    public boolean compareAndSet(final int index, final T expected,
+                                 final T element) {
+        while (true) {
+            final State current = this.state;
+            Objects.checkIndex(index, current.size.get());
+            if (current.elements.compareAndSet(index, expected, element)) {
+                return true;
+            }
+            if (current.elements.get(index) != MOVED) {
+                return false;
+            }
+            this.awaitReplaced();
+        }
+    }
+
+    /**
+     * Appends the {@code element} to the end of this array.
+     *
+     * @param element the element to be appended.
+     * @return {@code true}.
+     * @throws LengthOutOfRangeException if the size of this array would become
+     * greater than {@link Capacity#UPPER}.
+     */
+    public boolean add(final T element) {
+        this.append(new Object[]{element});
+        return true;
+    }
+
+    /**
+     * Appends all of the elements of the {@code c} collection to the end of
+     * this array. The elements are placed into the consecutive positions, and
+     * become visible to the readers together.
+     *
+     * @param c the collection containing elements to be appended.
+     * @return {@code true} if this array changed as a result of the call.
+     * @throws NullPointerException if the {@code c} is {@code null}.
+     * @throws LengthOutOfRangeException if the size of this array would become
+     * greater than {@link Capacity#UPPER}.
+     */
+    public boolean addAll(@NotNull final Collection<? extends T> c) {
+        Objects.requireNonNull(c, "Collection argument is null.");
+        final Object[] elements = c.toArray();
+        if (elements.length != 0) {
+            this.append(elements);
+        }
+        return elements.length != 0;
+    }
+
+    /**
+     * Removes the element at the {@code index} position, shifting the
+     * subsequent elements to the left. The removal blocks the other writers,
+     * but not the readers.
+     *
+     * @param index the index of the element to remove.
+     * @return the removed element.
+     * @throws IndexOutOfBoundsException if the {@code index} is out of range
+     * ({@code index < 0 || index >= size()}).
+     */
+    @SuppressWarnings("unchecked")
+    public T remove(final int index) {
+        final long stamp = this.lock.writeLock();
+        try {
+            final State current = this.state;
+            final Object[] sealed = current.seal();
+            final AtomicReferenceArray<Object> elements =
+                    new AtomicReferenceArray<>(current.elements.length());
+            int size = 0;
+            for (int i = 0; i < sealed.length; i++) {
+                if (i != index) {
+                    elements.lazySet(size++, sealed[i]);
+                }
+            }
+            this.state = new State(elements, size);
+            Objects.checkIndex(index, sealed.length);
+            return (T) sealed[index];
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes all of the elements of this array that satisfy the {@code
+     * filter} in one pass. The removal blocks the other writers, but not the
+     * readers. If the {@code filter} throws an exception, no elements are
+     * removed.
+     *
+     * @param filter the predicate which returns {@code true} for the elements
+     * to be removed.
+     * @return {@code true} if any elements were removed.
+     * @throws NullPointerException if the {@code filter} is {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    public boolean removeIf(@NotNull final Predicate<? super T> filter) {
+        Objects.requireNonNull(filter, "Predicate is null");
+        final long stamp = this.lock.writeLock();
+        try {
+            final State current = this.state;
+            final Object[] sealed = current.seal();
+            final int capacity = current.elements.length();
+            final AtomicReferenceArray<Object> elements =
+                    new AtomicReferenceArray<>(capacity);
+            int size = 0;
+            boolean tested = false;
+            try {
+                for (final Object element : sealed) {
+                    if (!filter.test((T) element)) {
+                        elements.lazySet(size++, element);
+                    }
+                }
+                tested = true;
+            } finally {
+                this.state = tested ? new State(elements, size)
+                                    : new State(copyOf(sealed, capacity),
+                                                sealed.length);
+            }
+            return size != sealed.length;
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes all of the elements from this array. The writes and the appends
+     * running concurrently with the clearing are ordered before it.
+     */
+    public void clear() {
+        final long stamp = this.lock.writeLock();
+        try {
+            this.state = new State(new AtomicReferenceArray<>(
+                    AbstractArray.DEFAULT_CAPACITY), 0);
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Gets the index of the first occurrence of the {@code o} element in this
+     * array, without locking.
+     *
+     * @param o the element to search for.
+     * @return the index of the first occurrence of the element, or -1 if this
+     * array does not contain the element.
+     */
+    public int indexOf(final Object o) {
+        final State current = this.state;
+        final int size = current.size.get();
+        for (int i = 0; i < size; i++) {
+            if (Objects.equals(o, current.get(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Checks whether this array contains the {@code o} element, without
+     * locking.
+     *
+     * @param o the element to search for.
+     * @return {@code true} if this array contains the element.
+     */
+    public boolean contains(final Object o) {
+        return this.indexOf(o) >= 0;
+    }
+
+    /**
+     * Gets the snapshot of this array as the ordinary {@link Array}. The
+     * snapshot is consistent: it is taken while no elements are written.
+     *
+     * @return the snapshot of this array.
+     */
+    @SuppressWarnings("unchecked")
+    public Array<T> toArray() {
+        final long stamp = this.lock.writeLock();
+        try {
+            final State current = this.state;
+            final Object[] sealed = current.seal();
+            this.state = new State(copyOf(sealed, current.elements.length()),
+                                   sealed.length);
+            return new Array<>((T[]) sealed);
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Returns the weakly consistent iterator over the elements of this array.
+     * The iterator does not support the removal.
+     *
+     * @return the iterator over the elements of this array.
+     */
+    @Override
+    @NotNull
+    public Iterator<T> iterator() {
+        final State current = this.state;
+        return new IteratorConcurrentArray(current, current.size.get());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public void forEach(@NotNull final Consumer<? super T> action) {
+        Objects.requireNonNull(action, "Action is null");
+        final State current = this.state;
+        final int size = current.size.get();
+        for (int i = 0; i < size; i++) {
+            action.accept((T) current.get(i));
+        }
+    }
+
+    /**
+     * Returns the weakly consistent spliterator over the elements of this
+     * array.
+     *
+     * @return the spliterator over the elements of this array.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        final State current = this.state;
+        final int size = current.size.get();
+        return Spliterators.spliterator(new IteratorConcurrentArray(current,
+                                                                    size),
+                                        size, Spliterator.ORDERED
+                                              | Spliterator.CONCURRENT);
+    }
+
+    /**
+     * Returns the sequential stream over the elements of this array.
+     *
+     * @return the stream over the elements of this array.
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(this.spliterator(), false);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return Arrays.toString(this.toArray().toArray());
+    }
+
+    /*
+     * Reserves the slots for the elements, growing the array if the slots
+     * are beyond its capacity, writes the elements and publishes them by
+     * advancing the size in the order of the reservation.
+     */
+    private void append(final Object[] added) {
+        while (true) {
+            final State current = this.state;
+            final int slot = current.reserved.getAndAdd(added.length);
+            final int last = current.elements.length() - added.length;
+            if (slot >= 0 && slot <= last) {
+                for (int i = 0; i < added.length; i++) {
+                    current.elements.lazySet(slot + i, added[i]);
+                }
+                while (!current.size.compareAndSet(slot,
+                                                   slot + added.length)) {
+                    Thread.onSpinWait();
+                }
+                return;
+            }
+            if (slot >= 0) {
+                current.overflow.accumulateAndGet(slot, Math::min);
+            }
+            this.grow(current, added.length);
+        }
+    }
+
+    /*
+     * Replaces the state with the state of the capacity enough for the added
+     * elements, unless the state has already been replaced. The replacement
+     * discards the overflowed reservations.
+     */
+    private void grow(final State current, final int added) {
+        final long stamp = this.lock.writeLock();
+        try {
+            if (this.state != current) {
+                return;
+            }
+            final Object[] sealed = current.seal();
+            final int size = sealed.length;
+            int capacity = current.elements.length();
+            if (capacity - size < added) {
+                if (added > Capacity.UPPER.get() - size) {
+                    this.state = new State(copyOf(sealed, capacity), size);
+                    throw new LengthOutOfRangeException(
+                            "Length value out of range from "
+                            + Capacity.LOWER.get() + " to "
+                            + Capacity.UPPER.get());
+                }
+                final long grown = Math.max(Math.max((long) capacity << 1,
+                                                     (long) size + added),
+                                            AbstractArray.DEFAULT_CAPACITY);
+                capacity = (int) Math.min(grown, Capacity.UPPER.get());
+            }
+            this.state = new State(copyOf(sealed, capacity), size);
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    /*
+     * Waits until the operation holding the write mode, which has sealed the
+     * slots of the current state, replaces the state.
+     */
+    private void awaitReplaced() {
+        this.lock.unlockRead(this.lock.readLock());
+    }
+
+    private static AtomicReferenceArray<Object> copyOf(final Object[] sealed,
+                                                       final int capacity) {
+        final AtomicReferenceArray<Object> elements =
+                new AtomicReferenceArray<>(capacity);
+        for (int i = 0; i < sealed.length; i++) {
+            elements.lazySet(i, sealed[i]);
+        }
+        return elements;
+    }
+
+    /*
+     * The marker of the sealed slot, which is never written again.
+     */
+    private enum Marker {
+        MOVED
+    }
+
+    /*
+     * The elements with the published size, the counter of the reserved
+     * slots and the first reserved slot beyond the capacity. The state is
+     * replaced as a whole when the array grows or the elements are removed,
+     * so the readers always see the elements and the size that belong
+     * together. The replaced state is sealed: its slots hold the MOVED
+     * marker, and their elements are kept in the sealed array.
+     */
+    private static final class State implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final AtomicReferenceArray<Object> elements;
+        private final AtomicInteger size;
+        private final AtomicInteger reserved;
+        private final AtomicInteger overflow;
+        private transient volatile Object[] sealed;
+
+        private State(final AtomicReferenceArray<Object> elements,
+                      final int size) {
+            this.elements = elements;
+            this.size = new AtomicInteger(size);
+            this.reserved = new AtomicInteger(size);
+            this.overflow = new AtomicInteger(Integer.MAX_VALUE);
+        }
+
+        private Object get(final int index) {
+            final Object element = this.elements.get(index);
+            return element == MOVED ? this.sealed[index] : element;
+        }
+
+        /*
+         * Closes the reservation of the slots, waits for the appends that
+         * have reserved the slots to publish them, and replaces each element
+         * by the MOVED marker. The element is stored into the sealed array
+         * before the marker is written, so the reader meeting the marker
+         * finds the element there. Called holding the write mode.
+         */
+        private Object[] seal() {
+            final int reservedSlots =
+                    this.reserved.getAndSet(Integer.MIN_VALUE);
+            int published = this.size.get();
+            while (published != Math.min(reservedSlots, this.overflow.get())) {
+                Thread.onSpinWait();
+                published = this.size.get();
+            }
+            final Object[] values = new Object[published];
+            this.sealed = values;
+            for (int i = 0; i < published; i++) {
+                Object element;
+                do {
+                    element = this.elements.get(i);
+                    values[i] = element;
+                } while (!this.elements.compareAndSet(i, element, MOVED));
+            }
+            return values;
+        }
+
+    }
+
+    private final class IteratorConcurrentArray implements Iterator<T> {
+
+        private final State current;
+        private final int size;
+        private int cursor;
+
+        private IteratorConcurrentArray(final State current, final int size) {
+            this.current = current;
+            this.size = size;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.cursor < this.size;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public T next() {
+            if (this.cursor >= this.size) {
+                throw new NoSuchElementException();
+            }
+            return (T) this.current.get(this.cursor++);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public void forEachRemaining(final Consumer<? super T> action) {
+            Objects.requireNonNull(action, "Action is null");
+            while (this.cursor < this.size) {
+                action.accept((T) this.current.get(this.cursor++));
+            }
+        }
+
+    }
+
+}
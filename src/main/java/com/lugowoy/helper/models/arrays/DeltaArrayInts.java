@@ -0,0 +1,135 @@
+package com.lugowoy.helper.models.arrays;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * The class represents an immutable array of {@code int} values encoded by
+ * the differences between the neighbouring elements.<p>Each block stores its
+ * first element as is and the differences of the following elements from the
+ * previous ones as the zigzag variable-length integers of one to five bytes,
+ * so the small differences of any sign take one byte. The encoding is
+ * intended for the sorted arrays, such as the arrays of identifiers, where
+ * the differences are small while the elements are not. The element is
+ * accessed by the index by decoding its block up to the element.
+ * <p>
+ * Created by Konstantin Lugowoy on 18.10.2026.
+ *
+ * @author Konstantin Lugowoy
+ * @version 1.0
+ * @see com.lugowoy.helper.models.arrays.AbstractCompressedArrayInts
+ * @since 3.2
+ */
+public final class DeltaArrayInts extends AbstractCompressedArrayInts {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int[] firsts;
+    private final int[] blockBytes;
+    private final byte[] bytes;
+
+    private DeltaArrayInts(final int size, final int[] firsts,
+                           final int[] blockBytes, final byte[] bytes) {
+        super(size);
+        this.firsts = firsts;
+        this.blockBytes = blockBytes;
+        this.bytes = bytes;
+    }
+
+    /**
+     * Creates the array encoding the elements of the {@code array} by the
+     * differences.
+     *
+     * @param array the array whose elements are to be encoded.
+     * @return the encoded array containing the elements of the {@code array}.
+     * @throws NullPointerException if the {@code array} is {@code null}.
+     */
+    public static DeltaArrayInts of(@NotNull final ArrayInts array) {
+        Objects.requireNonNull(array, "Array is null");
+        final int[] elements = array.toArray();
+        final int blocks = (elements.length + BLOCK_SIZE - 1) >>> BLOCK_SHIFT;
+        final int[] firsts = new int[blocks];
+        final int[] blockBytes = new int[blocks];
+        byte[] bytes = new byte[elements.length + Long.BYTES];
+        int position = 0;
+        for (int i = 0; i < elements.length; i++) {
+            if ((i & (BLOCK_SIZE - 1)) == 0) {
+                firsts[i >>> BLOCK_SHIFT] = elements[i];
+                blockBytes[i >>> BLOCK_SHIFT] = position;
+                continue;
+            }
+            if (bytes.length - position < 5) {
+                bytes = Arrays.copyOf(bytes, bytes.length << 1);
+            }
+            final int delta = elements[i] - elements[i - 1];
+            int zigzag = (delta << 1) ^ (delta >> 31);
+            while ((zigzag & ~0x7F) != 0) {
+                bytes[position++] = (byte) ((zigzag & 0x7F) | 0x80);
+                zigzag >>>= 7;
+            }
+            bytes[position++] = (byte) zigzag;
+        }
+        return new DeltaArrayInts(elements.length, firsts, blockBytes,
+                                  Arrays.copyOf(bytes, position));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int get(final int index) {
+        super.checkIndex(index);
+        final int block = index >>> BLOCK_SHIFT;
+        int value = this.firsts[block];
+        int position = this.blockBytes[block];
+        for (int i = index & (BLOCK_SIZE - 1); i > 0; i--) {
+            int zigzag = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = this.bytes[position++];
+                zigzag |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            value += (zigzag >>> 1) ^ -(zigzag & 1);
+        }
+        return value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long sizeInBytes() {
+        return this.bytes.length
+               + (long) this.firsts.length * Integer.BYTES
+               + (long) this.blockBytes.length * Integer.BYTES;
+    }
+
+    @Override
+    protected void decodeBlock(final int block, final int[] target,
+                               final int offset) {
+        int value = this.firsts[block];
+        int position = this.blockBytes[block];
+        target[offset] = value;
+        for (int i = offset + 1, end = offset + super.blockLength(block);
+             i < end; i++) {
+            int zigzag = this.bytes[position++];
+            if (zigzag < 0) {
+                zigzag &= 0x7F;
+                int shift = 7;
+                byte b;
+                do {
+                    b = this.bytes[position++];
+                    zigzag |= (b & 0x7F) << shift;
+                    shift += 7;
+                } while (b < 0);
+            }
+            value += (zigzag >>> 1) ^ -(zigzag & 1);
+            target[i] = value;
+        }
+    }
+
+}
@@ -0,0 +1,182 @@
+package com.lugowoy.helper.models.arrays;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The hash index of the elements of an array, mapping each element to the
+ * ascending positions at which it occurs in the array.<p>The position of the
+ * element that occurs once is stored as {@link Integer}, the positions of the
+ * repeated elements are stored as the sorted {@code int} array, so the index of
+ * the array of distinct elements takes one map entry per element. The
+ * insertion and the removal of one element move the positions of the
+ * following elements in place, without the rebuilding of the index. The
+ * index remembers the modification count of the array it was built for, so
+ * that the array can detect that the index is out of date.
+ * <p>
+ * Created by Konstantin Lugowoy on 18.10.2026.
+ *
+ * @author Konstantin Lugowoy
+ * @version 1.1
+ * @see com.lugowoy.helper.models.arrays.Array#setIndexed(boolean)
+ * @since 3.2
+ */
+final class ElementIndex {
+
+    private final Map<Object, Object> positions;
+    private int modCount;
+
+    ElementIndex(final Object[] elements, final int size, final int modCount) {
+        this.positions = new HashMap<>(Math.max((int) (size / .75f) + 1, 16));
+        for (int i = 0; i < size; i++) {
+            this.add(elements[i], i);
+        }
+        this.modCount = modCount;
+    }
+
+    int getModCount() {
+        return this.modCount;
+    }
+
+    void setModCount(final int modCount) {
+        this.modCount = modCount;
+    }
+
+    boolean contains(final Object element) {
+        return this.positions.containsKey(element);
+    }
+
+    int indexOf(final Object element) {
+        final Object current = this.positions.get(element);
+        if (current == null) {
+            return -1;
+        }
+        if (current instanceof Integer) {
+            return (Integer) current;
+        }
+        return ((Positions) current).first();
+    }
+
+    int lastIndexOf(final Object element) {
+        final Object current = this.positions.get(element);
+        if (current == null) {
+            return -1;
+        }
+        if (current instanceof Integer) {
+            return (Integer) current;
+        }
+        return ((Positions) current).last();
+    }
+
+    void add(final Object element, final int position) {
+        final Object current = this.positions.get(element);
+        if (current == null) {
+            this.positions.put(element, position);
+        } else if (current instanceof Integer) {
+            final Positions added = new Positions((Integer) current);
+            added.insert(position);
+            this.positions.put(element, added);
+        } else {
+            ((Positions) current).insert(position);
+        }
+    }
+
+    void remove(final Object element, final int position) {
+        final Object current = this.positions.get(element);
+        if (current instanceof Integer) {
+            if ((Integer) current == position) {
+                this.positions.remove(element);
+            }
+        } else if (current != null) {
+            final Positions removed = (Positions) current;
+            removed.delete(position);
+            if (removed.size == 1) {
+                this.positions.put(element, removed.first());
+            }
+        }
+    }
+
+    /*
+     * Moves the element from the position to the neighbouring free one. The
+     * elements are moved in the direction of the move, so the position to
+     * which the element is moved is not occupied by the element and the
+     * positions of the element stay sorted.
+     */
+    void move(final Object element, final int from, final int to) {
+        final Object current = this.positions.get(element);
+        if (current instanceof Integer) {
+            if ((Integer) current == from) {
+                this.positions.put(element, to);
+            }
+        } else if (current != null) {
+            ((Positions) current).replace(from, to);
+        }
+    }
+
+    /*
+     * The sorted positions of the element occurring more than once.
+     */
+    private static final class Positions {
+
+        private int[] values;
+        private int size;
+
+        private Positions(final int position) {
+            this.values = new int[]{position, 0};
+            this.size = 1;
+        }
+
+        private int first() {
+            return this.values[0];
+        }
+
+        private int last() {
+            return this.values[this.size - 1];
+        }
+
+        private void insert(final int position) {
+            if (this.values[this.size - 1] < position) {
+                this.ensureCapacity();
+                this.values[this.size++] = position;
+            } else {
+                final int found = Arrays.binarySearch(this.values, 0, this.size,
+                                                      position);
+                if (found < 0) {
+                    final int insertion = -(found + 1);
+                    this.ensureCapacity();
+                    System.arraycopy(this.values, insertion, this.values,
+                                     insertion + 1, this.size - insertion);
+                    this.values[insertion] = position;
+                    this.size++;
+                }
+            }
+        }
+
+        private void delete(final int position) {
+            final int found = Arrays.binarySearch(this.values, 0, this.size,
+                                                  position);
+            if (found >= 0) {
+                System.arraycopy(this.values, found + 1, this.values, found,
+                                 this.size - found - 1);
+                this.size--;
+            }
+        }
+
+        private void replace(final int from, final int to) {
+            final int found = Arrays.binarySearch(this.values, 0, this.size,
+                                                  from);
+            if (found >= 0) {
+                this.values[found] = to;
+            }
+        }
+
+        private void ensureCapacity() {
+            if (this.size == this.values.length) {
+                this.values = Arrays.copyOf(this.values, this.size << 1);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,124 @@
+package com.lugowoy.helper.models.arrays;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * The class represents an immutable array of {@code int} values encoded by
+ * the frame of reference.<p>Each block stores its minimum element as the
+ * reference and the differences of the elements from it, bit-packed with the
+ * width chosen for the block, so the array whose values are close to each
+ * other locally, but not globally, takes much less memory than the array
+ * {@link BitPackedArrayInts bit-packed} with one width. The blocks start at
+ * the word boundaries, and the element is accessed by the index in constant
+ * time.
+ * <p>
+ * Created by Konstantin Lugowoy on 18.10.2026.
+ *
+ * @author Konstantin Lugowoy
+ * @version 1.0
+ * @see com.lugowoy.helper.models.arrays.BitPackedArrayInts
+ * @since 3.2
+ */
+public final class FrameOfReferenceArrayInts
+        extends AbstractCompressedArrayInts {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int[] references;
+    private final byte[] widths;
+    private final int[] blockWords;
+    private final long[] words;
+
+    private FrameOfReferenceArrayInts(final int size, final int[] references,
+                                      final byte[] widths,
+                                      final int[] blockWords,
+                                      final long[] words) {
+        super(size);
+        this.references = references;
+        this.widths = widths;
+        this.blockWords = blockWords;
+        this.words = words;
+    }
+
+    /**
+     * Creates the array encoding the elements of the {@code array} by the
+     * frame of reference.
+     *
+     * @param array the array whose elements are to be encoded.
+     * @return the encoded array containing the elements of the {@code array}.
+     * @throws NullPointerException if the {@code array} is {@code null}.
+     */
+    public static FrameOfReferenceArrayInts of(@NotNull final ArrayInts
+                                                       array) {
+        Objects.requireNonNull(array, "Array is null");
+        final int[] elements = array.toArray();
+        final int blocks = (elements.length + BLOCK_SIZE - 1) >>> BLOCK_SHIFT;
+        final int[] references = new int[blocks];
+        final byte[] widths = new byte[blocks];
+        final int[] blockWords = new int[blocks];
+        int wordCount = 0;
+        for (int block = 0; block < blocks; block++) {
+            final int from = block << BLOCK_SHIFT;
+            final int to = Math.min(from + BLOCK_SIZE, elements.length);
+            references[block] = ArrayAggregation.min(elements, from, to);
+            widths[block] = (byte) BitPacking.width(
+                    (long) ArrayAggregation.max(elements, from, to)
+                    - references[block]);
+            blockWords[block] = wordCount;
+            wordCount += BitPacking.words((long) (to - from) * widths[block]);
+        }
+        final long[] words = new long[wordCount];
+        for (int i = 0; i < elements.length; i++) {
+            final int block = i >>> BLOCK_SHIFT;
+            BitPacking.write(words, bitOf(blockWords, widths, i),
+                             widths[block],
+                             (long) elements[i] - references[block]);
+        }
+        return new FrameOfReferenceArrayInts(elements.length, references,
+                                             widths, blockWords, words);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int get(final int index) {
+        super.checkIndex(index);
+        final int block = index >>> BLOCK_SHIFT;
+        return this.references[block] + (int) BitPacking.read(
+                this.words, bitOf(this.blockWords, this.widths, index),
+                this.widths[block]);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long sizeInBytes() {
+        return (long) this.words.length * Long.BYTES
+               + (long) this.references.length * Integer.BYTES
+               + this.widths.length
+               + (long) this.blockWords.length * Integer.BYTES;
+    }
+
+    @Override
+    protected void decodeBlock(final int block, final int[] target,
+                               final int offset) {
+        BitPacking.read(this.words, (long) this.blockWords[block] << 6,
+                        this.widths[block], this.references[block], target,
+                        offset, super.blockLength(block));
+    }
+
+    /*
+     * The position of the first bit of the element.
+     */
+    private static long bitOf(final int[] blockWords, final byte[] widths,
+                              final int index) {
+        final int block = index >>> BLOCK_SHIFT;
+        return ((long) blockWords[block] << 6)
+               + (long) (index & (BLOCK_SIZE - 1)) * widths[block];
+    }
+
+}
@@ -0,0 +1,100 @@
+package com.lugowoy.helper.models.arrays;
+
+import com.lugowoy.helper.utils.Capacity;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * The functional interface describing the policy by which a dynamic array
+ * calculates its new capacity when the current capacity is not enough to hold
+ * the elements being added.<p>The policy only proposes the capacity; the array
+ * always allocates at least the required capacity and never more than {@link
+ * Capacity#UPPER}, so a policy does not have to care about these limits.
+ * <p>
+ * Created by Konstantin Lugowoy on 18.10.2026.
+ *
+ * @author Konstantin Lugowoy
+ * @version 1.0
+ * @see com.lugowoy.helper.models.arrays.AbstractArray#setGrowthPolicy(GrowthPolicy)
+ * @since 3.2
+ */
+@FunctionalInterface
+public interface GrowthPolicy {
+
+    /**
+     * Calculates the new capacity of an array.
+     *
+     * @param capacity the current capacity of an array.
+     * @param minCapacity the required capacity, always greater than the {@code
+     * capacity}.
+     * @return the proposed new capacity.
+     */
+    int grow(int capacity, int minCapacity);
+
+    /**
+     * Gets the policy that doubles the capacity of an array.<br>This is the
+     * default policy of the arrays.
+     *
+     * @return the doubling policy.
+     */
+    static GrowthPolicy doubling() {
+        return (capacity, minCapacity) -> capacity << 1;
+    }
+
+    /**
+     * Gets the policy that increases the capacity of an array by half.
+     *
+     * @return the policy increasing the capacity by half.
+     */
+    static GrowthPolicy oneAndHalf() {
+        return (capacity, minCapacity) -> capacity + (capacity >> 1);
+    }
+
+    /**
+     * Gets the policy that increases the capacity of an array by the fixed
+     * {@code increment}.
+     *
+     * @param increment the value by which the capacity is increased.
+     * @return the policy increasing the capacity by the {@code increment}.
+     * @throws IllegalArgumentException if the {@code increment} is not
+     * positive.
+     */
+    static GrowthPolicy fixedIncrement(final int increment) {
+        if (increment <= 0) {
+            throw new IllegalArgumentException(
+                    "Not positive value of the increment: " + increment);
+        }
+        return (capacity, minCapacity) -> capacity + increment;
+    }
+
+    /**
+     * Gets the policy that grows the capacity of an array by the {@code
+     * policy}, but by no more than {@code maxIncrement} at a time.<br>This
+     * allows to grow small arrays quickly and large arrays without allocating a
+     * lot of unused memory.
+     *
+     * @param policy the policy calculating the capacity.
+     * @param maxIncrement the maximum value by which the capacity is increased.
+     * @return the capped policy.
+     * @throws NullPointerException if the {@code policy} is {@code null}.
+     * @throws IllegalArgumentException if the {@code maxIncrement} is not
+     * positive.
+     */
+    static GrowthPolicy capped(@NotNull final GrowthPolicy policy,
+                               final int maxIncrement) {
+        Objects.requireNonNull(policy, "Growth policy is null");
+        if (maxIncrement <= 0) {
+            throw new IllegalArgumentException(
+                    "Not positive value of the max increment: " + maxIncrement);
+        }
+        return (capacity, minCapacity) -> {
+            int newCapacity = policy.grow(capacity, minCapacity);
+            if (newCapacity - capacity > maxIncrement || newCapacity < 0) {
+                newCapacity = capacity + maxIncrement;
+            }
+            return newCapacity;
+        };
+    }
+
+}
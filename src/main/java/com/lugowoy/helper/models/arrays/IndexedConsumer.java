@@ -0,0 +1,26 @@
+package com.lugowoy.helper.models.arrays;
+
+/**
+ * Represents an operation that accepts an element of an array together with its
+ * index and returns no result. Unlike a consumer of the boxed index and
+ * element, it is called without allocation.
+ * <p>
+ * Created by Konstantin Lugowoy on 18.10.2026.
+ *
+ * @author Konstantin Lugowoy
+ * @version 1.0
+ * @param <T> the type of the elements of an array.
+ * @since 3.2
+ */
+@FunctionalInterface
+public interface IndexedConsumer<T> {
+
+    /**
+     * Performs this operation on the given arguments.
+     *
+     * @param index the index of the element.
+     * @param element the element.
+     */
+    void accept(int index, T element);
+
+}
@@ -0,0 +1,25 @@
+package com.lugowoy.helper.models.arrays;
+
+/**
+ * Represents an operation that accepts an {@code int} element of an array
+ * together with its index and returns no result. Unlike a consumer of the boxed
+ * index and element, it is called without allocation.
+ * <p>
+ * Created by Konstantin Lugowoy on 18.10.2026.
+ *
+ * @author Konstantin Lugowoy
+ * @version 1.0
+ * @since 3.2
+ */
+@FunctionalInterface
+public interface IndexedIntConsumer {
+
+    /**
+     * Performs this operation on the given arguments.
+     *
+     * @param index the index of the element.
+     * @param value the element.
+     */
+    void accept(int index, int value);
+
+}
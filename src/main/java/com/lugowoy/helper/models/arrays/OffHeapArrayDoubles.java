@@ -0,0 +1,250 @@
+package com.lugowoy.helper.models.arrays;
+
+import com.lugowoy.helper.utils.Capacity;
+import com.lugowoy.helper.utils.LengthOutOfRangeException;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.function.DoubleConsumer;
+
+/**
+ * The class represents a dynamic array of {@code double} values stored outside
+ * the Java heap and indexed by {@code long}. It has the same basic operations
+ * as {@link ArrayDoubles}, and is intended for the datasets that do not fit
+ * into {@link ArrayDoubles} or that should not burden the garbage
+ * collector.<p>The array holds the native memory until it is closed, so it
+ * should be used in the try-with-resources statement or closed explicitly.
+ * <p>
+ * Created by Konstantin Lugowoy on 18.10.2026.
+ *
+ * @author Konstantin Lugowoy
+ * @version 1.0
+ * @see com.lugowoy.helper.models.arrays.AbstractOffHeapArray
+ * @since 3.2
+ */
+public final class OffHeapArrayDoubles extends AbstractOffHeapArray {
+
+    private static final int ELEMENT_SHIFT = 3;
+
+    /**
+     * Constructs an empty array. The first segment is allocated on the first
+     * addition.
+     */
+    public OffHeapArrayDoubles() {
+        super(ELEMENT_SHIFT, 0);
+    }
+
+    /**
+     * Constructs an empty array that can hold the {@code capacity} elements
+     * without allocating new segments.
+     *
+     * @param capacity the initial capacity of the array.
+     * @throws IllegalArgumentException if the {@code capacity} is negative.
+     */
+    public OffHeapArrayDoubles(final long capacity) {
+        super(ELEMENT_SHIFT, capacity);
+    }
+
+    /**
+     * Constructs an array containing the elements of the {@code array}.
+     *
+     * @param array the array whose elements are to be placed into this array.
+     * @throws NullPointerException if the {@code array} is {@code null}.
+     */
+    public OffHeapArrayDoubles(@NotNull final ArrayDoubles array) {
+        super(ELEMENT_SHIFT, Objects.requireNonNull(array, "Array is null")
+                                    .size());
+        this.addAll(array.toArray());
+    }
+
+    private OffHeapArrayDoubles(final ByteBuffer[] segments, final long size,
+                                final ByteOrder order) {
+        super(ELEMENT_SHIFT, segments, size, order);
+    }
+
+    /**
+     * Opens the array file written by {@link #save(Path)} or {@link
+     * ArrayDoubles#save(Path)} as the array mapped into memory. The elements
+     * are neither parsed nor copied, so the opening takes the same time for
+     * any size of the file, and the processes mapping the same file share
+     * its pages in the page cache.<p>The {@code mode} defines the access to the
+     * elements: {@link FileChannel.MapMode#READ_ONLY} gives the read-only
+     * array, {@link FileChannel.MapMode#PRIVATE} gives the copy-on-write
+     * array, whose changes are not written to the file, and {@link
+     * FileChannel.MapMode#READ_WRITE} gives the array whose changes are
+     * written to the file. The mapped array can not grow beyond the size of
+     * the file.
+     *
+     * @param file the array file.
+     * @param mode the mode of the mapping.
+     * @return the array mapped from the {@code file}.
+     * @throws NullPointerException if the {@code file} or the {@code mode} is
+     * {@code null}.
+     * @throws IOException if the file could not be opened, or it is not the
+     * file of the {@code double} array.
+     * @since 3.2
+     */
+    public static OffHeapArrayDoubles open(
+            @NotNull final Path file, @NotNull final FileChannel.MapMode mode)
+            throws IOException {
+        Objects.requireNonNull(file, "File is null");
+        Objects.requireNonNull(mode, "Mode is null");
+        try (FileChannel channel
+                     = mode == FileChannel.MapMode.READ_ONLY
+                       ? FileChannel.open(file, StandardOpenOption.READ)
+                       : FileChannel.open(file, StandardOpenOption.READ,
+                                          StandardOpenOption.WRITE)) {
+            final ArrayFiles.Header header = ArrayFiles.readHeader(
+                    channel, file, ArrayFiles.TYPE_DOUBLES, ELEMENT_SHIFT);
+            return new OffHeapArrayDoubles(
+                    ArrayFiles.map(channel, header, ELEMENT_SHIFT, mode),
+                    header.getSize(), header.getOrder());
+        }
+    }
+
+    /**
+     * Saves the elements of this array to the array file, which can be opened
+     * by {@link #open(Path, FileChannel.MapMode)} or loaded by {@link
+     * ArrayDoubles#load(Path)}. The elements are written from the segments as
+     * they are, without the conversion.
+     *
+     * @param file the file to which the array is saved.
+     * @throws NullPointerException if the {@code file} is {@code null}.
+     * @throws IOException if the file could not be written.
+     * @throws IllegalStateException if this array is closed.
+     * @since 3.2
+     */
+    public void save(@NotNull final Path file) throws IOException {
+        Objects.requireNonNull(file, "File is null");
+        super.checkOpen();
+        try (FileChannel channel = ArrayFiles.create(
+                file, ArrayFiles.TYPE_DOUBLES, super.order(), super.size())) {
+            super.writeTo(channel);
+        }
+    }
+
+    /**
+     * Gets the element at the {@code index} position.
+     *
+     * @param index the index of the element.
+     * @return the element at the {@code index} position.
+     * @throws IndexOutOfBoundsException if the {@code index} is out of range
+     * ({@code index < 0 || index >= size()}).
+     */
+    public double get(final long index) {
+        super.checkIndex(index);
+        return super.segment(index).getDouble(super.offset(index));
+    }
+
+    /**
+     * Replaces the element at the {@code index} position with the {@code
+     * element}.
+     *
+     * @param index the index of the element.
+     * @param element the element to be stored at the {@code index} position.
+     * @return the element previously at the {@code index} position.
+     * @throws IndexOutOfBoundsException if the {@code index} is out of range
+     * ({@code index < 0 || index >= size()}).
+     */
+    public double set(final long index, final double element) {
+        super.checkIndex(index);
+        final ByteBuffer segment = super.segment(index);
+        final int offset = super.offset(index);
+        final double oldElement = segment.getDouble(offset);
+        segment.putDouble(offset, element);
+        return oldElement;
+    }
+
+    /**
+     * Appends the {@code element} to the end of this array.
+     *
+     * @param element the element to be appended.
+     * @return {@code true}.
+     * @throws IllegalStateException if this array is closed.
+     */
+    public boolean add(final double element) {
+        final long index = super.grow(1);
+        super.segment(index).putDouble(super.offset(index), element);
+        return true;
+    }
+
+    /**
+     * Appends all of the elements of the {@code array} to the end of this
+     * array, copying them into the segments in bulk.
+     *
+     * @param array the array containing elements to be appended.
+     * @return {@code true} if this array changed as a result of the call.
+     * @throws NullPointerException if the {@code array} is {@code null}.
+     * @throws IllegalStateException if this array is closed.
+     */
+    public boolean addAll(@NotNull final double... array) {
+        Objects.requireNonNull(array, "Array is null");
+        long index = super.grow(array.length);
+        int copied = 0;
+        while (copied < array.length) {
+            final int length = Math.min(array.length - copied,
+                                        super.remainingInSegment(index));
+            final ByteBuffer segment = super.segment(index).duplicate()
+                                            .order(super.order());
+            segment.position(super.offset(index));
+            segment.asDoubleBuffer().put(array, copied, length);
+            copied += length;
+            index += length;
+        }
+        return array.length != 0;
+    }
+
+    /**
+     * Performs the given action for each element of this array, in the order
+     * of the indices, without boxing.
+     *
+     * @param action the action to be performed for each element.
+     * @throws NullPointerException if the {@code action} is {@code null}.
+     */
+    public void forEachDouble(@NotNull final DoubleConsumer action) {
+        Objects.requireNonNull(action, "Action is null.");
+        final long size = super.size();
+        long index = 0;
+        while (index < size) {
+            final ByteBuffer segment = super.segment(index);
+            final int length = (int) Math.min(size - index,
+                                              super.remainingInSegment(index));
+            final int end = super.offset(index) + (length << ELEMENT_SHIFT);
+            for (int offset = super.offset(index); offset < end;
+                 offset += 1 << ELEMENT_SHIFT) {
+                action.accept(segment.getDouble(offset));
+            }
+            index += length;
+        }
+    }
+
+    /**
+     * Copies the elements of this array into the on-heap {@link ArrayDoubles}.
+     *
+     * @return the on-heap array containing the elements of this array.
+     * @throws LengthOutOfRangeException if the size of this array is greater
+     * than {@link Capacity#UPPER}.
+     */
+    public ArrayDoubles toArrayDoubles() {
+        final double[] elements =
+                new double[ArrayFiles.checkHeapSize(super.size())];
+        int copied = 0;
+        while (copied < elements.length) {
+            final int length = Math.min(elements.length - copied,
+                                        super.remainingInSegment(copied));
+            final ByteBuffer segment = super.segment(copied).duplicate()
+                                            .order(super.order());
+            segment.position(super.offset(copied));
+            segment.asDoubleBuffer().get(elements, copied, length);
+            copied += length;
+        }
+        return new ArrayDoubles(elements);
+    }
+
+}
@@ -0,0 +1,408 @@
+package com.lugowoy.helper.models.arrays;
+
+import com.lugowoy.helper.models.Model;
+import com.lugowoy.helper.utils.Capacity;
+import com.lugowoy.helper.utils.LengthOutOfRangeException;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Serializable;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+
+/**
+ * The class represents an immutable persistent array. The modifying methods
+ * {@link #with} and {@link #append} do not change the array, but return its
+ * new version, which shares the most of its structure with the original, so
+ * that many versions of an array differing by a few elements take little
+ * memory.<p>The elements are stored in the leaves of the 32-way trie, except
+ * the last up to 32 elements, which are stored in the separate tail array.
+ * Thus {@link #get}, {@link #with} and {@link #append} take O(log<sub>32</sub>
+ * n) time, which is at most 7 steps for any size of the array, and the most
+ * of the appends only copy the tail.
+ * <p>
+ * Created by Konstantin Lugowoy on 18.10.2026.
+ *
+ * @author Konstantin Lugowoy
+ * @version 1.0
+ * @param <T> the type of the elements of the array.
+ * @see com.lugowoy.helper.models.arrays.Array
+ * @since 3.2
+ */
+public final class PersistentArray<T> implements Model, RandomAccess,
+                                                 Iterable<T> {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    private static final Node EMPTY_NODE = new Node(new Object[WIDTH]);
+    private static final PersistentArray<?> EMPTY =
+            new PersistentArray<>(0, BITS, EMPTY_NODE, new Object[0]);
+
+    private final int size;
+    private final int shift;
+    private final Node root;
+    private final Object[] tail;
+
+    private PersistentArray(final int size, final int shift, final Node root,
+                            final Object[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    /**
+     * Gets the empty persistent array.
+     *
+     * @param <T> the type of the elements of the array.
+     * @return the empty persistent array.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentArray<T> empty() {
+        return (PersistentArray<T>) EMPTY;
+    }
+
+    /**
+     * Creates the persistent array containing the elements of the {@code
+     * array}. The trie is built level by level in linear time, without the
+     * intermediate versions.
+     *
+     * @param <T> the type of the elements of the array.
+     * @param array the array whose elements are to be placed into the
+     * persistent array.
+     * @return the persistent array containing the elements of the {@code
+     * array}.
+     * @throws NullPointerException if the {@code array} is {@code null}.
+     */
+    public static <T> PersistentArray<T> of(@NotNull final Array<? extends T>
+                                                    array) {
+        Objects.requireNonNull(array, "Array is null");
+        final Object[] elements = array.toArray();
+        final int size = elements.length;
+        if (size == 0) {
+            return empty();
+        }
+        final int tailOffset = tailOffset(size);
+        final Object[] tail = new Object[size - tailOffset];
+        System.arraycopy(elements, tailOffset, tail, 0, tail.length);
+        if (tailOffset == 0) {
+            return new PersistentArray<>(size, BITS, EMPTY_NODE, tail);
+        }
+        Object[] level = new Object[tailOffset >>> BITS];
+        for (int i = 0; i < level.length; i++) {
+            final Object[] leaf = new Object[WIDTH];
+            System.arraycopy(elements, i << BITS, leaf, 0, WIDTH);
+            level[i] = new Node(leaf);
+        }
+        int shift = BITS;
+        while (true) {
+            final Object[] parents = new Object[(level.length + MASK) >>> BITS];
+            for (int i = 0; i < parents.length; i++) {
+                final Object[] children = new Object[WIDTH];
+                final int from = i << BITS;
+                System.arraycopy(level, from, children, 0,
+                                 Math.min(WIDTH, level.length - from));
+                parents[i] = new Node(children);
+            }
+            if (parents.length == 1) {
+                return new PersistentArray<>(size, shift, (Node) parents[0],
+                                             tail);
+            }
+            level = parents;
+            shift += BITS;
+        }
+    }
+
+    /**
+     * Gets the number of the elements in this array.
+     *
+     * @return the number of the elements in this array.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Checks whether this array contains no elements.
+     *
+     * @return {@code true} if this array contains no elements.
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Gets the element at the {@code index} position.
+     *
+     * @param index the index of the element.
+     * @return the element at the {@code index} position.
+     * @throws IndexOutOfBoundsException if the {@code index} is out of range
+     * ({@code index < 0 || index >= size()}).
+     */
+    @SuppressWarnings("unchecked")
+    public T get(final int index) {
+        Objects.checkIndex(index, this.size);
+        return (T) this.leafFor(index)[index & MASK];
+    }
+
+    /**
+     * Gets the version of this array in which the element at the {@code index}
+     * position is replaced with the {@code element}. Only the path from the
+     * root of the trie to the leaf containing the element is copied.
+     *
+     * @param index the index of the element to replace.
+     * @param element the element to be stored at the {@code index} position.
+     * @return the new version of this array.
+     * @throws IndexOutOfBoundsException if the {@code index} is out of range
+     * ({@code index < 0 || index >= size()}).
+     */
+    public PersistentArray<T> with(final int index, final T element) {
+        Objects.checkIndex(index, this.size);
+        if (index >= tailOffset(this.size)) {
+            final Object[] newTail = this.tail.clone();
+            newTail[index & MASK] = element;
+            return new PersistentArray<>(this.size, this.shift, this.root,
+                                         newTail);
+        }
+        return new PersistentArray<>(this.size, this.shift,
+                                     assoc(this.shift, this.root, index,
+                                           element), this.tail);
+    }
+
+    /**
+     * Gets the version of this array with the {@code element} appended to the
+     * end. While the tail is not full, only the tail is copied; the full tail
+     * is pushed into the trie as the new leaf.
+     *
+     * @param element the element to be appended.
+     * @return the new version of this array.
+     * @throws LengthOutOfRangeException if the size of this array is {@link
+     * Capacity#UPPER}.
+     */
+    public PersistentArray<T> append(final T element) {
+        if (this.size == Capacity.UPPER.get()) {
+            throw new LengthOutOfRangeException(
+                    "Length value " + (this.size + 1L) + " out of range from "
+                    + Capacity.LOWER.get() + " to " + Capacity.UPPER.get());
+        }
+        if (this.size - tailOffset(this.size) < WIDTH) {
+            final Object[] newTail = new Object[this.tail.length + 1];
+            System.arraycopy(this.tail, 0, newTail, 0, this.tail.length);
+            newTail[this.tail.length] = element;
+            return new PersistentArray<>(this.size + 1, this.shift, this.root,
+                                         newTail);
+        }
+        final Node tailNode = new Node(this.tail);
+        Node newRoot;
+        int newShift = this.shift;
+        if ((this.size >>> BITS) > (1 << this.shift)) {
+            final Object[] children = new Object[WIDTH];
+            children[0] = this.root;
+            children[1] = newPath(this.shift, tailNode);
+            newRoot = new Node(children);
+            newShift += BITS;
+        } else {
+            newRoot = this.pushTail(this.shift, this.root, tailNode);
+        }
+        return new PersistentArray<>(this.size + 1, newShift, newRoot,
+                                     new Object[]{element});
+    }
+
+    /**
+     * Converts this persistent array to the ordinary mutable {@link Array}.
+     * The elements are copied leaf by leaf.
+     *
+     * @return the array containing the elements of this array.
+     */
+    @SuppressWarnings("unchecked")
+    public Array<T> toArray() {
+        final Object[] elements = new Object[this.size];
+        final int tailOffset = tailOffset(this.size);
+        for (int i = 0; i < tailOffset; i += WIDTH) {
+            System.arraycopy(this.leafFor(i), 0, elements, i, WIDTH);
+        }
+        System.arraycopy(this.tail, 0, elements, tailOffset,
+                         this.size - tailOffset);
+        return new Array<>((T[]) elements);
+    }
+
+    /**
+     * Returns an iterator over the elements of this array in proper sequence.
+     * The iterator does not support the removal.
+     *
+     * @return an iterator over the elements of this array.
+     */
+    @Override
+    @NotNull
+    public Iterator<T> iterator() {
+        return new IteratorPersistentArray();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public void forEach(@NotNull final Consumer<? super T> action) {
+        Objects.requireNonNull(action, "Action is null");
+        for (int i = 0; i < this.size; i += WIDTH) {
+            final Object[] leaf = this.leafFor(i);
+            final int end = Math.min(WIDTH, this.size - i);
+            for (int j = 0; j < end; j++) {
+                action.accept((T) leaf[j]);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PersistentArray)) {
+            return false;
+        }
+        final PersistentArray<?> that = (PersistentArray<?>) o;
+        if (this.size != that.size) {
+            return false;
+        }
+        for (int i = 0; i < this.size; i++) {
+            if (!Objects.equals(this.get(i), that.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        int hashCode = 1;
+        for (T element : this) {
+            hashCode = 31 * hashCode + Objects.hashCode(element);
+        }
+        return hashCode;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder("[");
+        for (T element : this) {
+            if (builder.length() > 1) {
+                builder.append(", ");
+            }
+            builder.append(element);
+        }
+        return builder.append(']').toString();
+    }
+
+    private static int tailOffset(final int size) {
+        return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+    }
+
+    private Object[] leafFor(final int index) {
+        if (index >= tailOffset(this.size)) {
+            return this.tail;
+        }
+        Node node = this.root;
+        for (int level = this.shift; level > 0; level -= BITS) {
+            node = (Node) node.array[(index >>> level) & MASK];
+        }
+        return node.array;
+    }
+
+    private static Node assoc(final int level, final Node node, final int index,
+                              final Object element) {
+        final Object[] array = node.array.clone();
+        if (level == 0) {
+            array[index & MASK] = element;
+        } else {
+            final int subIndex = (index >>> level) & MASK;
+            array[subIndex] = assoc(level - BITS, (Node) node.array[subIndex],
+                                    index, element);
+        }
+        return new Node(array);
+    }
+
+    private Node pushTail(final int level, final Node parent,
+                          final Node tailNode) {
+        final int subIndex = ((this.size - 1) >>> level) & MASK;
+        final Object[] array = parent.array.clone();
+        Node inserted;
+        if (level == BITS) {
+            inserted = tailNode;
+        } else {
+            final Node child = (Node) parent.array[subIndex];
+            inserted = child != null
+                       ? this.pushTail(level - BITS, child, tailNode)
+                       : newPath(level - BITS, tailNode);
+        }
+        array[subIndex] = inserted;
+        return new Node(array);
+    }
+
+    private static Node newPath(final int level, final Node node) {
+        if (level == 0) {
+            return node;
+        }
+        final Object[] array = new Object[WIDTH];
+        array[0] = newPath(level - BITS, node);
+        return new Node(array);
+    }
+
+    /*
+     * The node of the trie: the leaf holds 32 elements, the inner node holds
+     * up to 32 child nodes. The nodes are never changed after the creation,
+     * so they are shared between the versions of the array.
+     */
+    private static final class Node implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Object[] array;
+
+        private Node(final Object[] array) {
+            this.array = array;
+        }
+
+    }
+
+    private final class IteratorPersistentArray implements Iterator<T> {
+
+        private int cursor;
+        private Object[] leaf;
+
+        @Override
+        public boolean hasNext() {
+            return this.cursor < PersistentArray.this.size;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public T next() {
+            if (this.cursor >= PersistentArray.this.size) {
+                throw new NoSuchElementException();
+            }
+            if ((this.cursor & MASK) == 0 || this.leaf == null) {
+                this.leaf = PersistentArray.this.leafFor(this.cursor);
+            }
+            return (T) this.leaf[this.cursor++ & MASK];
+        }
+
+    }
+
+}
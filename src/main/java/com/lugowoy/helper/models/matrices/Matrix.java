@@ -4,10 +4,10 @@ import com.lugowoy.helper.checkers.CheckerIndex;
 import com.lugowoy.helper.checkers.CheckerMatrix;
 import com.lugowoy.helper.models.arrays.Array;
 import com.lugowoy.helper.utils.Capacity;
+import com.lugowoy.helper.utils.DeepCopierRegistry;
 import com.lugowoy.helper.utils.LengthOutOfRangeException;
 import com.lugowoy.helper.utils.MatrixColumnOutOfRangeException;
 import com.lugowoy.helper.utils.MatrixRowOutOfRangeException;
-import org.apache.commons.lang3.SerializationUtils;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Arrays;
@@ -18,7 +18,7 @@ import java.util.Objects;
  * <p>Created by Konstantin Lugowoy on 01.10.2018.
  *
  * @author Konstantin Lugowoy
- * @version 2.7
+ * @version 2.8
  * @see com.lugowoy.helper.models.Model
  * @see com.lugowoy.helper.models.matrices.AbstractMatrix
  * @see java.io.Serializable
@@ -180,7 +180,7 @@ public class Matrix<T> extends AbstractMatrix {
     public void setDeepMatrix(@NotNull final T[][] matrix) {
         CheckerMatrix.check(matrix, Capacity.UPPER.get(), Capacity.UPPER.get());
         this.checkEqualMatrixLength(matrix);
-        this.matrix = SerializationUtils.clone(matrix);
+        this.matrix = (Object[][]) DeepCopierRegistry.getDefault().copy(matrix);
         super.setRows(this.matrix.length);
         super.setColumns(this.matrix[0].length);
     }
@@ -189,7 +189,8 @@ public class Matrix<T> extends AbstractMatrix {
     public void setDeepMatrix(@NotNull final Matrix<T> matrix) {
         CheckerMatrix.check(matrix, Capacity.UPPER.get(), Capacity.UPPER.get());
         this.checkEqualMatrixLength((T[][]) matrix.matrix);
-        this.matrix = SerializationUtils.clone(matrix.matrix);
+        this.matrix = (Object[][]) DeepCopierRegistry.getDefault().copy(
+                matrix.matrix);
         super.setRows(matrix.getRows());
         super.setColumns(matrix.getColumns());
     }
@@ -222,17 +223,18 @@ public class Matrix<T> extends AbstractMatrix {
 
     @SuppressWarnings("unchecked")
     public Object[][] toDeepMatrix() {
-        return SerializationUtils.clone(this.matrix);
+        return (Object[][]) DeepCopierRegistry.getDefault().copy(this.matrix);
     }
 
     @SuppressWarnings("unchecked")
     public T[][] toDeepMatrix(@NotNull final T[][] matrix) {
         Objects.requireNonNull(matrix, "Matrix is null");
+        Object[][] copies = this.toDeepMatrix();
         for (int i = 0; i < matrix.length; i++) {
             if (i == super.getRows()) {
                 break;
             } else {
-                matrix[i] = (T[]) SerializationUtils.clone(this.matrix[i]);
+                matrix[i] = (T[]) copies[i];
             }
         }
         return matrix;
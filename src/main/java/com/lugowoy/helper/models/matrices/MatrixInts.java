@@ -4,7 +4,6 @@ import com.lugowoy.helper.checkers.CheckerIndex;
 import com.lugowoy.helper.checkers.CheckerMatrix;
 import com.lugowoy.helper.models.arrays.ArrayInts;
 import com.lugowoy.helper.utils.Capacity;
-import org.apache.commons.lang3.SerializationUtils;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Arrays;
@@ -14,7 +13,7 @@ import java.util.Objects;
  * Created by Konstantin Lugowoy on 21.10.2019.
  *
  * @author Konstantin Lugowoy
- * @version 1.4
+ * @version 1.5
  * @see com.lugowoy.helper.models.Model
  * @see com.lugowoy.helper.models.matrices.AbstractMatrix
  * @see java.io.Serializable
@@ -118,7 +117,7 @@ public class MatrixInts extends AbstractMatrix {
     public void setDeepMatrix(@NotNull final int[][] matrix) {
         CheckerMatrix.check(matrix, Capacity.UPPER.get(), Capacity.UPPER.get());
         this.checkEqualMatrixLength(matrix);
-        this.matrix = SerializationUtils.clone(matrix);
+        this.copyMatrix(matrix);
         super.setRows(this.matrix.length);
         super.setColumns(this.matrix[0].length);
     }
@@ -126,7 +125,7 @@ public class MatrixInts extends AbstractMatrix {
     public void setDeepMatrix(@NotNull final MatrixInts matrix) {
         CheckerMatrix.check(matrix, Capacity.UPPER.get(), Capacity.UPPER.get());
         this.checkEqualMatrixLength(matrix.matrix);
-        this.matrix = SerializationUtils.clone(matrix.matrix);
+        this.copyMatrix(matrix.matrix);
         super.setRows(matrix.getRows());
         super.setColumns(matrix.getColumns());
     }
@@ -149,7 +148,11 @@ public class MatrixInts extends AbstractMatrix {
     }
 
     public int[][] toDeepMatrix() {
-        return SerializationUtils.clone(this.matrix);
+        int[][] matrix = new int[this.matrix.length][];
+        for (int i = 0; i < matrix.length; i++) {
+            matrix[i] = Arrays.copyOf(this.matrix[i], this.matrix[i].length);
+        }
+        return matrix;
     }
 
     public int[][] toDeepMatrix(@NotNull final int[][] matrix) {
@@ -158,7 +161,8 @@ public class MatrixInts extends AbstractMatrix {
             if (i == super.getRows()) {
                 break;
             } else {
-                matrix[i] = SerializationUtils.clone(this.matrix[i]);
+                matrix[i] = Arrays.copyOf(this.matrix[i],
+                                          this.matrix[i].length);
             }
         }
         return matrix;
@@ -0,0 +1,74 @@
+package com.lugowoy.helper.utils;
+
+import java.io.Serializable;
+
+/**
+ * The interface declares a contract of the strategy of the copying of objects,
+ * and provides the basic strategies.<p>The {@link DeepCopier#shallow()}
+ * strategy copies only arrays, without copying their elements, by the {@code
+ * System.arraycopy}. The {@link DeepCopier#cloneable()} strategy copies arrays
+ * element by element and the objects implementing the {@link Cloneable}
+ * interface by their public {@code clone()} method. The {@link
+ * DeepCopier#serialization()} strategy copies objects by the Java
+ * serialization, which is the slowest one and is intended as the last
+ * resort.<p>The strategies are combined by the {@link DeepCopierRegistry},
+ * which is used by the models to make their deep copies.
+ * <p>
+ * Created by Konstantin Lugowoy on 18.10.2026.
+ *
+ * @author Konstantin Lugowoy
+ * @version 1.0
+ * @see com.lugowoy.helper.utils.DeepCopierRegistry
+ * @since 3.2
+ */
+@FunctionalInterface
+public interface DeepCopier {
+
+    /**
+     * Copies the {@code value}.
+     *
+     * @param value the object to copy, may be {@code null}.
+     * @return the copy of the object, {@code null} if the {@code value} is
+     * {@code null}.
+     * @throws IllegalArgumentException if the object could not be copied by
+     * this strategy.
+     */
+    Object copy(Object value);
+
+    /**
+     * Gets the strategy, which copies only the arrays, so that the elements of
+     * the copy are the same objects as the elements of the original array.
+     * The objects that are not arrays are returned as is.
+     *
+     * @return the strategy of the shallow copying.
+     */
+    static DeepCopier shallow() {
+        return DeepCopiers::copyArrayShallow;
+    }
+
+    /**
+     * Gets the strategy, which copies the arrays element by element, and the
+     * objects implementing the {@link Cloneable} interface by their public
+     * {@code clone()} method. The objects of the immutable types, such as
+     * strings, boxed primitives and enumerations, are returned as is. The
+     * copy is as deep as the {@code clone()} method makes it, which is
+     * shallow for the most of the classes, such as {@code ArrayList}.
+     *
+     * @return the strategy of the copying by the {@code clone()} method.
+     * @see DeepCopier#copy(Object)
+     */
+    static DeepCopier cloneable() {
+        return DeepCopiers.CLONEABLE;
+    }
+
+    /**
+     * Gets the strategy, which copies the {@link Serializable} objects by the
+     * serialization and the deserialization.
+     *
+     * @return the strategy of the copying by the serialization.
+     */
+    static DeepCopier serialization() {
+        return DeepCopiers::copySerializable;
+    }
+
+}
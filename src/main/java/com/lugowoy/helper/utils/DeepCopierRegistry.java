@@ -0,0 +1,194 @@
+package com.lugowoy.helper.utils;
+
+import com.lugowoy.helper.models.Model;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * The class provides the deep copying of objects by combining the strategies
+ * of the copying, thereby implementing the contract declared in the interface
+ * {@link DeepCopier}.<p>The object is copied by the first suitable way:
+ * <ul>
+ * <li>by the copy function registered for the class of the object;</li>
+ * <li>the objects of the immutable types, such as strings, boxed primitives
+ * and enumerations, are not copied;</li>
+ * <li>the arrays of primitives are copied by the {@code System.arraycopy}, the
+ * arrays of objects are copied element by element by this registry;</li>
+ * <li>the {@link Model models} of this library are copied by their public
+ * {@code clone()} method, which makes the deep copy;</li>
+ * <li>the other objects are copied by the fallback strategy, which is the
+ * {@link DeepCopier#serialization()} by default.</li>
+ * </ul>
+ * The other {@link Cloneable} objects are not copied by their {@code clone()}
+ * method, since it makes the shallow copy for the most of the classes, such as
+ * {@code ArrayList} or {@code HashMap}.<p>Each object reached by one call of
+ * the {@link #copy(Object)} method is copied once, so the elements referring
+ * to the same object refer to the same copy, and an array containing itself
+ * is copied as the copy containing itself. The objects copied by the separate
+ * calls of the fallback strategy do not share their parts.<p>The registry
+ * used by the models of this library is
+ * got by the {@link DeepCopierRegistry#getDefault()} method, so registering a
+ * copy function in it changes the deep copying of all models.<p>The object of
+ * this class can be used by several threads.
+ * <p>
+ * Created by Konstantin Lugowoy on 18.10.2026.
+ *
+ * @author Konstantin Lugowoy
+ * @version 1.1
+ * @see com.lugowoy.helper.utils.DeepCopier
+ * @since 3.2
+ */
+public final class DeepCopierRegistry implements DeepCopier {
+
+    private static final DeepCopierRegistry DEFAULT = new DeepCopierRegistry();
+
+    private final Map<Class<?>, UnaryOperator<Object>> copiers =
+            new ConcurrentHashMap<>();
+    private volatile DeepCopier fallback = DeepCopier.serialization();
+
+    /**
+     * Constructs an object of this class without the registered copy functions
+     * and with the serialization as the fallback strategy.
+     */
+    public DeepCopierRegistry() {
+    }
+
+    /**
+     * Gets the registry used by the models of this library for the deep
+     * copying.
+     *
+     * @return the default registry.
+     */
+    public static DeepCopierRegistry getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Registers the {@code copier} function to copy the objects of exactly
+     * the {@code type} class, replacing the previously registered one.
+     *
+     * @param <T> the type of the objects to copy.
+     * @param type the class of the objects to copy.
+     * @param copier the function to copy the objects.
+     * @throws NullPointerException if the {@code type} or the {@code copier}
+     * is {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> void register(@NotNull final Class<T> type,
+                             @NotNull final UnaryOperator<T> copier) {
+        Objects.requireNonNull(type, "Type is null");
+        Objects.requireNonNull(copier, "Copier is null");
+        this.copiers.put(type, (UnaryOperator<Object>) copier);
+    }
+
+    /**
+     * Removes the copy function registered for the {@code type} class.
+     *
+     * @param type the class of the objects.
+     * @throws NullPointerException if the {@code type} is {@code null}.
+     */
+    public void unregister(@NotNull final Class<?> type) {
+        Objects.requireNonNull(type, "Type is null");
+        this.copiers.remove(type);
+    }
+
+    /**
+     * Sets the strategy to copy the objects that could not be copied in the
+     * other way.
+     *
+     * @param fallback the fallback strategy.
+     * @throws NullPointerException if the {@code fallback} is {@code null}.
+     */
+    public void setFallback(@NotNull final DeepCopier fallback) {
+        this.fallback = Objects.requireNonNull(fallback, "Fallback is null");
+    }
+
+    /**
+     * Copies the {@code value} by the first suitable way.
+     *
+     * @param value the object to copy, may be {@code null}.
+     * @return the copy of the object, {@code null} if the {@code value} is
+     * {@code null}.
+     * @throws IllegalArgumentException if the object could not be copied by
+     * the fallback strategy.
+     */
+    @Override
+    public Object copy(final Object value) {
+        return this.copy(value, new IdentityHashMap<>());
+    }
+
+    /**
+     * Copies the {@code value} by the first suitable way.
+     *
+     * @param <T> the type of the object.
+     * @param value the object to copy, may be {@code null}.
+     * @return the copy of the object of the same type.
+     * @throws IllegalArgumentException if the object could not be copied by
+     * the fallback strategy.
+     * @see DeepCopierRegistry#copy(Object)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T copyOf(final T value) {
+        return (T) this.copy(value);
+    }
+
+    /*
+     * Copies the value, the copies already made during the current call are
+     * taken from the copies map, so the shared objects stay shared.
+     */
+    private Object copy(final Object value, final Map<Object, Object> copies) {
+        if (value == null) {
+            return null;
+        }
+        Class<?> type = value.getClass();
+        UnaryOperator<Object> copier = this.copiers.get(type);
+        if (copier == null && DeepCopiers.isImmutable(type)) {
+            return value;
+        }
+        Object copy = copies.get(value);
+        if (copy != null) {
+            return copy;
+        }
+        if (copier != null) {
+            copy = copier.apply(value);
+        } else if (type.isArray()) {
+            copy = DeepCopiers.copyArrayShallow(value);
+            copies.put(value, copy);
+            if (copy instanceof Object[]) {
+                Object[] elements = (Object[]) copy;
+                for (int i = 0; i < elements.length; i++) {
+                    elements[i] = this.copy(elements[i], copies);
+                }
+            }
+            return copy;
+        } else {
+            copy = this.copyModel(value);
+            if (copy == null) {
+                copy = this.fallback.copy(value);
+            }
+        }
+        copies.put(value, copy);
+        return copy;
+    }
+
+    /*
+     * Copies the model of this library by its clone method, returns null if
+     * the value is not a model or its clone method is not accessible.
+     */
+    private Object copyModel(final Object value) {
+        if (value instanceof Model && DeepCopiers.isCloneable(value)) {
+            try {
+                return DeepCopiers.copyCloneable(value, this);
+            } catch (IllegalArgumentException ex) {
+                //the clone method is not accessible, so the fallback is used
+            }
+        }
+        return null;
+    }
+
+}
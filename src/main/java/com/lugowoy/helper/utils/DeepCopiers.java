@@ -0,0 +1,130 @@
+package com.lugowoy.helper.utils;
+
+import org.apache.commons.lang3.SerializationUtils;
+
+import java.io.Serializable;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/*
+ * Implementations of the basic strategies of DeepCopier shared with
+ * DeepCopierRegistry.
+ */
+final class DeepCopiers {
+
+    static final DeepCopier CLONEABLE = new DeepCopier() {
+        @Override
+        public Object copy(final Object value) {
+            return DeepCopiers.copyCloneable(value, this);
+        }
+    };
+
+    private static final ClassValue<Method> CLONE_METHODS = new ClassValue<>() {
+        @Override
+        protected Method computeValue(final Class<?> type) {
+            try {
+                Method method = type.getMethod("clone");
+                if (Modifier.isPublic(method.getDeclaringClass().getModifiers())
+                    && method.getParameterCount() == 0) {
+                    return method;
+                }
+            } catch (NoSuchMethodException ex) {
+                //the class does not override Object.clone() as public
+            }
+            return null;
+        }
+    };
+
+    private DeepCopiers() {
+    }
+
+    static boolean isImmutable(final Class<?> type) {
+        return type == String.class || type == Integer.class
+               || type == Long.class || type == Double.class
+               || type == Float.class || type == Short.class
+               || type == Byte.class || type == Character.class
+               || type == Boolean.class || type == Class.class
+               || type == java.math.BigInteger.class
+               || type == java.math.BigDecimal.class
+               || Enum.class.isAssignableFrom(type);
+    }
+
+    static Object copyArrayShallow(final Object value) {
+        if (value == null || !value.getClass().isArray()) {
+            return value;
+        }
+        int length = java.lang.reflect.Array.getLength(value);
+        Object copy = java.lang.reflect.Array.newInstance(
+                value.getClass().getComponentType(), length);
+        System.arraycopy(value, 0, copy, 0, length);
+        return copy;
+    }
+
+    /*
+     * Copies the array with its elements copied by the elementCopier, the
+     * arrays of primitives are copied by the System.arraycopy.
+     */
+    static Object copyArray(final Object value, final DeepCopier elementCopier) {
+        Object copy = copyArrayShallow(value);
+        if (copy instanceof Object[]) {
+            Object[] elements = (Object[]) copy;
+            for (int i = 0; i < elements.length; i++) {
+                elements[i] = elementCopier.copy(elements[i]);
+            }
+        }
+        return copy;
+    }
+
+    static Object copyCloneable(final Object value,
+                                final DeepCopier elementCopier) {
+        if (value == null || isImmutable(value.getClass())) {
+            return value;
+        }
+        if (value.getClass().isArray()) {
+            return copyArray(value, elementCopier);
+        }
+        Method cloneMethod = value instanceof Cloneable
+                             ? CLONE_METHODS.get(value.getClass()) : null;
+        if (cloneMethod == null) {
+            throw new IllegalArgumentException(
+                    "Could not copy the object of " + value.getClass()
+                    + " by the clone method");
+        }
+        try {
+            return cloneMethod.invoke(value);
+        } catch (IllegalAccessException ex) {
+            throw new IllegalArgumentException(
+                    "Could not copy the object of " + value.getClass()
+                    + " by the clone method", ex);
+        } catch (InvocationTargetException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(
+                    "Could not copy the object of " + value.getClass(), cause);
+        }
+    }
+
+    static boolean isCloneable(final Object value) {
+        return value instanceof Cloneable
+               && CLONE_METHODS.get(value.getClass()) != null;
+    }
+
+    static Object copySerializable(final Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (!(value instanceof Serializable)) {
+            throw new IllegalArgumentException(
+                    "Could not copy the object of " + value.getClass()
+                    + " by the serialization");
+        }
+        return SerializationUtils.clone((Serializable) value);
+    }
+
+}
@@ -6,6 +6,7 @@
  */
 module java.helper {
     requires java.base;
+    requires jdk.management;
     requires org.apache.commons.lang3;
     requires commons.math3;
     requires cloning;
@@ -0,0 +1,199 @@
+package com.lugowoy.helper.execution;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class AsyncExecutorTest {
+
+    @Test
+    public void testExecute() throws Exception {
+        try (AsyncExecutor executor = new AsyncExecutor(2)) {
+            ExecutionResult<String> result = executor.execute(() -> "done")
+                                                     .get();
+            assertEquals("done", result.getResult());
+            assertTrue(result.getNanoTime() >= 0);
+        }
+    }
+
+    @Test
+    public void testExecuteFailureCompletesExceptionally() throws Exception {
+        IllegalStateException failure = new IllegalStateException();
+        try (AsyncExecutor executor = new AsyncExecutor(1)) {
+            executor.<Integer>execute(() -> {
+                throw failure;
+            }).get();
+            fail();
+        } catch (ExecutionException ex) {
+            assertSame(failure, ex.getCause());
+        }
+    }
+
+    @Test
+    public void testCloseRestoresInterrupt() {
+        AsyncExecutor executor = new AsyncExecutor(1);
+        executor.execute(() -> {
+            Thread.sleep(200);
+            return 1;
+        });
+        Thread.currentThread().interrupt();
+        executor.close();
+        assertTrue(Thread.interrupted());
+    }
+
+    @Test
+    public void testExecuteAllKeepsOrderAndBoundsParallelism()
+            throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<Callable<Integer>> tasks = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            int value = i;
+            tasks.add(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(),
+                                            Math::max);
+                Thread.sleep(5);
+                running.decrementAndGet();
+                return value;
+            });
+        }
+        try (AsyncExecutor executor = new AsyncExecutor(4)) {
+            BatchExecutionResult<Integer> result = executor.executeAll(tasks,
+                                                                       2);
+            for (int i = 0; i < 20; i++) {
+                assertEquals(Integer.valueOf(i), result.getResults().get(i));
+            }
+            assertTrue(maxRunning.get() <= 2);
+        }
+    }
+
+    @Test
+    public void testExecuteAllRethrowsFirstFailure() throws Exception {
+        IllegalStateException failure = new IllegalStateException();
+        List<Callable<Integer>> tasks = Arrays.asList(() -> 1, () -> {
+            throw failure;
+        });
+        try (AsyncExecutor executor = new AsyncExecutor(1)) {
+            executor.executeAll(tasks, 1);
+            fail();
+        } catch (RuntimeException ex) {
+            assertSame(failure, ex.getCause());
+        }
+    }
+
+    @Test
+    public void testTimedOutTaskIsInterrupted() throws Exception {
+        try (AsyncExecutor executor = new AsyncExecutor(1)) {
+            ExecutionOutcome<Integer> outcome = executor.execute(() -> {
+                Thread.sleep(60_000);
+                return 1;
+            }, 50, TimeUnit.MILLISECONDS).get();
+            assertEquals(ExecutionOutcome.Status.TIMED_OUT, outcome.getStatus());
+            ExecutionOutcome<Integer> next = executor.execute(() -> 2, 10,
+                                                              TimeUnit.SECONDS).get();
+            assertEquals(Integer.valueOf(2), next.getResult());
+        }
+    }
+
+    @Test
+    public void testFailedTaskKeepsCause() throws Exception {
+        IllegalStateException failure = new IllegalStateException();
+        try (AsyncExecutor executor = new AsyncExecutor(1)) {
+            ExecutionOutcome<Integer> outcome = executor.<Integer>execute(() -> {
+                throw failure;
+            }, 10, TimeUnit.SECONDS).get();
+            assertEquals(ExecutionOutcome.Status.FAILED, outcome.getStatus());
+            assertEquals(failure, outcome.getFailure());
+        }
+    }
+
+    @Test
+    public void testBatchContinuesAfterTimedOutTask() throws Exception {
+        Callable<Integer> slow = () -> {
+            Thread.sleep(60_000);
+            return 0;
+        };
+        List<Callable<Integer>> tasks = Arrays.asList(() -> 1, slow, () -> 3);
+        try (AsyncExecutor executor = new AsyncExecutor(1)) {
+            BatchExecutionResult<ExecutionOutcome<Integer>> result =
+                    executor.executeAll(tasks, 1, 100, 1_000, TimeUnit.MILLISECONDS);
+            List<ExecutionOutcome<Integer>> outcomes = result.getResults();
+            assertEquals(Integer.valueOf(1), outcomes.get(0).getResult());
+            assertEquals(ExecutionOutcome.Status.TIMED_OUT,
+                         outcomes.get(1).getStatus());
+            assertTrue(outcomes.get(2).isCompleted());
+        }
+    }
+
+    @Test
+    public void testBatchTimeoutSkipsRemainingTasks() throws Exception {
+        Callable<Integer> slow = () -> {
+            Thread.sleep(60_000);
+            return 0;
+        };
+        List<Callable<Integer>> tasks = Arrays.asList(slow, slow, slow);
+        try (AsyncExecutor executor = new AsyncExecutor(1)) {
+            BatchExecutionResult<ExecutionOutcome<Integer>> result =
+                    executor.executeAll(tasks, 1, 60, 1, TimeUnit.SECONDS);
+            for (ExecutionOutcome<Integer> outcome : result.getResults()) {
+                assertEquals(ExecutionOutcome.Status.TIMED_OUT,
+                             outcome.getStatus());
+            }
+            assertEquals(0, result.getResults().get(2).getNanoTime());
+            assertTrue(result.getWallNanoTime() < TimeUnit.SECONDS.toNanos(10));
+        }
+    }
+
+    @Test(timeout = 10_000)
+    public void testBatchTimeoutWithTaskIgnoringInterrupt() throws Exception {
+        AtomicBoolean release = new AtomicBoolean();
+        Callable<Integer> stubborn = () -> {
+            while (!release.get()) {
+                Thread.onSpinWait();
+            }
+            return 1;
+        };
+        List<Callable<Integer>> tasks = Arrays.asList(stubborn, () -> 2);
+        AsyncExecutor executor = new AsyncExecutor(1);
+        try {
+            BatchExecutionResult<ExecutionOutcome<Integer>> result =
+                    executor.executeAll(tasks, 1, 50, 500,
+                                        TimeUnit.MILLISECONDS);
+            for (ExecutionOutcome<Integer> outcome : result.getResults()) {
+                assertEquals(ExecutionOutcome.Status.TIMED_OUT,
+                             outcome.getStatus());
+            }
+            assertTrue(result.getWallNanoTime()
+                       < TimeUnit.SECONDS.toNanos(5));
+            ExecutionOutcome<Integer> queued = executor.execute(
+                    () -> 3, 50, TimeUnit.MILLISECONDS).get();
+            assertEquals(ExecutionOutcome.Status.TIMED_OUT,
+                         queued.getStatus());
+        } finally {
+            release.set(true);
+            executor.close();
+        }
+    }
+
+    @Test
+    public void testExecutorTimeout() {
+        ExecutionOutcome<Integer> outcome = new Executor().execute(() -> {
+            Thread.sleep(60_000);
+            return 1;
+        }, 50, TimeUnit.MILLISECONDS);
+        assertEquals(ExecutionOutcome.Status.TIMED_OUT, outcome.getStatus());
+    }
+
+}
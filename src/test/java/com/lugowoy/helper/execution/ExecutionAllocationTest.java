@@ -0,0 +1,86 @@
+package com.lugowoy.helper.execution;
+
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ExecutionAllocationTest {
+
+    private static final int ALLOCATED_BYTES = 1 << 20;
+
+    private static Object sink;
+
+    @Test
+    public void testSnapshotMeasuresAllocation() {
+        ExecutionAllocation start = ExecutionAllocation.snapshot();
+        Assume.assumeTrue(start.getAllocatedBytes()
+                          != ExecutionAllocation.UNSUPPORTED);
+        sink = new byte[ALLOCATED_BYTES];
+        ExecutionAllocation allocation =
+                ExecutionAllocation.snapshot().since(start);
+        assertTrue(allocation.getAllocatedBytes() >= ALLOCATED_BYTES);
+        assertTrue(allocation.getGcCount() >= 0);
+        assertTrue(allocation.getGcMillis() >= 0);
+    }
+
+    @Test
+    public void testUnsupportedIsPropagated() {
+        ExecutionAllocation start = new ExecutionAllocation(
+                ExecutionAllocation.UNSUPPORTED, 1, 10);
+        ExecutionAllocation end = new ExecutionAllocation(100, 3, 25);
+        ExecutionAllocation allocation = end.since(start);
+        assertEquals(ExecutionAllocation.UNSUPPORTED,
+                     allocation.getAllocatedBytes());
+        assertEquals(2, allocation.getGcCount());
+        assertEquals(15, allocation.getGcMillis());
+    }
+
+    @Test
+    public void testExecutorOutputsAllocation() {
+        List<Object> results = new ArrayList<>();
+        AtomicLong millis = new AtomicLong(-1);
+        AtomicReference<ExecutionAllocation> allocation =
+                new AtomicReference<>();
+        new Executor().execute(() -> new byte[ALLOCATED_BYTES],
+                               new CollectingOutputResult(results),
+                               millis::set, allocation::set);
+        assertEquals(1, results.size());
+        assertEquals(ALLOCATED_BYTES, ((byte[]) results.get(0)).length);
+        assertTrue(millis.get() >= 0);
+        long allocatedBytes = allocation.get().getAllocatedBytes();
+        assertTrue(allocatedBytes == ExecutionAllocation.UNSUPPORTED
+                   || allocatedBytes >= ALLOCATED_BYTES);
+    }
+
+    private static final class CollectingOutputResult
+            implements OutputExecutionResult {
+
+        private final List<Object> results;
+
+        private CollectingOutputResult(final List<Object> results) {
+            this.results = results;
+        }
+
+        @Override
+        public <T> void output(final T resultValue) {
+            this.results.add(resultValue);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public <T> void output(final String patternResult,
+                               final T... resultValues) {
+            this.results.add(String.format(patternResult,
+                                           (Object[]) resultValues));
+        }
+
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.lugowoy.helper.execution;
+
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ExecutionCpuTimeTest {
+
+    @Test
+    public void testSleepIsNotCpuTime() throws InterruptedException {
+        ExecutionCpuTime start = ExecutionCpuTime.snapshot();
+        Assume.assumeTrue(start.getCpuNanos() != ExecutionCpuTime.UNSUPPORTED);
+        Thread.sleep(200);
+        ExecutionCpuTime cpuTime = ExecutionCpuTime.snapshot().since(start);
+        assertTrue(cpuTime.getWallNanos() >= 200_000_000L);
+        assertTrue(cpuTime.getCpuNanos() < cpuTime.getWallNanos() / 2);
+        assertTrue(cpuTime.getWaitNanos() > 100_000_000L);
+    }
+
+    @Test
+    public void testUnsupportedIsPropagated() {
+        ExecutionCpuTime start = new ExecutionCpuTime(0, ExecutionCpuTime.UNSUPPORTED,
+                                                      ExecutionCpuTime.UNSUPPORTED);
+        ExecutionCpuTime end = new ExecutionCpuTime(10, 5, 3);
+        ExecutionCpuTime cpuTime = end.since(start);
+        assertEquals(10, cpuTime.getWallNanos());
+        assertEquals(ExecutionCpuTime.UNSUPPORTED, cpuTime.getCpuNanos());
+        assertEquals(ExecutionCpuTime.UNSUPPORTED, cpuTime.getSystemNanos());
+    }
+
+    @Test
+    public void testExecutorOverloadsWithLambdaOutputs() {
+        Executor executor = new Executor();
+        AtomicLong millis = new AtomicLong(-1);
+        executor.execute(() -> 1, new OutputExecutionResultToConsole(),
+                         millis::set);
+        assertTrue(millis.get() >= 0);
+        AtomicReference<ExecutionCpuTime> cpuTime = new AtomicReference<>();
+        executor.executeWithCpuTime(() -> 1,
+                                    new OutputExecutionResultToConsole(),
+                                    cpuTime::set);
+        assertTrue(cpuTime.get().getWallNanos() >= 0);
+    }
+
+}
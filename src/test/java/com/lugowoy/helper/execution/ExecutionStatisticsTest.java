@@ -0,0 +1,40 @@
+package com.lugowoy.helper.execution;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class ExecutionStatisticsTest {
+
+    private static final double DELTA = 1e-9;
+
+    @Test
+    public void testCalculateStatisticsOfOddNumberOfIterations() {
+        ExecutionStatistics statistics = new ExecutionStatistics(5, 1, 3);
+        assertEquals(3, statistics.getIterations());
+        assertEquals(1, statistics.getMinNanos());
+        assertEquals(5, statistics.getMaxNanos());
+        assertEquals(3, statistics.getMeanNanos(), DELTA);
+        assertEquals(3, statistics.getMedianNanos(), DELTA);
+        assertEquals(2, statistics.getStandardDeviationNanos(), DELTA);
+    }
+
+    @Test
+    public void testCalculateMedianOfEvenNumberOfIterations() {
+        ExecutionStatistics statistics = new ExecutionStatistics(4, 1, 2, 10);
+        assertEquals(3, statistics.getMedianNanos(), DELTA);
+        assertEquals(4.25, statistics.getMeanNanos(), DELTA);
+    }
+
+    @Test
+    public void testSingleIterationHasZeroDeviation() {
+        ExecutionStatistics statistics = new ExecutionStatistics(7);
+        assertEquals(0, statistics.getStandardDeviationNanos(), DELTA);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testEmptyExecutionTimes() {
+        new ExecutionStatistics();
+    }
+
+}
@@ -0,0 +1,66 @@
+package com.lugowoy.helper.execution;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+
+public class OutputExecutionRecordToFileTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testCsvHeaderIsWrittenOnce() throws Exception {
+        Path file = folder.newFolder().toPath().resolve("records.csv");
+        for (int i = 0; i < 2; i++) {
+            try (OutputExecutionRecordToFile output = new OutputExecutionRecordToFile(
+                    file, ExecutionRecordFormat.CSV)) {
+                output.output(new ExecutionRecord("sort,\"fast\"", 10, 200, 30, 4));
+            }
+        }
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assertEquals(3, lines.size());
+        assertEquals(ExecutionRecordFormat.CSV.getHeader(), lines.get(0));
+        assertEquals("\"sort,\"\"fast\"\"\",10,200,30,4", lines.get(2));
+    }
+
+    @Test
+    public void testJsonLinesWithSmallBuffer() throws Exception {
+        Path file = folder.newFolder().toPath().resolve("records.jsonl");
+        try (OutputExecutionRecordToFile output = new OutputExecutionRecordToFile(
+                file, ExecutionRecordFormat.JSON_LINES, 16, 0, TimeUnit.MILLISECONDS)) {
+            for (int i = 0; i < 1000; i++) {
+                output.output(new ExecutionRecord("taské\"" + i, i, i, -1, i));
+            }
+        }
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assertEquals(1000, lines.size());
+        assertEquals("{\"taskId\":\"taské\\\"999\",\"inputSize\":999,"
+                     + "\"nanoTime\":999,\"allocatedBytes\":-1,\"resultHash\":999}",
+                     lines.get(999));
+    }
+
+    @Test
+    public void testOutputThroughExecutor() throws Exception {
+        Path file = folder.newFolder().toPath().resolve("records.csv");
+        try (OutputExecutionRecordToFile output = new OutputExecutionRecordToFile(
+                file, ExecutionRecordFormat.CSV)) {
+            int result = new Executor().execute(() -> 42, "answer", 1, output);
+            assertEquals(42, result);
+        }
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assertEquals(2, lines.size());
+        String[] fields = lines.get(1).split(",");
+        assertEquals("answer", fields[0]);
+        assertEquals(String.valueOf(Integer.valueOf(42).hashCode()), fields[4]);
+    }
+
+}
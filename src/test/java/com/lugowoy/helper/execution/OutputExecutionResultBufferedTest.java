@@ -0,0 +1,157 @@
+package com.lugowoy.helper.execution;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class OutputExecutionResultBufferedTest {
+
+    @Test
+    public void testFlushWritesOutput() throws IOException {
+        StringWriter sink = new StringWriter();
+        try (OutputExecutionResultBuffered output =
+                     new OutputExecutionResultBuffered(sink, 1024, 2)) {
+            output.output("a");
+            output.output("%d-%d", 1, 2);
+            output.flush();
+            assertEquals("Result : a1-2", sink.toString());
+        }
+    }
+
+    @Test(timeout = 10_000)
+    public void testFlushReturnsUnderContinuousOutput() throws Exception {
+        StringWriter sink = new StringWriter() {
+            @Override
+            public void write(final String string) {
+                try {
+                    Thread.sleep(1);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                super.write(string);
+            }
+        };
+        AtomicBoolean stop = new AtomicBoolean();
+        try (OutputExecutionResultBuffered output =
+                     new OutputExecutionResultBuffered(sink, 16, 4)) {
+            Thread producer = new Thread(() -> {
+                while (!stop.get()) {
+                    output.output("%s", "0123456789");
+                }
+            });
+            producer.start();
+            for (int i = 0; i < 50; i++) {
+                output.flush();
+            }
+            stop.set(true);
+            producer.join();
+        }
+    }
+
+    @Test
+    public void testCloseWritesAllInOrder() throws IOException {
+        StringBuilder expected = new StringBuilder();
+        AtomicBoolean closed = new AtomicBoolean();
+        StringWriter sink = new StringWriter() {
+            @Override
+            public void close() throws IOException {
+                closed.set(true);
+                super.close();
+            }
+        };
+        OutputExecutionResultBuffered output =
+                new OutputExecutionResultBuffered(sink, 64, 2);
+        for (int i = 0; i < 1_000; i++) {
+            output.output("%d,", i);
+            expected.append(i).append(',');
+        }
+        output.close();
+        assertEquals(expected.toString(), sink.toString());
+        assertTrue(closed.get());
+        try {
+            output.output(1);
+            fail();
+        } catch (IllegalStateException ex) {
+            //expected
+        }
+        output.close();
+    }
+
+    @Test(timeout = 10_000)
+    public void testWriteFailureIsReported() {
+        OutputExecutionResultBuffered output =
+                new OutputExecutionResultBuffered(new FailingWriter(false),
+                                                  16, 1);
+        try {
+            output.output("%s", "0123456789012345");
+            output.flush();
+            fail();
+        } catch (IOException ex) {
+            assertEquals("write", ex.getMessage());
+        }
+        try {
+            output.output(1);
+            fail();
+        } catch (UncheckedIOException ex) {
+            //expected
+        }
+    }
+
+    @Test(timeout = 10_000)
+    public void testRuntimeFailureDoesNotBlockOutput() {
+        OutputExecutionResultBuffered output =
+                new OutputExecutionResultBuffered(new FailingWriter(true),
+                                                  16, 1);
+        try {
+            for (int i = 0; i < 1_000; i++) {
+                output.output("%s", "0123456789012345");
+            }
+            fail();
+        } catch (UncheckedIOException ex) {
+            assertTrue(ex.getCause().getCause()
+                               instanceof IllegalArgumentException);
+        }
+        try {
+            output.close();
+            fail();
+        } catch (IOException ex) {
+            //expected
+        }
+    }
+
+    private static final class FailingWriter extends Writer {
+
+        private final boolean isUnchecked;
+
+        private FailingWriter(final boolean isUnchecked) {
+            this.isUnchecked = isUnchecked;
+        }
+
+        @Override
+        public void write(final char[] buffer, final int offset,
+                          final int length) throws IOException {
+            if (this.isUnchecked) {
+                throw new IllegalArgumentException("write");
+            }
+            throw new IOException("write");
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+    }
+
+}
@@ -0,0 +1,249 @@
+package com.lugowoy.helper.models.arrays;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ArrayDoublesTest {
+
+    private static final int SIZE = 300_000;
+
+    @Test
+    public void testAggregationsWithSignedZeros() {
+        double[] values = new Random(5).doubles(SIZE, 1.0, 2.0).toArray();
+        values[1_000] = 0.0;
+        values[200_000] = -0.0;
+        values[250_000] = -0.0;
+        values[150_000] = 5.0;
+        values[290_000] = 5.0;
+        ArrayDoubles array = new ArrayDoubles(values);
+        assertTrue(array.size() >= ArrayAggregation.PARALLEL_THRESHOLD);
+        assertAggregationsAgree(values, array);
+        assertEquals(Double.doubleToLongBits(-0.0),
+                     Double.doubleToLongBits(array.min()));
+        assertEquals(200_000, array.argMin());
+        assertEquals(5.0, array.max(), 0);
+        assertEquals(150_000, array.argMax());
+    }
+
+    @Test
+    public void testMaxOfSignedZeros() {
+        double[] values = new Random(7).doubles(SIZE, -2.0, -1.0).toArray();
+        values[10] = -0.0;
+        values[280_000] = 0.0;
+        ArrayDoubles array = new ArrayDoubles(values);
+        assertAggregationsAgree(values, array);
+        assertEquals(Double.doubleToLongBits(0.0),
+                     Double.doubleToLongBits(array.max()));
+        assertEquals(280_000, array.argMax());
+    }
+
+    @Test
+    public void testAggregationsWithNaN() {
+        double[] values = new Random(9).doubles(SIZE, -1.0, 1.0).toArray();
+        values[100] = -0.0;
+        values[170_000] = Double.NaN;
+        values[260_000] = Double.NaN;
+        ArrayDoubles array = new ArrayDoubles(values);
+        assertAggregationsAgree(values, array);
+        assertTrue(Double.isNaN(array.min()));
+        assertTrue(Double.isNaN(array.max()));
+        assertEquals(170_000, array.argMin());
+        assertEquals(170_000, array.argMax());
+        assertTrue(Double.isNaN(array.sum()));
+        assertTrue(Double.isNaN(array.variance()));
+    }
+
+    @Test
+    public void testSmallArray() {
+        ArrayDoubles array = new ArrayDoubles(2.0, -0.0, 0.0, 7.5);
+        assertEquals(1, array.argMin());
+        assertEquals(3, array.argMax());
+        assertEquals(2.375, array.mean(), 0.0);
+        assertAggregationsAgree(array.toArray(), array);
+    }
+
+    @Test
+    public void testEmptyArgMinAndArgMax() {
+        ArrayDoubles array = new ArrayDoubles();
+        assertEquals(-1, array.argMin());
+        assertEquals(-1, array.argMax());
+        assertEquals(0.0, array.sum(), 0);
+    }
+
+    @Test
+    public void testRemoveAllWithManyArguments() {
+        double[] arguments = bulkArguments();
+        assertTrue(arguments.length > AbstractArray.BULK_LOOKUP_THRESHOLD);
+        double[] values = valuesWithSpecials();
+        ArrayDoubles array = new ArrayDoubles(values);
+        assertTrue(array.removeAll(arguments));
+        assertArrayEquals(filter(values, arguments, false), array.toArray(),
+                          0);
+        assertEquals(2, countNaN(array.toArray()));
+        assertTrue(array.contains(0.5));
+        assertEquals(-1, array.indexOf(0.0));
+        assertTrue(!array.removeAll(arguments));
+    }
+
+    @Test
+    public void testRetainAllWithManyArguments() {
+        double[] arguments = bulkArguments();
+        double[] values = valuesWithSpecials();
+        ArrayDoubles array = new ArrayDoubles(values);
+        assertTrue(array.retainAll(arguments));
+        assertArrayEquals(filter(values, arguments, true), array.toArray(),
+                          0);
+        assertEquals(0, countNaN(array.toArray()));
+        assertEquals(Double.doubleToLongBits(-0.0),
+                     Double.doubleToLongBits(array.get(0)));
+        assertEquals(Double.doubleToLongBits(0.0),
+                     Double.doubleToLongBits(array.get(1)));
+    }
+
+    @Test
+    public void testBulkAndLinearLookupsAgree() {
+        double[] values = valuesWithSpecials();
+        double[] few = {Double.NaN, 0.0, 3.0};
+        double[] many = Arrays.copyOf(few, 40);
+        Arrays.fill(many, few.length, many.length, 3.0);
+        ArrayDoubles linear = new ArrayDoubles(values);
+        ArrayDoubles bulk = new ArrayDoubles(values);
+        linear.removeAll(few);
+        bulk.removeAll(many);
+        assertArrayEquals(linear.toArray(), bulk.toArray(), 0);
+        linear = new ArrayDoubles(values);
+        bulk = new ArrayDoubles(values);
+        linear.retainAll(few);
+        bulk.retainAll(many);
+        assertArrayEquals(linear.toArray(), bulk.toArray(), 0);
+    }
+
+    @Test
+    public void testRemoveIf() {
+        double[] values = valuesWithSpecials();
+        ArrayDoubles array = new ArrayDoubles(values);
+        assertTrue(array.removeIf(value -> Double.isNaN(value)
+                                           || value == 0.0));
+        assertEquals(values.length - 5, array.size());
+        assertEquals(0, countNaN(array.toArray()));
+        assertEquals(-1, array.indexOf(0.0));
+        assertTrue(!array.removeIf(Double::isNaN));
+    }
+
+    @Test
+    public void testIteratorRemove() {
+        double[] values = valuesWithSpecials();
+        ArrayDoubles array = new ArrayDoubles(values);
+        PrimitiveIterator.OfDouble iterator = array.iterator();
+        while (iterator.hasNext()) {
+            double value = iterator.nextDouble();
+            if (Double.isNaN(value) || value == 0.0) {
+                iterator.remove();
+            }
+        }
+        double[] expected = Arrays.stream(values)
+                                  .filter(value -> !Double.isNaN(value)
+                                                   && value != 0.0)
+                                  .toArray();
+        assertArrayEquals(expected, array.toArray(), 0);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testIteratorRemoveTwice() {
+        PrimitiveIterator.OfDouble iterator = new ArrayDoubles(1.0, 2.0)
+                .iterator();
+        iterator.nextDouble();
+        iterator.remove();
+        iterator.remove();
+    }
+
+    /*
+     * Returns the arguments of the bulk lookup: NaN, 0.0 without -0.0 and
+     * the whole numbers from 1.0 to 30.0.
+     */
+    private static double[] bulkArguments() {
+        double[] arguments = new double[32];
+        arguments[0] = Double.NaN;
+        arguments[1] = 0.0;
+        for (int i = 2; i < arguments.length; i++) {
+            arguments[i] = i - 1;
+        }
+        return arguments;
+    }
+
+    private static double[] valuesWithSpecials() {
+        return new double[]{0.5, Double.NaN, -0.0, 0.0, 3.0, 7.25,
+                            Double.NaN, -0.0, 30.0, 31.0, -1.0};
+    }
+
+    /*
+     * Filters the values with the comparison by ==, so the NaN is never
+     * matched and 0.0 matches -0.0.
+     */
+    private static double[] filter(final double[] values,
+                                   final double[] arguments,
+                                   final boolean retain) {
+        return Arrays.stream(values)
+                     .filter(value -> Arrays.stream(arguments)
+                                            .anyMatch(a -> a == value)
+                                      == retain)
+                     .toArray();
+    }
+
+    private static int countNaN(final double[] values) {
+        return (int) Arrays.stream(values).filter(Double::isNaN).count();
+    }
+
+    /*
+     * Compares the results of the array, aggregated in parallel when the
+     * common pool has more than one thread, with the plain sequential loops.
+     */
+    private static void assertAggregationsAgree(final double[] values,
+                                                final ArrayDoubles array) {
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        double sum = 0;
+        for (double value : values) {
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+            sum += value;
+        }
+        assertEquals(Double.doubleToLongBits(min),
+                     Double.doubleToLongBits(array.min()));
+        assertEquals(Double.doubleToLongBits(max),
+                     Double.doubleToLongBits(array.max()));
+        assertEquals(firstIndexOf(values, min), array.argMin());
+        assertEquals(firstIndexOf(values, max), array.argMax());
+        if (Double.isNaN(sum)) {
+            return;
+        }
+        double mean = sum / values.length;
+        double squares = 0;
+        for (double value : values) {
+            squares += (value - mean) * (value - mean);
+        }
+        assertEquals(sum, array.sum(), Math.abs(sum) * 1e-12);
+        assertEquals(mean, array.mean(), Math.abs(mean) * 1e-12);
+        assertEquals(squares / values.length, array.variance(),
+                     squares / values.length * 1e-9);
+    }
+
+    private static int firstIndexOf(final double[] values,
+                                    final double value) {
+        long bits = Double.doubleToLongBits(value);
+        for (int i = 0; i < values.length; i++) {
+            if (Double.doubleToLongBits(values[i]) == bits) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+}
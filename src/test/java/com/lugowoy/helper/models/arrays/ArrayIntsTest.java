@@ -0,0 +1,122 @@
+package com.lugowoy.helper.models.arrays;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Random;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ArrayIntsTest {
+
+    @Test
+    public void testRemoveAllWithLargeArgument() {
+        ArrayInts array = new ArrayInts(5, 1, 7, 3, 5, 9, 2);
+        assertTrue(array.removeAll(IntStream.rangeClosed(3, 40).toArray()));
+        assertArrayEquals(new int[]{1, 2}, array.toArray());
+    }
+
+    @Test
+    public void testRetainAllAndRemoveIf() {
+        ArrayInts array = new ArrayInts(1, 2, 3, 4, 5, 6);
+        assertTrue(array.retainAll(2, 3, 4, 5));
+        assertTrue(array.removeIf(i -> i % 2 == 0));
+        assertArrayEquals(new int[]{3, 5}, array.toArray());
+    }
+
+    @Test
+    public void testSingleRemovalKeepsCapacity() {
+        ArrayInts array = new ArrayInts();
+        array.ensureCapacity(1_000_000);
+        array.addAll(IntStream.range(0, 10));
+        assertEquals(0, array.removeByIndex(0));
+        assertTrue(array.remove(5));
+        assertTrue(array.capacity() >= 1_000_000);
+        ArrayDoubles doubles = new ArrayDoubles();
+        doubles.ensureCapacity(1_000_000);
+        doubles.addAll(DoubleStream.of(0.5, 1.5, 2.0));
+        assertEquals(0.5, doubles.removeByIndex(0), 0);
+        assertTrue(doubles.capacity() >= 1_000_000);
+        assertTrue(array.removeIf(i -> i > 7));
+        assertEquals(12, array.capacity());
+    }
+
+    @Test
+    public void testAddAllFromStreamAndIterator() {
+        ArrayInts array = new ArrayInts();
+        array.setGrowthPolicy(GrowthPolicy.fixedIncrement(3));
+        assertTrue(array.addAll(IntStream.range(0, 50)));
+        assertTrue(array.addAll(IntStream.range(50, 100).iterator()));
+        assertEquals(100, array.size());
+        assertArrayEquals(IntStream.range(0, 100).toArray(), array.toArray());
+    }
+
+    @Test
+    public void testRadixAndParallelSort() {
+        int[] values = new Random(7).ints(100_000).toArray();
+        int[] expected = values.clone();
+        Arrays.sort(expected);
+        ArrayInts radix = new ArrayInts(values);
+        radix.radixSort();
+        assertArrayEquals(expected, radix.toArray());
+        ArrayInts parallel = new ArrayInts(values);
+        parallel.parallelSort();
+        assertArrayEquals(expected, parallel.toArray());
+    }
+
+    @Test
+    public void testBulkTraversal() {
+        ArrayInts array = new ArrayInts(1, 2, 3, 4);
+        array.replaceAll(i -> i * 10);
+        long[] sums = new long[2];
+        array.forEachInt(i -> sums[0] += i);
+        array.forEachIndexed((index, value) -> sums[1] += index * value);
+        assertEquals(100, sums[0]);
+        assertEquals(200, sums[1]);
+        Iterator<Integer> iterator = array.iterator();
+        iterator.next();
+        StringBuilder rest = new StringBuilder();
+        iterator.forEachRemaining(rest::append);
+        assertEquals("203040", rest.toString());
+    }
+
+    @Test
+    public void testPrimitiveStreams() {
+        ArrayInts array = new ArrayInts();
+        array.addAll(IntStream.range(0, 100_000));
+        assertEquals(IntStream.range(0, 100_000).asLongStream().sum(),
+                     array.parallelIntStream().asLongStream().sum());
+        assertEquals(3, array.intStream().skip(3).iterator().nextInt());
+        ArrayDoubles doubles = new ArrayDoubles();
+        doubles.addAll(DoubleStream.of(0.5, 1.5, 2.0));
+        assertEquals(4.0, doubles.doubleStream().sum(), 0.0);
+    }
+
+    @Test
+    public void testAggregations() {
+        int[] values = new Random(11).ints(300_000).toArray();
+        values[123_456] = Integer.MIN_VALUE;
+        values[7] = Integer.MAX_VALUE;
+        ArrayInts array = new ArrayInts(values);
+        assertEquals(IntStream.of(values).asLongStream().sum(), array.sum());
+        assertEquals(Integer.MIN_VALUE, array.min());
+        assertEquals(Integer.MAX_VALUE, array.max());
+        assertEquals(123_456, array.argMin());
+        assertEquals(7, array.argMax());
+        double mean = IntStream.of(values).average().orElseThrow();
+        double variance = IntStream.of(values)
+                                   .mapToDouble(v -> (v - mean) * (v - mean))
+                                   .sum() / values.length;
+        assertEquals(mean, array.mean(), 1e-6);
+        assertEquals(1.0, array.variance() / variance, 1e-9);
+        ArrayInts small = new ArrayInts(3, 1, 4, 1, 5);
+        assertEquals(1, small.argMin());
+        assertEquals(2.56, small.variance(), 1e-9);
+    }
+
+}
@@ -10,8 +10,18 @@ import org.junit.Test;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.ListIterator;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 public class ArrayTest {
 
@@ -45,4 +55,221 @@ public class ArrayTest {
         System.out.println("Integer list : " + integerList);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testRemoveAllWithLargeCollection() {
+        Array<Integer> array = new Array<>(1, 2, 3, 2, 4, 5, 2);
+        List<Integer> toRemove = IntStream.rangeClosed(2, 40).boxed()
+                                          .collect(Collectors.toList());
+        assertTrue(array.removeAll(toRemove));
+        assertEquals(Arrays.asList(1), Arrays.asList(array.toArray()));
+        assertFalse(array.removeAll(toRemove));
+    }
+
+    @Test
+    public void testRetainAllAndRemoveIf() {
+        Array<Integer> array = new Array<>(1, 2, 3, 4, 5, 6);
+        assertTrue(array.retainAll(Arrays.asList(2, 3, 4, 5)));
+        assertTrue(array.removeIf(i -> i % 2 == 0));
+        assertEquals(Arrays.asList(3, 5), Arrays.asList(array.toArray()));
+        assertEquals(Integer.valueOf(5), array.remove(1));
+        assertEquals(1, array.size());
+    }
+
+    @Test
+    public void testParallelStream() {
+        Integer[] values = IntStream.range(0, 100_000).boxed().toArray(Integer[]::new);
+        Array<Integer> array = new Array<>(values);
+        assertEquals(IntStream.range(0, 100_000).asLongStream().sum(),
+                     array.stream().parallel().mapToLong(Integer::longValue).sum());
+        assertEquals(Arrays.asList(values),
+                     array.parallelStream().collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testSubListIsView() {
+        Array<Integer> array = new Array<>(0, 1, 2, 3, 4, 5);
+        List<Integer> subList = array.subList(1, 4);
+        assertEquals(Arrays.asList(1, 2, 3), subList);
+        subList.set(0, 10);
+        subList.subList(1, 3).clear();
+        assertEquals(Arrays.asList(10), subList);
+        assertEquals(Arrays.asList(0, 10, 4, 5), Arrays.asList(array.toArray()));
+    }
+
+    @Test
+    public void testListIterator() {
+        Array<Integer> array = new Array<>(1, 2, 3);
+        ListIterator<Integer> iterator = array.listIterator(3);
+        assertEquals(Integer.valueOf(3), iterator.previous());
+        iterator.set(30);
+        iterator.add(25);
+        assertEquals(Integer.valueOf(30), iterator.next());
+        assertFalse(iterator.hasNext());
+        assertEquals(Arrays.asList(1, 2, 25, 30), Arrays.asList(array.toArray()));
+    }
+
+    @Test
+    public void testAddWithGrowthPolicy() {
+        Array<Integer> array = new Array<>(0);
+        array.setGrowthPolicy(GrowthPolicy.capped(GrowthPolicy.doubling(), 64));
+        for (int i = 0; i < 1_000; i++) {
+            assertTrue(array.add(i));
+        }
+        assertTrue(array.add(null));
+        assertTrue(array.addAll(IntStream.range(0, 10).boxed()));
+        array.ensureCapacity(5_000);
+        assertEquals(1_011, array.size());
+        assertEquals(Integer.valueOf(999), array.get(999));
+        assertEquals(Integer.valueOf(9), array.get(1_010));
+    }
+
+    @Test
+    public void testSortVariants() {
+        Integer[] values = new Random(3).ints(50_000, 0, 1_000).boxed()
+                                        .toArray(Integer[]::new);
+        Integer[] expected = values.clone();
+        Arrays.sort(expected);
+        Array<Integer> array = new Array<>(values);
+        array.add(null);
+        array.sortUnstable(0, values.length, Comparator.naturalOrder());
+        assertEquals(Arrays.asList(expected), array.subList(0, values.length));
+        array = new Array<>(values);
+        array.parallelSortUnstable(0, array.size(), Comparator.naturalOrder());
+        assertEquals(Arrays.asList(expected), array);
+        array = new Array<>(values);
+        array.parallelSort(Comparator.naturalOrder());
+        assertEquals(Arrays.asList(expected), array);
+    }
+
+    @Test
+    public void testIndexedLookups() {
+        Array<String> array = new Array<>();
+        array.setIndexed(true);
+        for (int i = 0; i < 100; i++) {
+            array.add("e" + (i % 50));
+        }
+        assertEquals(10, array.indexOf("e10"));
+        assertEquals(60, array.lastIndexOf("e10"));
+        array.set(60, "x");
+        array.add("e10");
+        assertEquals(100, array.lastIndexOf("e10"));
+        assertTrue(array.remove("e10"));
+        assertEquals(99, array.lastIndexOf("e10"));
+        assertEquals(59, array.indexOf("x"));
+        array.remove(array.size() - 1);
+        assertEquals(-1, array.indexOf("e10"));
+        assertTrue(array.containsAll(Arrays.asList("e0", "e49", "x")));
+        assertFalse(array.contains("e10"));
+        array.add(0, "x");
+        assertEquals(0, array.indexOf("x"));
+        assertEquals(60, array.lastIndexOf("x"));
+        assertEquals(1, array.indexOf("e0"));
+        assertEquals(99, array.lastIndexOf("e49"));
+        array.add(array.size(), "e10");
+        array.listIterator(1).add("e10");
+        assertEquals(1, array.indexOf("e10"));
+        assertEquals(array.size() - 1, array.lastIndexOf("e10"));
+        assertEquals(61, array.lastIndexOf("x"));
+        array.subList(2, 4).add(1, "x");
+        assertEquals(4, array.indexOf("e1"));
+        assertEquals(62, array.lastIndexOf("x"));
+        array.clear();
+        assertFalse(array.contains("x"));
+    }
+
+    @Test
+    public void testIndexAfterSetArray() {
+        Array<String> array = new Array<>("a", "b", "c");
+        array.setIndexed(true);
+        assertTrue(array.contains("a"));
+        array.setArray(new Array<>("x", "y", "z"));
+        assertFalse(array.contains("a"));
+        assertEquals(0, array.indexOf("x"));
+    }
+
+    @Test
+    public void testIndexedRemovalsKeepPositions() {
+        Random random = new Random(42);
+        Array<Integer> array = new Array<>();
+        List<Integer> expected = new java.util.ArrayList<>();
+        array.setIndexed(true);
+        for (int i = 0; i < 300; i++) {
+            Integer value = random.nextInt(40);
+            array.add(value);
+            expected.add(value);
+        }
+        assertIndexMatches(expected, array);
+        array.remove(5);
+        expected.remove(5);
+        assertIndexMatches(expected, array);
+        for (int i = 0; i < 20; i++) {
+            int position = random.nextInt(array.size() + 1);
+            Integer value = random.nextInt(40);
+            array.add(position, value);
+            expected.add(position, value);
+        }
+        assertIndexMatches(expected, array);
+        array.remove(Integer.valueOf(7));
+        expected.remove(Integer.valueOf(7));
+        assertIndexMatches(expected, array);
+        array.removeIf(value -> value % 5 == 0);
+        expected.removeIf(value -> value % 5 == 0);
+        assertIndexMatches(expected, array);
+        array.subList(10, 20).clear();
+        expected.subList(10, 20).clear();
+        assertIndexMatches(expected, array);
+        try {
+            array.removeIf(value -> {
+                if (value == 13) {
+                    throw new IllegalStateException();
+                }
+                return value % 3 == 0;
+            });
+        } catch (IllegalStateException ex) {
+            int stop = expected.indexOf(13);
+            List<Integer> head = expected.subList(0, stop);
+            head.removeIf(value -> value % 3 == 0);
+        }
+        assertIndexMatches(expected, array);
+    }
+
+    private static void assertIndexMatches(final List<Integer> expected,
+                                           final Array<Integer> array) {
+        assertEquals(expected, array);
+        for (int value = 0; value < 40; value++) {
+            assertEquals(expected.indexOf(value), array.indexOf(value));
+            assertEquals(expected.lastIndexOf(value),
+                         array.lastIndexOf(value));
+        }
+    }
+
+    @Test(timeout = 5_000)
+    public void testIndexedBulkRemovalOfRepeatedValue() {
+        Array<Integer> array = new Array<>();
+        array.setIndexed(true);
+        for (int i = 0; i < 800_000; i++) {
+            array.add(i & 1);
+        }
+        assertTrue(array.contains(0));
+        assertTrue(array.removeIf(value -> value == 0));
+        assertEquals(400_000, array.size());
+        assertFalse(array.contains(0));
+        assertEquals(0, array.indexOf(1));
+        array.subList(0, 200_000).clear();
+        assertEquals(199_999, array.lastIndexOf(1));
+    }
+
+    @Test
+    public void testSingleRemovalKeepsCapacity() {
+        Array<Integer> array = new Array<>();
+        array.ensureCapacity(1_000_000);
+        array.addAll(IntStream.range(0, 10).boxed());
+        assertEquals(Integer.valueOf(0), array.remove(0));
+        assertTrue(array.remove(Integer.valueOf(5)));
+        array.subList(0, 2).clear();
+        assertTrue(array.capacity() >= 1_000_000);
+        assertTrue(array.removeIf(value -> value > 7));
+        assertEquals(AbstractArray.DEFAULT_CAPACITY, array.capacity());
+    }
+
+}
@@ -0,0 +1,93 @@
+package com.lugowoy.helper.models.arrays;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class CompressedArrayIntsTest {
+
+    private static final int SIZE = 10_000;
+
+    @Test
+    public void testBitPacked() {
+        int[] values = new Random(1).ints(SIZE, -1_000, 1_000).toArray();
+        BitPackedArrayInts packed =
+                BitPackedArrayInts.of(new ArrayInts(values));
+        assertEquals(11, packed.getWidth());
+        checkDecoding(values, packed);
+        checkDecoding(new int[]{Integer.MIN_VALUE, 0, Integer.MAX_VALUE},
+                      BitPackedArrayInts.of(new ArrayInts(Integer.MIN_VALUE, 0,
+                                                          Integer.MAX_VALUE)));
+    }
+
+    @Test
+    public void testDelta() {
+        int[] values = sortedIds();
+        DeltaArrayInts delta = DeltaArrayInts.of(new ArrayInts(values));
+        checkDecoding(values, delta);
+        assertTrue(delta.sizeInBytes() * 2 < (long) SIZE * Integer.BYTES);
+        int[] unsorted = new Random(2).ints(SIZE).toArray();
+        checkDecoding(unsorted, DeltaArrayInts.of(new ArrayInts(unsorted)));
+    }
+
+    @Test
+    public void testFrameOfReference() {
+        int[] values = sortedIds();
+        FrameOfReferenceArrayInts frames =
+                FrameOfReferenceArrayInts.of(new ArrayInts(values));
+        checkDecoding(values, frames);
+        assertTrue(frames.sizeInBytes()
+                   < BitPackedArrayInts.of(new ArrayInts(values))
+                                       .sizeInBytes());
+    }
+
+    @Test
+    public void testEmpty() {
+        for (Function<ArrayInts, AbstractCompressedArrayInts> factory
+                : factories()) {
+            AbstractCompressedArrayInts empty = factory.apply(new ArrayInts());
+            assertTrue(empty.isEmpty());
+            assertEquals(0, empty.toArrayInts().size());
+            assertEquals("[]", empty.toString());
+        }
+    }
+
+    private static void checkDecoding(int[] values,
+                                      AbstractCompressedArrayInts array) {
+        assertEquals(values.length, array.size());
+        assertArrayEquals(values, array.toArrayInts().toArray());
+        assertArrayEquals(values, array.intStream().toArray());
+        for (int i = 0; i < values.length; i += 7) {
+            assertEquals(values[i], array.get(i));
+        }
+        assertEquals(values[values.length - 1], array.get(values.length - 1));
+        int[] block = new int[AbstractCompressedArrayInts.BLOCK_SIZE];
+        int last = array.blockCount() - 1;
+        int length = array.readBlock(last, block, 0);
+        assertEquals(values.length - last * block.length, length);
+        assertEquals(values[last * block.length], block[0]);
+    }
+
+    private static int[] sortedIds() {
+        int[] values = new int[SIZE];
+        Random random = new Random(3);
+        for (int i = 1; i < SIZE; i++) {
+            values[i] = values[i - 1] + random.nextInt(100);
+        }
+        return values;
+    }
+
+    private static List<Function<ArrayInts, AbstractCompressedArrayInts>>
+            factories() {
+        return Arrays.asList(BitPackedArrayInts::of, DeltaArrayInts::of,
+                             FrameOfReferenceArrayInts::of);
+    }
+
+}
@@ -0,0 +1,131 @@
+package com.lugowoy.helper.models.arrays;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ConcurrentArrayTest {
+
+    @Test
+    public void testConcurrentAppendsAndSets() throws Exception {
+        ConcurrentArray<Integer> array = new ConcurrentArray<>(0);
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(pool.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        array.add(i);
+                        array.set(i % array.size(), i);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(40_000, array.size());
+        assertEquals(40_000, array.stream().count());
+        assertEquals(40_000, array.toArray().size());
+    }
+
+    @Test
+    public void testRemovalAndSnapshotIteration() {
+        ConcurrentArray<Integer> array = new ConcurrentArray<>();
+        for (int i = 0; i < 100; i++) {
+            array.add(i);
+        }
+        int iterated = 0;
+        for (Integer ignored : array) {
+            array.add(-1);
+            iterated++;
+        }
+        assertEquals(100, iterated);
+        assertTrue(array.removeIf(i -> i < 0));
+        assertEquals(Integer.valueOf(5), array.remove(5));
+        assertEquals(99, array.size());
+        assertTrue(array.compareAndSet(5, 6, 60));
+        assertEquals(5, array.indexOf(60));
+    }
+
+    @Test(timeout = 30_000)
+    public void testSetsConcurrentWithRemovals() throws Exception {
+        ConcurrentArray<Object> array = new ConcurrentArray<>();
+        Queue<Object> added = new ConcurrentLinkedQueue<>();
+        Queue<Object> replaced = new ConcurrentLinkedQueue<>();
+        Queue<Object> removed = new ConcurrentLinkedQueue<>();
+        for (int i = 0; i < 1_000; i++) {
+            Object element = new Object();
+            array.add(element);
+            added.add(element);
+        }
+        ExecutorService pool = Executors.newFixedThreadPool(5);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 3; t++) {
+                futures.add(pool.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < 20_000; i++) {
+                        Object element = new Object();
+                        try {
+                            int index =
+                                    random.nextInt(Math.max(array.size(), 1));
+                            replaced.add(array.set(index, element));
+                            added.add(element);
+                        } catch (IndexOutOfBoundsException ex) {
+                            //the element was removed concurrently
+                        }
+                        if (i % 10 == 0) {
+                            Object appended = new Object();
+                            array.add(appended);
+                            added.add(appended);
+                        }
+                    }
+                }));
+            }
+            futures.add(pool.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < 300; i++) {
+                    if (i % 2 == 0) {
+                        array.removeIf(element -> {
+                            boolean matches = random.nextInt(100) == 0;
+                            if (matches) {
+                                removed.add(element);
+                            }
+                            return matches;
+                        });
+                    } else if (!array.isEmpty()) {
+                        removed.add(array.remove(0));
+                    }
+                }
+            }));
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+        Map<Object, Integer> counts = new IdentityHashMap<>();
+        added.forEach(element -> counts.merge(element, 1, Integer::sum));
+        replaced.forEach(element -> counts.merge(element, -1, Integer::sum));
+        removed.forEach(element -> counts.merge(element, -1, Integer::sum));
+        array.forEach(element -> counts.merge(element, -1, Integer::sum));
+        counts.values().removeIf(count -> count == 0);
+        assertTrue(counts.isEmpty());
+    }
+
+}
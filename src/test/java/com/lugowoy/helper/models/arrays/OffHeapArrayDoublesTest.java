@@ -0,0 +1,108 @@
+package com.lugowoy.helper.models.arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.ReadOnlyBufferException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class OffHeapArrayDoublesTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testAddAcrossSegments() {
+        int perSegment = AbstractOffHeapArray.SEGMENT_BYTES / Double.BYTES;
+        double[] values = IntStream.range(0, perSegment + 10)
+                                   .asDoubleStream().toArray();
+        try (OffHeapArrayDoubles array = new OffHeapArrayDoubles()) {
+            array.add(-1.5);
+            array.addAll(values);
+            assertEquals(values.length + 1L, array.size());
+            assertEquals(-1.5, array.get(0), 0);
+            assertEquals(perSegment - 2, array.get(perSegment - 1L), 0);
+            assertEquals(perSegment - 1, array.get(perSegment), 0);
+            assertEquals(perSegment + 9, array.get(perSegment + 10L), 0);
+            assertEquals(5.0, array.set(6, 42.5), 0);
+            assertEquals(42.5, array.get(6), 0);
+            array.set(perSegment, 0.25);
+            assertEquals(0.25, array.get(perSegment), 0);
+            assertEquals(perSegment - 2, array.get(perSegment - 1L), 0);
+            DoubleAdder sum = new DoubleAdder();
+            array.forEachDouble(sum::add);
+            double expected = IntStream.range(0, perSegment + 10)
+                                       .asLongStream().sum()
+                              - 1.5 + 37.5 - (perSegment - 1) + 0.25;
+            assertEquals(expected, sum.sum(), 0);
+        }
+    }
+
+    @Test
+    public void testConversion() {
+        ArrayDoubles heap = new ArrayDoubles(3.0, 1.5, -4.0, 1.5, 5e-3);
+        try (OffHeapArrayDoubles array = new OffHeapArrayDoubles(heap)) {
+            assertEquals(5L, array.size());
+            assertArrayEquals(heap.toArray(), array.toArrayDoubles().toArray(),
+                              0);
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testClosed() {
+        OffHeapArrayDoubles array = new OffHeapArrayDoubles(10);
+        array.close();
+        assertTrue(array.isClosed());
+        array.add(1.0);
+    }
+
+    @Test
+    public void testSaveAndOpen() throws IOException {
+        Path file = this.folder.newFile().toPath();
+        ArrayDoubles heap = new ArrayDoubles(
+                IntStream.range(0, 100_000).asDoubleStream().toArray());
+        heap.save(file);
+        assertArrayEquals(heap.toArray(), ArrayDoubles.load(file).toArray(),
+                          0);
+        try (OffHeapArrayDoubles mapped = OffHeapArrayDoubles.open(
+                file, FileChannel.MapMode.PRIVATE)) {
+            assertTrue(mapped.isMapped());
+            assertEquals(100_000L, mapped.size());
+            assertEquals(99_999.0, mapped.get(99_999), 0);
+            mapped.set(0, -7.5);
+            assertEquals(-7.5, mapped.get(0), 0);
+        }
+        assertEquals(0.0, ArrayDoubles.load(file).get(0), 0);
+    }
+
+    @Test(expected = ReadOnlyBufferException.class)
+    public void testOpenReadOnly() throws IOException {
+        Path file = this.folder.newFile().toPath();
+        try (OffHeapArrayDoubles array = new OffHeapArrayDoubles()) {
+            array.addAll(1.0, 2.0, 3.0);
+            array.save(file);
+        }
+        try (OffHeapArrayDoubles mapped = OffHeapArrayDoubles.open(
+                file, FileChannel.MapMode.READ_ONLY)) {
+            assertEquals(3.0, mapped.get(2), 0);
+            mapped.add(4.0);
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void testOpenOtherType() throws IOException {
+        Path file = this.folder.newFile().toPath();
+        new ArrayInts(1, 2).save(file);
+        OffHeapArrayDoubles.open(file, FileChannel.MapMode.READ_ONLY).close();
+    }
+
+}
@@ -0,0 +1,97 @@
+package com.lugowoy.helper.models.arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.ReadOnlyBufferException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class OffHeapArrayIntsTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testAddAcrossSegments() {
+        int perSegment = AbstractOffHeapArray.SEGMENT_BYTES / Integer.BYTES;
+        int[] values = IntStream.range(0, perSegment + 10).toArray();
+        try (OffHeapArrayInts array = new OffHeapArrayInts()) {
+            array.add(-1);
+            array.addAll(values);
+            assertEquals(values.length + 1L, array.size());
+            assertEquals(-1, array.get(0));
+            assertEquals(perSegment - 1, array.get(perSegment));
+            assertEquals(perSegment + 9, array.get(perSegment + 10L));
+            assertEquals(5, array.set(6, 42));
+            assertEquals(42, array.get(6));
+            AtomicLong sum = new AtomicLong();
+            array.forEachInt(sum::addAndGet);
+            assertEquals(IntStream.of(values).asLongStream().sum() - 1 + 37,
+                         sum.get());
+        }
+    }
+
+    @Test
+    public void testConversion() {
+        ArrayInts heap = new ArrayInts(3, 1, 4, 1, 5);
+        try (OffHeapArrayInts array = new OffHeapArrayInts(heap)) {
+            assertArrayEquals(heap.toArray(), array.toArrayInts().toArray());
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testClosed() {
+        OffHeapArrayInts array = new OffHeapArrayInts(10);
+        array.close();
+        assertTrue(array.isClosed());
+        array.add(1);
+    }
+
+    @Test
+    public void testSaveAndOpen() throws IOException {
+        Path file = this.folder.newFile().toPath();
+        ArrayInts heap = new ArrayInts(IntStream.range(0, 100_000).toArray());
+        heap.save(file);
+        assertArrayEquals(heap.toArray(), ArrayInts.load(file).toArray());
+        try (OffHeapArrayInts mapped = OffHeapArrayInts.open(
+                file, FileChannel.MapMode.PRIVATE)) {
+            assertTrue(mapped.isMapped());
+            assertEquals(100_000L, mapped.size());
+            assertEquals(99_999, mapped.get(99_999));
+            mapped.set(0, -7);
+            assertEquals(-7, mapped.get(0));
+        }
+        assertEquals(0, ArrayInts.load(file).get(0));
+    }
+
+    @Test(expected = ReadOnlyBufferException.class)
+    public void testOpenReadOnly() throws IOException {
+        Path file = this.folder.newFile().toPath();
+        try (OffHeapArrayInts array = new OffHeapArrayInts()) {
+            array.addAll(1, 2, 3);
+            array.save(file);
+        }
+        try (OffHeapArrayInts mapped = OffHeapArrayInts.open(
+                file, FileChannel.MapMode.READ_ONLY)) {
+            assertEquals(3, mapped.get(2));
+            mapped.add(4);
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void testOpenOtherType() throws IOException {
+        Path file = this.folder.newFile().toPath();
+        new ArrayDoubles(1.0, 2.0).save(file);
+        OffHeapArrayInts.open(file, FileChannel.MapMode.READ_ONLY).close();
+    }
+
+}
@@ -0,0 +1,95 @@
+package com.lugowoy.helper.models.arrays;
+
+import org.junit.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class PersistentArrayTest {
+
+    @Test
+    public void testAppendAndConversion() {
+        PersistentArray<Integer> appended = PersistentArray.empty();
+        for (int i = 0; i < 40_000; i++) {
+            appended = appended.append(i);
+        }
+        Array<Integer> array = new Array<>();
+        array.addAll(IntStream.range(0, 40_000).boxed());
+        PersistentArray<Integer> converted = PersistentArray.of(array);
+        assertEquals(appended, converted);
+        assertArrayEquals(array.toArray(), converted.toArray().toArray());
+        assertEquals(converted.append(1), appended.append(1));
+    }
+
+    @Test
+    public void testBoundarySizes() {
+        for (int size : new int[]{1, 31, 32, 33, 1_056, 1_057, 33_824}) {
+            Array<Integer> array = new Array<>();
+            array.addAll(IntStream.range(0, size).boxed());
+            PersistentArray<Integer> converted = PersistentArray.of(array);
+            assertArrayEquals(array.toArray(), converted.toArray().toArray());
+            PersistentArray<Integer> appended = PersistentArray.empty();
+            for (int i = 0; i < size; i++) {
+                appended = appended.append(i);
+                assertEquals(Integer.valueOf(i), appended.get(i));
+            }
+            assertEquals(converted, appended);
+            assertArrayEquals(array.toArray(), appended.toArray().toArray());
+            PersistentArray<Integer> next = converted.append(size);
+            assertEquals(size + 1, next.size());
+            assertEquals(Integer.valueOf(size), next.get(size));
+            assertEquals(Integer.valueOf(0), next.get(0));
+        }
+    }
+
+    @Test
+    public void testVersionsLeaveOriginalUnchanged() {
+        Array<Integer> array = new Array<>();
+        array.addAll(IntStream.range(0, 1_100).boxed());
+        PersistentArray<Integer> original = PersistentArray.of(array);
+        PersistentArray<Integer> changed = original;
+        for (int index : new int[]{5, 31, 32, 1_055, 1_056, 1_099}) {
+            changed = changed.with(index, -index);
+            assertEquals(Integer.valueOf(-index), changed.get(index));
+            assertUnchanged(original, 1_100);
+        }
+        for (int i = 0; i < 40; i++) {
+            changed = changed.append(-1);
+            original.append(i);
+            assertUnchanged(original, 1_100);
+        }
+        assertEquals(Integer.valueOf(-5), changed.get(5));
+        assertEquals(Integer.valueOf(1_098), changed.get(1_098));
+        assertEquals(Integer.valueOf(-1), changed.get(1_139));
+        assertEquals(1_140, changed.size());
+        PersistentArray<Integer> full = PersistentArray.empty();
+        for (int i = 0; i < 1_056; i++) {
+            full = full.append(i);
+        }
+        PersistentArray<Integer> first = full.append(-1);
+        PersistentArray<Integer> second = full.append(-2);
+        assertUnchanged(full, 1_056);
+        assertEquals(Integer.valueOf(-1), first.get(1_056));
+        assertEquals(Integer.valueOf(-2), second.get(1_056));
+        PersistentArray<Integer> third = first.with(7, -7).with(1_056, 0);
+        assertEquals(Integer.valueOf(-7), third.get(7));
+        assertEquals(Integer.valueOf(0), third.get(1_056));
+        assertEquals(Integer.valueOf(7), first.get(7));
+        assertEquals(Integer.valueOf(-1), first.get(1_056));
+        assertUnchanged(full, 1_056);
+    }
+
+    /*
+     * Checks that the array still holds the numbers from 0 to the size.
+     */
+    private static void assertUnchanged(final PersistentArray<Integer> array,
+                                        final int size) {
+        assertEquals(size, array.size());
+        for (int i = 0; i < size; i++) {
+            assertEquals(Integer.valueOf(i), array.get(i));
+        }
+    }
+
+}
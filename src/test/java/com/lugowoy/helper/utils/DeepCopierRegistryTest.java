@@ -0,0 +1,90 @@
+package com.lugowoy.helper.utils;
+
+import com.lugowoy.helper.models.arrays.Array;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class DeepCopierRegistryTest {
+
+    @Test
+    public void testArraysAndCloneableAreCopied() {
+        DeepCopierRegistry registry = new DeepCopierRegistry();
+        ArrayList<String> list = new ArrayList<>(Arrays.asList("a", "b"));
+        Object[] original = {list, new int[]{1, 2}, "text"};
+        Object[] copy = registry.copyOf(original);
+        assertNotSame(original, copy);
+        assertNotSame(list, copy[0]);
+        assertEquals(list, copy[0]);
+        assertArrayEquals(new int[]{1, 2}, (int[]) copy[1]);
+        assertSame(original[2], copy[2]);
+    }
+
+    @Test
+    public void testRegisteredCopierAndFallback() {
+        DeepCopierRegistry registry = new DeepCopierRegistry();
+        AtomicInteger value = new AtomicInteger(5);
+        AtomicInteger serialized = registry.copyOf(value);
+        assertNotSame(value, serialized);
+        assertEquals(5, serialized.get());
+        registry.register(AtomicInteger.class, v -> new AtomicInteger(v.get() + 1));
+        assertEquals(6, registry.copyOf(value).get());
+    }
+
+    @Test
+    public void testArrayCloneKeepsSize() {
+        Array<StringBuilder> array = new Array<>();
+        array.add(new StringBuilder("a"));
+        Array<StringBuilder> clone = array.clone();
+        assertEquals(1, clone.size());
+        assertNotSame(array.get(0), clone.get(0));
+        assertEquals("a", clone.get(0).toString());
+    }
+
+    @Test
+    public void testNestedMutableContainersAreCopiedDeeply() {
+        StringBuilder element = new StringBuilder("a");
+        Array<ArrayList<StringBuilder>> array = new Array<>();
+        array.add(new ArrayList<>(Arrays.asList(element)));
+        Array<ArrayList<StringBuilder>> clone = array.clone();
+        clone.get(0).get(0).append("b");
+        clone.get(0).add(new StringBuilder("c"));
+        assertEquals("a", element.toString());
+        assertEquals(1, array.get(0).size());
+        Object[] deep = array.toDeepArray();
+        ((ArrayList<?>) deep[0]).clear();
+        assertEquals(1, array.get(0).size());
+    }
+
+    @Test
+    public void testSharedReferencesKeepIdentity() {
+        StringBuilder element = new StringBuilder("a");
+        StringBuilder[] original = {element, element};
+        StringBuilder[] copy = new DeepCopierRegistry().copyOf(original);
+        assertNotSame(element, copy[0]);
+        assertSame(copy[0], copy[1]);
+        Array<StringBuilder> array = new Array<>();
+        array.setDeepArray(original);
+        assertSame(array.get(0), array.get(1));
+        StringBuilder[] deep = array.toDeepArray(new StringBuilder[0]);
+        assertNotSame(element, deep[0]);
+        assertSame(deep[0], deep[1]);
+    }
+
+    @Test
+    public void testArrayContainingItself() {
+        Object[] original = new Object[1];
+        original[0] = original;
+        Object[] copy = new DeepCopierRegistry().copyOf(original);
+        assertNotSame(original, copy);
+        assertSame(copy, copy[0]);
+    }
+
+}